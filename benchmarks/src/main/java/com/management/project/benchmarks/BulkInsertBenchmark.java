@@ -0,0 +1,70 @@
+package com.management.project.benchmarks;
+
+import com.management.project.benchmarks.support.ApplicationState;
+import com.management.project.model.Project;
+import com.management.project.model.Task;
+import com.management.project.model.enums.StatusEnum;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists {@code rows} tasks in one transaction, the shape of the bulk loads from the old tool.
+ * {@code jdbcBatchSize=1} sends one statement per entity, as the IDENTITY mapping used to force;
+ * {@code jdbcBatchSize=50} uses the batching enabled by the pooled sequences.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BulkInsertBenchmark {
+
+    @Param({"1", "50"})
+    public int jdbcBatchSize;
+
+    @Param("1000")
+    public int rows;
+
+    private TransactionTemplate transactionTemplate;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void lookup(ApplicationState application) {
+        transactionTemplate = application.bean(TransactionTemplate.class);
+        jdbcTemplate = application.bean(JdbcTemplate.class);
+    }
+
+    /**
+     * Drops the rows inserted by the previous iteration so the table size stays at the seeded scale.
+     */
+    @TearDown(Level.Iteration)
+    public void cleanUp(ApplicationState application) {
+        jdbcTemplate.update("DELETE FROM tb_tasks WHERE id > ?", application.tasks);
+    }
+
+    @Benchmark
+    public int insertTasks(ApplicationState application) {
+        long projectId = ThreadLocalRandom.current().nextLong(application.projects) + 1;
+        return transactionTemplate.execute(status -> {
+            EntityManager entityManager =
+                    EntityManagerFactoryUtils.getTransactionalEntityManager(application.entityManagerFactory());
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+
+            Project project = entityManager.getReference(Project.class, projectId);
+            for (int i = 0; i < rows; i++)
+                entityManager.persist(new Task("Bulk Task " + i, StatusEnum.NOT_DONE, project));
+            entityManager.flush();
+            entityManager.clear();
+            return rows;
+        });
+    }
+}
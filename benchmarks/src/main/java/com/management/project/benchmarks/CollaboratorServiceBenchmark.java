@@ -0,0 +1,41 @@
+package com.management.project.benchmarks;
+
+import com.management.project.benchmarks.support.ApplicationState;
+import com.management.project.benchmarks.support.RequestState;
+import com.management.project.data.dto.collaborator.CollaboratorCreateDTO;
+import com.management.project.data.dto.collaborator.CollaboratorResponseDTO;
+import com.management.project.model.enums.FunctionEnum;
+import com.management.project.service.CollaboratorService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CollaboratorServiceBenchmark {
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private CollaboratorService service;
+
+    @Setup(Level.Trial)
+    public void lookup(ApplicationState application) {
+        service = application.bean(CollaboratorService.class);
+    }
+
+    @Benchmark
+    public CollaboratorResponseDTO create(ApplicationState application, RequestState request) {
+        long n = sequence.incrementAndGet();
+        CollaboratorCreateDTO dto = new CollaboratorCreateDTO(
+                "Benchmark Collaborator " + n,
+                "benchmark" + n + "@create.local",
+                FunctionEnum.DEVELOPER
+        );
+        return request.call(application, () -> service.create(dto));
+    }
+}
@@ -0,0 +1,85 @@
+package com.management.project.benchmarks;
+
+import com.management.project.data.dto.collaborator.CollaboratorSuggestionDTO;
+import com.management.project.model.enums.FunctionEnum;
+import com.management.project.service.suggest.CollaboratorPrefixIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lookup and write cost of the {@link CollaboratorPrefixIndex} behind
+ * {@code GET /v1/collaborators/suggest}, without a database or HTTP. Names are drawn from small
+ * pools of first and last names, so short prefixes match many collaborators the way real ones
+ * do. {@code put} copies the partition it lands in, which is the price of lock-free reads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CollaboratorSuggestBenchmark {
+
+    private static final String[] FIRST_NAMES = {
+            "Ana", "Bruno", "Carla", "Daniel", "Eduarda", "Felipe", "Gabriela", "Heitor", "Isabela", "João",
+            "Larissa", "Marcos", "Natália", "Otávio", "Patrícia", "Rafael", "Sofia", "Tiago", "Vitória", "Yuri"
+    };
+    private static final String[] LAST_NAMES = {
+            "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima", "Gomes",
+            "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes", "Soares", "Fernandes", "Vieira", "Conceição"
+    };
+
+    @Param({"10000", "1000000"})
+    public int collaborators;
+
+    @Param({"a", "mar", "ana sil"})
+    public String prefix;
+
+    @Param({"10"})
+    public int limit;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private CollaboratorPrefixIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<CollaboratorSuggestionDTO> rows = new ArrayList<>(collaborators);
+        FunctionEnum[] functions = FunctionEnum.values();
+        for (long id = 1; id <= collaborators; id++) {
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            rows.add(new CollaboratorSuggestionDTO(
+                    id,
+                    first + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + last,
+                    first.toLowerCase() + "." + id + "@empresa.com",
+                    functions[(int) (id % functions.length)]
+            ));
+        }
+        index = new CollaboratorPrefixIndex();
+        index.rebuild(rows.iterator());
+        sequence.set(collaborators);
+    }
+
+    @Benchmark
+    public List<CollaboratorSuggestionDTO> suggest() {
+        return index.suggest(prefix, null, limit);
+    }
+
+    @Benchmark
+    public List<CollaboratorSuggestionDTO> suggestByFunction() {
+        return index.suggest(prefix, FunctionEnum.DEVELOPER, limit);
+    }
+
+    @Benchmark
+    public void put() {
+        long id = sequence.incrementAndGet();
+        index.putAll(List.of(new CollaboratorSuggestionDTO(id, "Benchmark Collaborator " + id, "benchmark" + id + "@put.local", FunctionEnum.TESTER)));
+    }
+}
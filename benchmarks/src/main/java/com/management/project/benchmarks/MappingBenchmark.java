@@ -0,0 +1,69 @@
+package com.management.project.benchmarks;
+
+import com.management.project.data.dto.project.ProjectResponseDTO;
+import com.management.project.data.dto.project.ProjectResponseWithTasksDTO;
+import com.management.project.data.mapper.EntityMapper;
+import com.management.project.data.mapper.GeneratedEntityMapper;
+import com.management.project.data.mapper.ModelMapperEntityMapper;
+import com.management.project.model.Project;
+import com.management.project.model.Task;
+import com.management.project.model.enums.StatusEnum;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the two {@link EntityMapper} engines on in-memory entities, without a database, so the
+ * numbers are pure mapping CPU and allocation. {@code tasksPerProject} drives the size of the
+ * {@code GET /v1/projects/{id}} payload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"modelmapper", "generated"})
+    public String engine;
+
+    @Param({"100"})
+    public int tasksPerProject;
+
+    private EntityMapper mapper;
+    private Project project;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = engine.equals("generated")
+                ? Mappers.getMapper(GeneratedEntityMapper.class)
+                : new ModelMapperEntityMapper(new ModelMapper());
+
+        Instant now = Instant.now();
+        project = new Project("Project", StatusEnum.DOING);
+        project.setId(1L);
+        project.setCreatedAt(now);
+        project.setUpdatedAt(now);
+        for (int i = 1; i <= tasksPerProject; i++) {
+            Task task = new Task("Task " + i, StatusEnum.NOT_DONE, project);
+            task.setId((long) i);
+            task.setCreatedAt(now);
+            task.setUpdatedAt(now);
+            project.addTask(task);
+        }
+    }
+
+    @Benchmark
+    public ProjectResponseDTO mapProject() {
+        return mapper.toResponse(project);
+    }
+
+    @Benchmark
+    public ProjectResponseWithTasksDTO mapProjectWithTasks() {
+        return mapper.toResponseWithTasks(project);
+    }
+}
@@ -0,0 +1,46 @@
+package com.management.project.benchmarks;
+
+import com.management.project.benchmarks.support.ApplicationState;
+import com.management.project.benchmarks.support.RequestState;
+import com.management.project.data.dto.project.ProjectResponseDTO;
+import com.management.project.data.dto.project.ProjectResponseWithTasksDTO;
+import com.management.project.service.ProjectService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ProjectServiceBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    private ProjectService service;
+
+    @Setup(Level.Trial)
+    public void lookup(ApplicationState application) {
+        service = application.bean(ProjectService.class);
+    }
+
+    @Benchmark
+    public PagedModel<EntityModel<ProjectResponseDTO>> findAll(ApplicationState application, RequestState request) {
+        int page = ThreadLocalRandom.current().nextInt(application.projects / PAGE_SIZE);
+        PageRequest pageable = PageRequest.of(page, PAGE_SIZE, Sort.by(Sort.Direction.ASC, "name"));
+        return request.call(application, () -> service.findAll(pageable));
+    }
+
+    @Benchmark
+    public ProjectResponseWithTasksDTO findById(ApplicationState application, RequestState request) {
+        long id = ThreadLocalRandom.current().nextLong(application.projects) + 1;
+        return request.call(application, () -> service.findById(id));
+    }
+}
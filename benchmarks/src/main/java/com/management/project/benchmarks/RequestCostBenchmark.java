@@ -0,0 +1,101 @@
+package com.management.project.benchmarks;
+
+import com.management.project.benchmarks.support.ApplicationState;
+import com.management.project.benchmarks.support.RequestState;
+import com.management.project.controller.ProjectController;
+import com.management.project.data.dto.project.ProjectCreateDTO;
+import com.management.project.data.dto.project.ProjectResponseDTO;
+import com.management.project.data.dto.project.ProjectResponseWithTasksDTO;
+import com.management.project.data.dto.project.ProjectUpdateDTO;
+import com.management.project.data.mapper.EntityMapper;
+import com.management.project.model.Project;
+import com.management.project.repository.ProjectRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.management.project.controller.links.LinkTemplates.*;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * Splits the cost of {@code GET /v1/projects/{id}} into its three parts: the JPA round-trips,
+ * the entity to DTO mapping (with the engine selected by {@code app.mapping.engine}) and the
+ * HATEOAS link building, the latter both with {@code methodOn} proxies and with the precomputed
+ * {@link com.management.project.controller.links.LinkTemplates}. Mapping and linking run on a project
+ * that was fully loaded during setup, so they measure CPU and allocation only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RequestCostBenchmark {
+
+    private ProjectRepository repository;
+    private EntityMapper mapper;
+    private Project loadedProject;
+    private ProjectResponseDTO projectDTO;
+
+    @Setup(Level.Trial)
+    public void load(ApplicationState application, RequestState request) {
+        repository = application.bean(ProjectRepository.class);
+        mapper = application.bean(EntityMapper.class);
+        loadedProject = request.call(application, () -> {
+            Project project = repository.findById(1L).orElseThrow();
+            project.getTasks().size();
+            return project;
+        });
+        projectDTO = mapper.toResponse(loadedProject);
+    }
+
+    @Benchmark
+    public int jpaFindProjectWithTasks(ApplicationState application, RequestState request) {
+        long id = ThreadLocalRandom.current().nextLong(application.projects) + 1;
+        return request.call(application, () -> repository.findById(id).orElseThrow().getTasks().size());
+    }
+
+    @Benchmark
+    public ProjectResponseWithTasksDTO mapProjectWithTasks() {
+        return mapper.toResponseWithTasks(loadedProject);
+    }
+
+    @Benchmark
+    public ProjectResponseDTO mapProject() {
+        return mapper.toResponse(loadedProject);
+    }
+
+    @Benchmark
+    public ProjectResponseDTO buildProjectLinksWithMethodOn(RequestState request) {
+        ProjectResponseDTO dto = new ProjectResponseDTO();
+        dto.setId(projectDTO.getId());
+        dto.setName(projectDTO.getName());
+        dto.setStatus(projectDTO.getStatus());
+
+        dto.add(linkTo(methodOn(ProjectController.class).findAll(0, 10, "desc")).withRel("findAll").withType("GET"));
+        dto.add(linkTo(methodOn(ProjectController.class).findById(dto.getId(), null)).withSelfRel().withType("GET"));
+        ProjectCreateDTO dtoCreated = new ProjectCreateDTO(dto.getName(), dto.getStatus());
+        dto.add(linkTo(methodOn(ProjectController.class).create(dtoCreated)).withRel("create").withType("POST"));
+        ProjectUpdateDTO dtoUpdated = new ProjectUpdateDTO(dto.getName(), dto.getStatus());
+        dto.add(linkTo(methodOn(ProjectController.class).update(dto.getId(), dtoUpdated, null)).withRel("update").withType("PUT"));
+        dto.add(linkTo(methodOn(ProjectController.class).delete(dto.getId())).withRel("delete").withType("DELETE"));
+        return dto;
+    }
+
+    @Benchmark
+    public ProjectResponseDTO buildProjectLinksWithTemplates(RequestState request) {
+        ProjectResponseDTO dto = new ProjectResponseDTO();
+        dto.setId(projectDTO.getId());
+        dto.setName(projectDTO.getName());
+        dto.setStatus(projectDTO.getStatus());
+
+        dto.add(PROJECT_FIND_ALL.toLink());
+        dto.add(PROJECT_SELF.expand(dto.getId()));
+        dto.add(PROJECT_CREATE.toLink());
+        dto.add(PROJECT_UPDATE.expand(dto.getId()));
+        dto.add(PROJECT_DELETE.expand(dto.getId()));
+        return dto;
+    }
+}
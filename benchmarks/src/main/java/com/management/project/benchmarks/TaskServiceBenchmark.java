@@ -0,0 +1,53 @@
+package com.management.project.benchmarks;
+
+import com.management.project.benchmarks.support.ApplicationState;
+import com.management.project.benchmarks.support.RequestState;
+import com.management.project.data.dto.collaborator_task.CollaboratorTaskDTO;
+import com.management.project.data.dto.task.TaskCreateDTO;
+import com.management.project.data.dto.task.TaskResponseDTO;
+import com.management.project.model.enums.StatusEnum;
+import com.management.project.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class TaskServiceBenchmark {
+
+    private final AtomicLong assignments = new AtomicLong();
+
+    private TaskService service;
+
+    @Setup(Level.Trial)
+    public void lookup(ApplicationState application) {
+        service = application.bean(TaskService.class);
+    }
+
+    @Benchmark
+    public TaskResponseDTO create(ApplicationState application, RequestState request) {
+        long projectId = ThreadLocalRandom.current().nextLong(application.projects) + 1;
+        TaskCreateDTO dto = new TaskCreateDTO("Benchmark Task", StatusEnum.NOT_DONE, projectId);
+        return request.call(application, () -> service.create(dto));
+    }
+
+    /**
+     * The seed has no assignments, so walking the task ids first and the collaborator ids second
+     * yields a fresh (task, collaborator) pair on every invocation and never hits the duplicate path.
+     */
+    @Benchmark
+    public Map<String, String> assignCollaboratorToTask(ApplicationState application, RequestState request) {
+        long n = assignments.getAndIncrement();
+        long taskId = (n % application.tasks) + 1;
+        long collaboratorId = ((n / application.tasks) % application.collaborators) + 1;
+        CollaboratorTaskDTO dto = new CollaboratorTaskDTO(taskId, collaboratorId);
+        return request.call(application, () -> service.assignCollaboratorToTask(dto));
+    }
+}
@@ -0,0 +1,74 @@
+package com.management.project.benchmarks;
+
+import com.management.project.data.dto.collaborator.CollaboratorCreateDTO;
+import com.management.project.model.enums.FunctionEnum;
+import com.management.project.service.exceptions.ValidationException;
+import com.management.project.service.validation.InputValidator;
+import com.management.project.service.validation.ValidationResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Cost of rejecting an invalid payload, without a database: the {@link ValidationResult} read as data
+ * (the bulk endpoints), the stackless exception thrown by {@link ValidationResult#orThrow()}, and an
+ * ordinary exception that fills in its stack trace, as the validation errors did before.
+ * {@code stackDepth} adds frames under the throw, since a request reaches the service through the
+ * servlet, Spring MVC and proxy stack and filling in the trace is proportional to its depth.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ValidationBenchmark {
+
+    @Param({"10", "150"})
+    public int stackDepth;
+
+    private final InputValidator validator = new InputValidator();
+    private final CollaboratorCreateDTO invalid = new CollaboratorCreateDTO("An", "ana@", FunctionEnum.DEVELOPER);
+    private final CollaboratorCreateDTO valid = new CollaboratorCreateDTO("Ana Silva", "ana@empresa.com", FunctionEnum.DEVELOPER);
+
+    @Benchmark
+    public String validInput() {
+        return validator.validate(valid).getMessage();
+    }
+
+    @Benchmark
+    public String invalidAsResult() {
+        return validator.validate(invalid).getMessage();
+    }
+
+    @Benchmark
+    public String invalidAsStacklessException() {
+        return nested(stackDepth, () -> {
+            try {
+                validator.validate(invalid).orThrow();
+                return null;
+            } catch (ValidationException e) {
+                return e.getMessage();
+            }
+        });
+    }
+
+    @Benchmark
+    public String invalidAsStackTraceException() {
+        return nested(stackDepth, () -> {
+            try {
+                String message = validator.validate(invalid).getMessage();
+                if (message != null)
+                    throw new IllegalArgumentException(message);
+                return null;
+            } catch (IllegalArgumentException e) {
+                return e.getMessage();
+            }
+        });
+    }
+
+    private static String nested(int depth, Supplier<String> call) {
+        return depth == 0 ? call.get() : nested(depth - 1, call);
+    }
+}
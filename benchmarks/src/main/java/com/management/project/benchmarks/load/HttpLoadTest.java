@@ -0,0 +1,221 @@
+package com.management.project.benchmarks.load;
+
+import com.management.project.ProjectApplication;
+import com.management.project.benchmarks.support.DatabaseSeeder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP load test: {@code clients} virtual threads each send one request to {@code path}
+ * ({@code {id}} replaced by a random id up to {@code ids}), wait for the response and send the next,
+ * for {@code warmup} and then {@code duration}. Only the measured phase
+ * is reported: throughput, latency percentiles and, when the application runs in-process, the peak
+ * number of requests the server executed at once and the peak number of live platform threads.
+ * <p>
+ * Without {@code --url} the application is booted here with the {@code benchmark} profile, seeded,
+ * and started with or without {@code spring.threads.virtual.enabled}. As H2 answers in microseconds,
+ * {@code --db-latency-ms} adds a sleep per prepared statement to stand in for the PostgreSQL round
+ * trip that keeps request threads blocked. Any dotted argument is passed on to the application as a
+ * property, e.g. {@code --spring.datasource.hikari.maximum-pool-size=50} or {@code --app.cache.enabled=false}.
+ * <pre>
+ * java -cp target/benchmarks.jar com.management.project.benchmarks.load.HttpLoadTest \
+ *     --virtual-threads=false --clients=5000 --db-latency-ms=2 --app.cache.enabled=false
+ * java -cp target/benchmarks.jar com.management.project.benchmarks.load.HttpLoadTest \
+ *     --virtual-threads=true --clients=5000 --db-latency-ms=2 --app.cache.enabled=false
+ * </pre>
+ */
+public class HttpLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        List<String> springArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.matches("--[\\w-]+\\..*")) {
+                springArgs.add(arg);
+                continue;
+            }
+            String[] option = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(option[0], option.length > 1 ? option[1] : "true");
+        }
+
+        int clients = Integer.parseInt(options.getOrDefault("clients", "5000"));
+        Duration warmup = Duration.parse("PT" + options.getOrDefault("warmup", "10s"));
+        Duration duration = Duration.parse("PT" + options.getOrDefault("duration", "30s"));
+        String path = options.getOrDefault("path", "/v1/collaborators/{id}");
+        int ids = Integer.parseInt(options.getOrDefault("ids", "1000"));
+
+        ConfigurableApplicationContext context = null;
+        InFlightRequestFilter inFlight = null;
+        String url = options.get("url");
+        String mode = "external " + url;
+        if (url == null) {
+            boolean virtualThreads = Boolean.parseBoolean(options.getOrDefault("virtual-threads", "false"));
+            Duration dbLatency = Duration.ofMillis(Long.parseLong(options.getOrDefault("db-latency-ms", "0")));
+            inFlight = new InFlightRequestFilter();
+            context = start(virtualThreads, dbLatency, inFlight, springArgs);
+            new DatabaseSeeder(context.getBean(JdbcTemplate.class)).seed(
+                    Integer.parseInt(options.getOrDefault("projects", "1000")),
+                    Integer.parseInt(options.getOrDefault("tasks", "100000")),
+                    Integer.parseInt(options.getOrDefault("collaborators", "1000")));
+            url = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            mode = (virtualThreads ? "virtual threads" : "platform thread pool")
+                    + ", db latency " + dbLatency.toMillis() + " ms";
+        }
+
+        try {
+            Result result = run(url, path, ids, clients, warmup, duration, inFlight);
+            System.out.printf("mode                  : %s%n", mode);
+            System.out.printf("clients               : %d%n", clients);
+            System.out.printf("requests              : %d (%d failed)%n", result.latenciesNanos.length, result.failures);
+            System.out.printf("throughput            : %.1f req/s%n", result.latenciesNanos.length / (duration.toMillis() / 1000.0));
+            System.out.printf("latency ms            : p50 %.2f  p90 %.2f  p99 %.2f  p99.9 %.2f  max %.2f%n",
+                    result.percentileMillis(0.50), result.percentileMillis(0.90), result.percentileMillis(0.99),
+                    result.percentileMillis(0.999), result.percentileMillis(1.0));
+            if (inFlight != null) {
+                System.out.printf("server peak in-flight : %d requests%n", inFlight.peak());
+                System.out.printf("peak live threads     : %d platform threads%n", result.peakThreads);
+            }
+        } finally {
+            if (context != null)
+                context.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads, Duration dbLatency,
+                                                        InFlightRequestFilter inFlight, List<String> springArgs) {
+        List<String> arguments = new ArrayList<>(springArgs);
+        // a command-line argument, so it wins over the value in application.yml
+        arguments.add("--spring.threads.virtual.enabled=" + virtualThreads);
+        return new SpringApplicationBuilder(ProjectApplication.class)
+                .profiles("benchmark")
+                .initializers(context -> {
+                    if (!dbLatency.isZero())
+                        context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+                            @Override
+                            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                                return bean instanceof DataSource dataSource
+                                        ? new LatencyInjectingDataSource(dataSource, dbLatency)
+                                        : bean;
+                            }
+                        });
+                    ((GenericApplicationContext) context).registerBean(
+                            "inFlightRequestFilter", FilterRegistrationBean.class,
+                            () -> new FilterRegistrationBean<>(inFlight));
+                })
+                .run(arguments.toArray(String[]::new));
+    }
+
+    private static Result run(String url, String path, int ids, int clients, Duration warmup,
+                              Duration duration, InFlightRequestFilter inFlight) throws InterruptedException {
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+        LongAdder failures = new LongAdder();
+        List<LongList> latencies = new ArrayList<>(clients);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                LongList recorded = new LongList();
+                latencies.add(recorded);
+                executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    long now;
+                    while ((now = System.nanoTime()) < measureUntil) {
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(
+                                        url + path.replace("{id}", String.valueOf(random.nextInt(ids) + 1))))
+                                .timeout(Duration.ofSeconds(60))
+                                .GET()
+                                .build();
+                        boolean measured = now >= measureFrom;
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            long elapsed = System.nanoTime() - now;
+                            if (!measured)
+                                continue;
+                            if (response.statusCode() >= 400)
+                                failures.increment();
+                            else
+                                recorded.add(elapsed);
+                        } catch (Exception e) {
+                            if (measured)
+                                failures.increment();
+                        }
+                    }
+                    return null;
+                });
+            }
+
+            Thread.sleep(Duration.ofNanos(Math.max(0, measureFrom - System.nanoTime())));
+            if (inFlight != null)
+                inFlight.resetPeak();
+            threads.resetPeakThreadCount();
+        }
+
+        int total = latencies.stream().mapToInt(LongList::size).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (LongList recorded : latencies)
+            offset = recorded.copyTo(all, offset);
+        Arrays.sort(all);
+        return new Result(all, failures.sum(), threads.getPeakThreadCount());
+    }
+
+    private record Result(long[] latenciesNanos, long failures, int peakThreads) {
+
+        double percentileMillis(double percentile) {
+            if (latenciesNanos.length == 0)
+                return Double.NaN;
+            int index = (int) Math.ceil(percentile * latenciesNanos.length) - 1;
+            return latenciesNanos[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+
+    /**
+     * Growable {@code long[]} owned by a single client thread, so recording a latency is a plain store.
+     */
+    private static final class LongList {
+
+        private long[] values = new long[256];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int copyTo(long[] target, int offset) {
+            System.arraycopy(values, 0, target, offset, size);
+            return offset + size;
+        }
+    }
+}
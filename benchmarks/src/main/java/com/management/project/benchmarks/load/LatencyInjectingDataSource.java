@@ -0,0 +1,50 @@
+package com.management.project.benchmarks.load;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Sleeps for a fixed time every time a statement is prepared, standing in for the network round
+ * trip to PostgreSQL that the in-memory H2 database does not have. The sleep happens on the request
+ * thread while it holds a pooled connection, which is exactly where a real request blocks.
+ */
+class LatencyInjectingDataSource extends DelegatingDataSource {
+
+    private final Duration latency;
+
+    LatencyInjectingDataSource(DataSource target, Duration latency) {
+        super(target);
+        this.latency = latency;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return withLatency(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return withLatency(super.getConnection(username, password));
+    }
+
+    private Connection withLatency(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("prepare"))
+                        Thread.sleep(latency);
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
@@ -0,0 +1,51 @@
+package com.management.project.benchmarks.support;
+
+import com.management.project.ProjectApplication;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Boots the whole application once per fork against an in-memory H2 database in its default mode,
+ * with the schema generated by Hibernate, and seeds it at the scale given by the JMH parameters.
+ * Override them from the command line, e.g. {@code -p tasks=100000}. H2 has neither PostgreSQL's
+ * planner nor its network round trip, so the numbers compare code paths, not production latency.
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+    @Param("10000")
+    public int projects;
+
+    @Param("1000000")
+    public int tasks;
+
+    @Param("10000")
+    public int collaborators;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(ProjectApplication.class)
+                .profiles("benchmark")
+                .run();
+        new DatabaseSeeder(bean(JdbcTemplate.class)).seed(projects, tasks, collaborators);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        if (context != null)
+            context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public EntityManagerFactory entityManagerFactory() {
+        return bean(EntityManagerFactory.class);
+    }
+}
@@ -0,0 +1,46 @@
+package com.management.project.benchmarks.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.function.Supplier;
+
+/**
+ * Reproduces what a real HTTP request gives the service layer: a bound servlet request, so HATEOAS
+ * links are built against a base URI, and an open {@link EntityManager} for the duration of the call,
+ * like {@code OpenEntityManagerInViewInterceptor} does, so lazy collections can be initialised.
+ */
+@State(Scope.Thread)
+public class RequestState {
+
+    @Setup(Level.Trial)
+    public void bindRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1");
+        request.setServerName("localhost");
+        request.setServerPort(8080);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @TearDown(Level.Trial)
+    public void unbindRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    public <T> T call(ApplicationState application, Supplier<T> action) {
+        EntityManagerFactory emf = application.entityManagerFactory();
+        EntityManager entityManager = emf.createEntityManager();
+        TransactionSynchronizationManager.bindResource(emf, new EntityManagerHolder(entityManager));
+        try {
+            return action.get();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(emf);
+            entityManager.close();
+        }
+    }
+}
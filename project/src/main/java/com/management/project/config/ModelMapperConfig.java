@@ -1,6 +1,11 @@
 package com.management.project.config;
 
+import com.management.project.data.mapper.EntityMapper;
+import com.management.project.data.mapper.GeneratedEntityMapper;
+import com.management.project.data.mapper.ModelMapperEntityMapper;
+import org.mapstruct.factory.Mappers;
 import org.modelmapper.ModelMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -11,4 +16,16 @@ public class ModelMapperConfig {
     ModelMapper modelMapper() {
         return new ModelMapper();
     }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.mapping.engine", havingValue = "generated", matchIfMissing = true)
+    EntityMapper generatedEntityMapper() {
+        return Mappers.getMapper(GeneratedEntityMapper.class);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.mapping.engine", havingValue = "modelmapper")
+    EntityMapper modelMapperEntityMapper(ModelMapper modelMapper) {
+        return new ModelMapperEntityMapper(modelMapper);
+    }
 }
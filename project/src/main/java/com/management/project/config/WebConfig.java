@@ -14,6 +14,6 @@ public class WebConfig implements WebMvcConfigurer {
         configurer.favorParameter(false)
                 .ignoreAcceptHeader(true)
                 .useRegisteredExtensionsOnly(false)
-                .defaultContentType(MediaType.APPLICATION_JSON);
+                .defaultContentType(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON);
     }
 }
@@ -0,0 +1,22 @@
+package com.management.project.config.cache;
+
+import java.util.List;
+
+/**
+ * Names of the Hibernate second-level cache regions. Every region is created up front by
+ * {@link SecondLevelCacheConfig}, so an entity or collection mapped to a name missing here fails
+ * at startup instead of silently running with an unbounded cache.
+ */
+public final class CacheRegions {
+
+    public static final String PROJECTS = "projects";
+    public static final String PROJECT_TASKS = "projects.tasks";
+    public static final String TASKS = "tasks";
+    public static final String TASK_COLLABORATORS = "tasks.collaborators";
+    public static final String COLLABORATORS = "collaborators";
+
+    public static final List<String> ALL = List.of(PROJECTS, PROJECT_TASKS, TASKS, TASK_COLLABORATORS, COLLABORATORS);
+
+    private CacheRegions() {
+    }
+}
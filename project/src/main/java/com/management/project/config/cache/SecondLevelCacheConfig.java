@@ -0,0 +1,64 @@
+package com.management.project.config.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache backed by Caffeine through JCache. The cache manager is built here
+ * from {@link SecondLevelCacheProperties} and handed to Hibernate as an instance, so region sizes
+ * and TTLs live in {@code application.yml} next to the rest of the configuration.
+ * <p>
+ * With {@code app.cache.statistics-enabled} every region publishes its hits, misses and evictions
+ * as a {@code javax.cache:type=CacheStatistics} MBean named after the region.
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+@ConditionalOnProperty(name = "app.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // A URI of its own per application context: the provider hands out one shared manager per URI.
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create(SecondLevelCacheConfig.class.getName() + "/" + UUID.randomUUID()),
+                SecondLevelCacheConfig.class.getClassLoader());
+
+        for (String name : CacheRegions.ALL) {
+            SecondLevelCacheProperties.Region region = properties.regionOrDefaults(name);
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(region.getTimeToLive().toNanos()));
+            configuration.setStatisticsEnabled(properties.isStatisticsEnabled());
+            configuration.setManagementEnabled(properties.isStatisticsEnabled());
+            cacheManager.createCache(name, configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // Task.project owns Project.tasks, so creating or moving a task must evict the cached collection.
+            properties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package com.management.project.config.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size and time-to-live of the second-level cache regions. {@code defaults} applies to every
+ * region in {@link CacheRegions}; {@code regions} overrides it per region name.
+ */
+@ConfigurationProperties(prefix = "app.cache")
+public class SecondLevelCacheProperties {
+
+    private boolean enabled = true;
+
+    private boolean statisticsEnabled = true;
+
+    private Region defaults = new Region(10_000L, Duration.ofMinutes(10));
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    public Region getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Region defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Region> getRegions() {
+        return regions;
+    }
+
+    public void setRegions(Map<String, Region> regions) {
+        this.regions = regions;
+    }
+
+    public Region regionOrDefaults(String name) {
+        Region region = regions.get(name);
+        if (region == null)
+            return defaults;
+        return new Region(
+                region.getMaximumSize() != null ? region.getMaximumSize() : defaults.getMaximumSize(),
+                region.getTimeToLive() != null ? region.getTimeToLive() : defaults.getTimeToLive()
+        );
+    }
+
+    public static class Region {
+
+        private Long maximumSize;
+
+        private Duration timeToLive;
+
+        public Region() {
+        }
+
+        public Region(Long maximumSize, Duration timeToLive) {
+            this.maximumSize = maximumSize;
+            this.timeToLive = timeToLive;
+        }
+
+        public Long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(Long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.management.project.config.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Registered through {@code hibernate.session_factory.statement_inspector}; Hibernate instantiates it
+ * with the no-arg constructor and calls it for every statement it prepares. The SQL is passed on unchanged.
+ */
+public class CountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        StatementRecorder.record(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,35 @@
+package com.management.project.config.monitoring;
+
+import com.management.project.data.mapper.EntityMapper;
+import com.management.project.data.mapper.TimedEntityMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Application metrics on top of what Spring Boot already publishes once actuator is present:
+ * {@code http.server.requests} per endpoint, {@code spring.data.repository.invocations} per
+ * repository method, {@code hibernate.*} statistics and {@code hikaricp.*} pool gauges. Their
+ * percentiles and the Prometheus endpoint are configured under {@code management} in
+ * {@code application.yml}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Wraps whichever {@link EntityMapper} {@code app.mapping.engine} selected in a {@link TimedEntityMapper}.
+     */
+    @Bean
+    static BeanPostProcessor timedEntityMapperPostProcessor(ObjectProvider<MeterRegistry> registry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof EntityMapper mapper
+                        ? new TimedEntityMapper(mapper, registry.getObject())
+                        : bean;
+            }
+        };
+    }
+}
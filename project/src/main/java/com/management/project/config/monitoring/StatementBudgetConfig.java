@@ -0,0 +1,22 @@
+package com.management.project.config.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the {@link StatementBudgetFilter}. Statements are counted by {@link CountingStatementInspector},
+ * set as Hibernate's statement inspector in {@code application.yml}.
+ */
+@Configuration
+@EnableConfigurationProperties(StatementBudgetProperties.class)
+@ConditionalOnProperty(name = "app.sql-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class StatementBudgetConfig {
+
+    @Bean
+    StatementBudgetFilter statementBudgetFilter(StatementBudgetProperties properties, MeterRegistry registry) {
+        return new StatementBudgetFilter(properties, registry);
+    }
+}
@@ -0,0 +1,92 @@
+package com.management.project.config.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements each request prepares and publishes them as {@code app.sql.statements},
+ * tagged with the matched URI pattern. Requests over the budget increment {@code app.sql.budget.exceeded};
+ * requests repeating one statement past the threshold increment {@code app.sql.repeated}. Both are
+ * logged with the offending statement. Neither check counts sequence fetches or inserts (see
+ * {@link StatementStats#checked()}), so the bulk endpoints are not flagged for the batches they are
+ * built to send.
+ */
+public class StatementBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementBudgetFilter.class);
+
+    private static final int LOGGED_SQL_LENGTH = 200;
+
+    private final StatementBudgetProperties properties;
+
+    private final MeterRegistry registry;
+
+    public StatementBudgetFilter(StatementBudgetProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        StatementRecorder.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            report(request, StatementRecorder.stop());
+        }
+    }
+
+    private void report(HttpServletRequest request, StatementStats stats) {
+        String method = request.getMethod();
+        String uri = uri(request);
+
+        DistributionSummary.builder("app.sql.statements")
+                .description("SQL statements prepared per request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(registry)
+                .record(stats.total());
+
+        if (stats.checked() > properties.getMaxStatements()) {
+            counter("app.sql.budget.exceeded", method, uri).increment();
+            log.warn("{} {} prepared {} SQL statements ({} distinct, {} in total), over the budget of {}",
+                    method, uri, stats.checked(), stats.distinct(), stats.total(), properties.getMaxStatements());
+        }
+
+        stats.mostRepeated()
+                .filter(repeated -> repeated.count() >= properties.getRepeatedStatementThreshold())
+                .ifPresent(repeated -> {
+                    counter("app.sql.repeated", method, uri).increment();
+                    log.warn("{} {} ran the same statement {} times, likely N+1: {}",
+                            method, uri, repeated.count(), abbreviate(repeated.sql()));
+                });
+    }
+
+    private Counter counter(String name, String method, String uri) {
+        return Counter.builder(name)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(registry);
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() > LOGGED_SQL_LENGTH ? sql.substring(0, LOGGED_SQL_LENGTH) + "..." : sql;
+    }
+}
@@ -0,0 +1,42 @@
+package com.management.project.config.monitoring;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-request SQL statement budget. A request preparing more than {@code maxStatements} statements,
+ * or the same statement at least {@code repeatedStatementThreshold} times, is logged and counted.
+ * Sequence fetches and inserts count toward neither limit.
+ */
+@ConfigurationProperties(prefix = "app.sql-budget")
+public class StatementBudgetProperties {
+
+    private boolean enabled = true;
+
+    private int maxStatements = 20;
+
+    private int repeatedStatementThreshold = 5;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxStatements() {
+        return maxStatements;
+    }
+
+    public void setMaxStatements(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    public int getRepeatedStatementThreshold() {
+        return repeatedStatementThreshold;
+    }
+
+    public void setRepeatedStatementThreshold(int repeatedStatementThreshold) {
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+}
@@ -0,0 +1,33 @@
+package com.management.project.config.monitoring;
+
+/**
+ * Thread-bound {@link StatementStats} fed by {@link CountingStatementInspector}. Statements prepared
+ * while no recording is active on the current thread (scheduled jobs, streaming response bodies
+ * written on another thread, R2DBC) are not counted.
+ */
+public final class StatementRecorder {
+
+    private static final ThreadLocal<StatementStats> CURRENT = new ThreadLocal<>();
+
+    private StatementRecorder() {
+    }
+
+    public static void start() {
+        CURRENT.set(new StatementStats());
+    }
+
+    /**
+     * Ends the recording on the current thread and returns what it counted, empty if none was active.
+     */
+    public static StatementStats stop() {
+        StatementStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats != null ? stats : new StatementStats();
+    }
+
+    static void record(String sql) {
+        StatementStats stats = CURRENT.get();
+        if (stats != null)
+            stats.record(sql);
+    }
+}
@@ -0,0 +1,75 @@
+package com.management.project.config.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * SQL statements prepared during one unit of work, counted per statement text. Hibernate renders
+ * parameters as {@code ?}, so the same text counted several times is the same query run with
+ * different parameters: the signature of an N+1 select.
+ * <p>
+ * Sequence fetches and {@code INSERT}s are counted in {@link #total()} but left out of
+ * {@link #checked()} and {@link #mostRepeated()}. A bulk create prepares one of each per pooled id
+ * block and per JDBC batch, so their number grows with the payload by design, not from a lazy load.
+ */
+public class StatementStats {
+
+    private static final Pattern UNCHECKED = Pattern.compile(
+            "\\s*(insert\\s|select\\s+nextval\\(|select\\s+next\\s+value\\s+for\\s|call\\s+next\\s+value\\s+for\\s)",
+            Pattern.CASE_INSENSITIVE);
+
+    private final Map<String, Integer> counts = new LinkedHashMap<>();
+
+    private int total;
+
+    private int unchecked;
+
+    void record(String sql) {
+        counts.merge(sql, 1, Integer::sum);
+        total++;
+        if (isUnchecked(sql))
+            unchecked++;
+    }
+
+    public int total() {
+        return total;
+    }
+
+    /**
+     * Statements the budget applies to: all of them but sequence fetches and inserts.
+     */
+    public int checked() {
+        return total - unchecked;
+    }
+
+    public int distinct() {
+        return counts.size();
+    }
+
+    public int count(String sql) {
+        return counts.getOrDefault(sql, 0);
+    }
+
+    public Map<String, Integer> counts() {
+        return Map.copyOf(counts);
+    }
+
+    /**
+     * The checked statement run most often, if any ran more than once.
+     */
+    public Optional<Repeated> mostRepeated() {
+        return counts.entrySet().stream()
+                .filter(entry -> entry.getValue() > 1 && !isUnchecked(entry.getKey()))
+                .max(Map.Entry.comparingByValue())
+                .map(entry -> new Repeated(entry.getKey(), entry.getValue()));
+    }
+
+    private static boolean isUnchecked(String sql) {
+        return UNCHECKED.matcher(sql).lookingAt();
+    }
+
+    public record Repeated(String sql, int count) {
+    }
+}
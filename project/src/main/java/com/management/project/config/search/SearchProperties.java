@@ -0,0 +1,33 @@
+package com.management.project.config.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Full-text search over project and task names. {@code language} is the PostgreSQL text search
+ * configuration; Flyway receives the same value as the {@code searchLanguage} placeholder when it
+ * creates the {@code search_vector} columns, so changing it afterwards takes a migration that
+ * recreates them. At most {@code maxCandidates} matches per table are ranked.
+ */
+@ConfigurationProperties(prefix = "app.search")
+public class SearchProperties {
+
+    private String language = "portuguese";
+
+    private int maxCandidates = 10_000;
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public void setLanguage(String language) {
+        this.language = language;
+    }
+
+    public int getMaxCandidates() {
+        return maxCandidates;
+    }
+
+    public void setMaxCandidates(int maxCandidates) {
+        this.maxCandidates = maxCandidates;
+    }
+}
@@ -1,11 +1,17 @@
 package com.management.project.controller;
 
 import com.management.project.controller.docs.CollaboratorControllerDocs;
+import com.management.project.data.dto.bulk.BulkResponseDTO;
 import com.management.project.data.dto.collaborator.CollaboratorCreateDTO;
 import com.management.project.data.dto.collaborator.CollaboratorResponseDTO;
+import com.management.project.data.dto.collaborator.CollaboratorSuggestionDTO;
 import com.management.project.data.dto.collaborator.CollaboratorTaskCount;
 import com.management.project.data.dto.collaborator.CollaboratorUpdateDTO;
+import com.management.project.data.dto.conditional.ResourceVersion;
+import com.management.project.data.dto.pagination.CursorPageDTO;
+import com.management.project.model.enums.FunctionEnum;
 import com.management.project.service.CollaboratorService;
+import com.management.project.service.suggest.CollaboratorSuggestService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
@@ -14,9 +20,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -31,6 +40,9 @@ public class CollaboratorController implements CollaboratorControllerDocs {
     @Autowired
     private CollaboratorService service;
 
+    @Autowired
+    private CollaboratorSuggestService suggestService;
+
     @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE})
     @Override
     public ResponseEntity<PagedModel<EntityModel<CollaboratorResponseDTO>>> findAll(
@@ -43,10 +55,37 @@ public class CollaboratorController implements CollaboratorControllerDocs {
         return ResponseEntity.ok().body(service.findAll(pageable));
     }
 
+    @GetMapping(params = "after", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @Override
+    public ResponseEntity<CursorPageDTO<CollaboratorResponseDTO>> findAllByCursor(
+            @RequestParam(value = "after") String after,
+            @RequestParam(value = "size", defaultValue = "10") Integer size,
+            @RequestParam(value = "direction", defaultValue = "asc") String direction
+    ) {
+        var sortDirection = direction.equalsIgnoreCase("asc") ? Direction.ASC : Direction.DESC;
+        return ResponseEntity.ok().body(service.findAllByCursor(after, size, sortDirection));
+    }
+
     @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE})
     @Override
-    public ResponseEntity<CollaboratorResponseDTO> findById(@PathVariable Long id) {
-        return ResponseEntity.ok().body(service.findById(id));
+    public ResponseEntity<CollaboratorResponseDTO> findById(@PathVariable Long id, WebRequest request) {
+        ResourceVersion version = service.findVersion(id);
+        if (request.checkNotModified(version.etag(), version.lastModified()))
+            return null;
+        return ResponseEntity.ok()
+                .eTag(version.etag())
+                .lastModified(version.lastModified())
+                .body(service.findById(id));
+    }
+
+    @GetMapping(value = "/suggest", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @Override
+    public ResponseEntity<List<CollaboratorSuggestionDTO>> suggest(
+            @RequestParam(value = "prefix") String prefix,
+            @RequestParam(value = "function", required = false) FunctionEnum function,
+            @RequestParam(value = "limit", defaultValue = "10") Integer limit
+    ) {
+        return ResponseEntity.ok().body(suggestService.suggest(prefix, function, limit));
     }
 
     @GetMapping(value = "/count", produces = {MediaType.APPLICATION_JSON_VALUE})
@@ -59,13 +98,25 @@ public class CollaboratorController implements CollaboratorControllerDocs {
 
     @GetMapping(value = "/task-count", produces = {MediaType.APPLICATION_JSON_VALUE})
     @Override
-    public ResponseEntity<List<CollaboratorTaskCount>> countTasksPerCollaborator() {
-        List<CollaboratorTaskCount> result = service.countTasksPerCollaborator();
+    public ResponseEntity<List<CollaboratorTaskCount>> countTasksPerCollaborator(
+            @RequestParam(value = "limit", defaultValue = "100") Integer limit,
+            @RequestParam(value = "minCount", defaultValue = "0") Long minCount
+    ) {
+        List<CollaboratorTaskCount> result = service.countTasksPerCollaborator(limit, minCount);
         if(result.isEmpty())
             return ResponseEntity.noContent().build();
         return ResponseEntity.ok().body(result);
     }
 
+    @GetMapping(value = "/task-count/stream", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamTasksPerCollaborator(
+            @RequestParam(value = "minCount", defaultValue = "0") Long minCount
+    ) {
+        StreamingResponseBody body = out -> service.writeTasksPerCollaborator(minCount, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     @PostMapping(
             produces = {MediaType.APPLICATION_JSON_VALUE},
             consumes = {MediaType.APPLICATION_JSON_VALUE}
@@ -78,17 +129,52 @@ public class CollaboratorController implements CollaboratorControllerDocs {
         return ResponseEntity.created(uri).body(response);
     }
 
+    @PostMapping(
+            path = "/bulk",
+            produces = {MediaType.APPLICATION_JSON_VALUE},
+            consumes = {MediaType.APPLICATION_JSON_VALUE}
+    )
+    @Override
+    public ResponseEntity<BulkResponseDTO<CollaboratorResponseDTO>> bulkCreate(@RequestBody List<CollaboratorCreateDTO> dtos) {
+        return ResponseEntity.ok().body(service.bulkCreate(dtos));
+    }
+
     @PutMapping(
             value = "/{id}",
             produces = {MediaType.APPLICATION_JSON_VALUE},
             consumes = {MediaType.APPLICATION_JSON_VALUE}
     )
     @Override
-    public ResponseEntity<CollaboratorResponseDTO> update(@PathVariable Long id, CollaboratorUpdateDTO dto) {
-        CollaboratorResponseDTO response = service.update(id, dto);
+    public ResponseEntity<CollaboratorResponseDTO> update(
+            @PathVariable Long id,
+            CollaboratorUpdateDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        CollaboratorResponseDTO response = service.update(id, dto, ifMatch);
         return ResponseEntity.ok().body(response);
     }
 
+    @PatchMapping(
+            value = "/{id}",
+            produces = {MediaType.APPLICATION_JSON_VALUE},
+            consumes = {MediaType.APPLICATION_JSON_VALUE}
+    )
+    @Override
+    public ResponseEntity<CollaboratorResponseDTO> patch(
+            @PathVariable Long id,
+            CollaboratorUpdateDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = "Prefer", required = false) String prefer
+    ) {
+        if (prefer != null && prefer.contains("return=representation"))
+            return ResponseEntity.ok().body(service.update(id, dto, ifMatch));
+        ResourceVersion version = service.patch(id, dto, ifMatch);
+        return ResponseEntity.noContent()
+                .eTag(version.etag())
+                .lastModified(version.lastModified())
+                .build();
+    }
+
     @DeleteMapping(value = "/{id}")
     @Override
     public ResponseEntity<Void> delete(@PathVariable Long id) {
@@ -0,0 +1,35 @@
+package com.management.project.controller;
+
+import com.management.project.controller.docs.CollaboratorReadControllerDocs;
+import com.management.project.data.dto.collaborator.CollaboratorTaskCount;
+import com.management.project.service.reactive.ReactiveReadService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping("/v2/collaborators")
+@Tag(name = "Collaborators (read-only, streaming)", description = "Non-blocking read endpoints for Collaborators")
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true", matchIfMissing = true)
+public class CollaboratorReadController implements CollaboratorReadControllerDocs {
+
+    private final ReactiveReadService service;
+
+    public CollaboratorReadController(ReactiveReadService service) {
+        this.service = service;
+    }
+
+    @GetMapping(value = "/task-count", produces = {MediaType.APPLICATION_NDJSON_VALUE})
+    @Override
+    public Flux<CollaboratorTaskCount> countTasksPerCollaborator(
+            @RequestParam(value = "minCount", defaultValue = "0") Long minCount,
+            @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        return service.countTasksPerCollaborator(minCount, limit);
+    }
+}
@@ -1,8 +1,14 @@
 package com.management.project.controller;
 
 import com.management.project.controller.docs.ProjectControllerDocs;
+import com.management.project.data.dto.conditional.ResourceVersion;
+import com.management.project.data.dto.pagination.CursorPageDTO;
 import com.management.project.data.dto.project.*;
+import com.management.project.data.dto.task.TaskResponseDTO;
+import com.management.project.data.dto.task.TaskStatusTransitionDTO;
+import com.management.project.model.enums.StatusEnum;
 import com.management.project.service.ProjectService;
+import com.management.project.service.TaskService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
@@ -11,9 +17,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -28,6 +37,9 @@ public class ProjectController implements ProjectControllerDocs {
     @Autowired
     private ProjectService service;
 
+    @Autowired
+    private TaskService taskService;
+
     @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE})
     @Override
     public ResponseEntity<PagedModel<EntityModel<ProjectResponseDTO>>> findAll(
@@ -40,6 +52,17 @@ public class ProjectController implements ProjectControllerDocs {
         return ResponseEntity.ok().body(service.findAll(pageable));
     }
 
+    @GetMapping(params = "after", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @Override
+    public ResponseEntity<CursorPageDTO<ProjectResponseDTO>> findAllByCursor(
+            @RequestParam(value = "after") String after,
+            @RequestParam(value = "size", defaultValue = "10") Integer size,
+            @RequestParam(value = "direction", defaultValue = "asc") String direction
+    ) {
+        var sortDirection = direction.equalsIgnoreCase("asc") ? Direction.ASC : Direction.DESC;
+        return ResponseEntity.ok().body(service.findAllByCursor(after, size, sortDirection));
+    }
+
     @GetMapping(value = "/count", produces = {MediaType.APPLICATION_JSON_VALUE})
     @Override
     public ResponseEntity<Map<String, Long>> countProjects() {
@@ -50,17 +73,57 @@ public class ProjectController implements ProjectControllerDocs {
 
     @GetMapping(value = "/task-count", produces = {MediaType.APPLICATION_JSON_VALUE})
     @Override
-    public ResponseEntity<List<ProjectTaskCountDTO>> countTasksPerProject() {
-        List<ProjectTaskCountDTO> result = service.countTasksPerProject();
+    public ResponseEntity<List<ProjectTaskCountDTO>> countTasksPerProject(
+            @RequestParam(value = "limit", defaultValue = "100") Integer limit,
+            @RequestParam(value = "minCount", defaultValue = "0") Long minCount
+    ) {
+        List<ProjectTaskCountDTO> result = service.countTasksPerProject(limit, minCount);
         if(result.isEmpty())
             return ResponseEntity.noContent().build();
         return ResponseEntity.ok().body(result);
     }
 
+    @GetMapping(value = "/task-count/stream", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamTasksPerProject(
+            @RequestParam(value = "minCount", defaultValue = "0") Long minCount
+    ) {
+        StreamingResponseBody body = out -> service.writeTasksPerProject(minCount, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE})
     @Override
-    public ResponseEntity<ProjectResponseWithTasksDTO> findById(@PathVariable Long id) {
-        return ResponseEntity.ok().body(service.findById(id));
+    public ResponseEntity<ProjectResponseWithTasksDTO> findById(@PathVariable Long id, WebRequest request) {
+        ResourceVersion version = service.findVersion(id);
+        if (request.checkNotModified(version.etag(), version.lastModified()))
+            return null;
+        return ResponseEntity.ok()
+                .eTag(version.etag())
+                .lastModified(version.lastModified())
+                .body(service.findById(id));
+    }
+
+    @GetMapping(value = "/{id}/tasks", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @Override
+    public ResponseEntity<CursorPageDTO<TaskResponseDTO>> findTasks(
+            @PathVariable Long id,
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "size", defaultValue = "50") Integer size,
+            @RequestParam(value = "status", required = false) StatusEnum status
+    ) {
+        return ResponseEntity.ok().body(taskService.findAllByProjectId(id, after, size, status));
+    }
+
+    @PostMapping(
+            value = "/{id}/tasks/status",
+            produces = {MediaType.APPLICATION_JSON_VALUE},
+            consumes = {MediaType.APPLICATION_JSON_VALUE}
+    )
+    @Override
+    public ResponseEntity<Map<String, Integer>> updateTaskStatus(@PathVariable Long id, TaskStatusTransitionDTO transition) {
+        int updated = taskService.updateStatusByProjectId(id, transition);
+        return ResponseEntity.ok().body(Map.of("updated", updated));
     }
 
     @PostMapping(
@@ -81,11 +144,36 @@ public class ProjectController implements ProjectControllerDocs {
             consumes = {MediaType.APPLICATION_JSON_VALUE}
     )
     @Override
-    public ResponseEntity<ProjectResponseDTO> update(@PathVariable Long id, ProjectUpdateDTO dto) {
-        ProjectResponseDTO response = service.update(id, dto);
+    public ResponseEntity<ProjectResponseDTO> update(
+            @PathVariable Long id,
+            ProjectUpdateDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        ProjectResponseDTO response = service.update(id, dto, ifMatch);
         return ResponseEntity.ok().body(response);
     }
 
+    @PatchMapping(
+            value = "/{id}",
+            produces = {MediaType.APPLICATION_JSON_VALUE},
+            consumes = {MediaType.APPLICATION_JSON_VALUE}
+    )
+    @Override
+    public ResponseEntity<ProjectResponseDTO> patch(
+            @PathVariable Long id,
+            ProjectUpdateDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = "Prefer", required = false) String prefer
+    ) {
+        if (prefer != null && prefer.contains("return=representation"))
+            return ResponseEntity.ok().body(service.update(id, dto, ifMatch));
+        ResourceVersion version = service.patch(id, dto, ifMatch);
+        return ResponseEntity.noContent()
+                .eTag(version.etag())
+                .lastModified(version.lastModified())
+                .build();
+    }
+
     @DeleteMapping(value = "/{id}")
     @Override
     public ResponseEntity<Void> delete(@PathVariable Long id) {
@@ -0,0 +1,60 @@
+package com.management.project.controller;
+
+import com.management.project.controller.docs.ProjectReadControllerDocs;
+import com.management.project.data.dto.project.ProjectSummaryDTO;
+import com.management.project.data.dto.project.ProjectTaskCountDTO;
+import com.management.project.data.dto.task.TaskSummaryDTO;
+import com.management.project.service.reactive.ReactiveReadService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/v2/projects")
+@Tag(name = "Projects (read-only, streaming)", description = "Non-blocking read endpoints for Projects")
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true", matchIfMissing = true)
+public class ProjectReadController implements ProjectReadControllerDocs {
+
+    private final ReactiveReadService service;
+
+    public ProjectReadController(ReactiveReadService service) {
+        this.service = service;
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE})
+    @Override
+    public Flux<ProjectSummaryDTO> findAll(
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        return service.findProjects(after, limit);
+    }
+
+    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @Override
+    public Mono<ProjectSummaryDTO> findById(@PathVariable Long id) {
+        return service.findProjectById(id);
+    }
+
+    @GetMapping(value = "/{id}/tasks", produces = {MediaType.APPLICATION_NDJSON_VALUE})
+    @Override
+    public Flux<TaskSummaryDTO> findTasks(
+            @PathVariable Long id,
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        return service.findTasksByProjectId(id, after, limit);
+    }
+
+    @GetMapping(value = "/task-count", produces = {MediaType.APPLICATION_NDJSON_VALUE})
+    @Override
+    public Flux<ProjectTaskCountDTO> countTasksPerProject(
+            @RequestParam(value = "minCount", defaultValue = "0") Long minCount,
+            @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        return service.countTasksPerProject(minCount, limit);
+    }
+}
@@ -0,0 +1,33 @@
+package com.management.project.controller;
+
+import com.management.project.controller.docs.SearchControllerDocs;
+import com.management.project.data.dto.pagination.CursorPageDTO;
+import com.management.project.data.dto.search.SearchResultDTO;
+import com.management.project.service.search.SearchService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/search")
+@Tag(name = "Search", description = "Full-text search over Projects and Tasks")
+public class SearchController implements SearchControllerDocs {
+
+    @Autowired
+    private SearchService service;
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE})
+    @Override
+    public ResponseEntity<CursorPageDTO<SearchResultDTO>> search(
+            @RequestParam(value = "q") String query,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "20") Integer size
+    ) {
+        return ResponseEntity.ok().body(service.search(query, after, size));
+    }
+}
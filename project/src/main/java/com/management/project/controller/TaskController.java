@@ -1,7 +1,9 @@
 package com.management.project.controller;
 
 import com.management.project.controller.docs.TaskControllerDocs;
+import com.management.project.data.dto.bulk.BulkResponseDTO;
 import com.management.project.data.dto.collaborator_task.CollaboratorTaskDTO;
+import com.management.project.data.dto.conditional.ResourceVersion;
 import com.management.project.data.dto.task.TaskCollaboratorCountDTO;
 import com.management.project.data.dto.task.TaskCreateDTO;
 import com.management.project.data.dto.task.TaskResponseDTO;
@@ -9,9 +11,11 @@ import com.management.project.data.dto.task.TaskUpdateDTO;
 import com.management.project.service.TaskService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -28,8 +32,14 @@ public class TaskController implements TaskControllerDocs {
 
     @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE})
     @Override
-    public ResponseEntity<TaskResponseDTO> findById(@PathVariable Long id) {
-        return ResponseEntity.ok().body(service.findById(id));
+    public ResponseEntity<TaskResponseDTO> findById(@PathVariable Long id, WebRequest request) {
+        ResourceVersion version = service.findVersion(id);
+        if (request.checkNotModified(version.etag(), version.lastModified()))
+            return null;
+        return ResponseEntity.ok()
+                .eTag(version.etag())
+                .lastModified(version.lastModified())
+                .body(service.findById(id));
     }
 
     @GetMapping(value = "/projects/{projectId}", produces = {MediaType.APPLICATION_JSON_VALUE})
@@ -55,6 +65,16 @@ public class TaskController implements TaskControllerDocs {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping(
+            path = "/assign-collaborators",
+            produces = {MediaType.APPLICATION_JSON_VALUE},
+            consumes = {MediaType.APPLICATION_JSON_VALUE}
+    )
+    @Override
+    public ResponseEntity<BulkResponseDTO<CollaboratorTaskDTO>> assignCollaborators(@RequestBody List<CollaboratorTaskDTO> dtos) {
+        return ResponseEntity.ok().body(service.assignCollaboratorsToTasks(dtos));
+    }
+
     @PostMapping(
             produces = {MediaType.APPLICATION_JSON_VALUE},
             consumes = {MediaType.APPLICATION_JSON_VALUE}
@@ -67,14 +87,49 @@ public class TaskController implements TaskControllerDocs {
         return ResponseEntity.created(uri).body(response);
     }
 
+    @PostMapping(
+            path = "/bulk",
+            produces = {MediaType.APPLICATION_JSON_VALUE},
+            consumes = {MediaType.APPLICATION_JSON_VALUE}
+    )
+    @Override
+    public ResponseEntity<BulkResponseDTO<TaskResponseDTO>> bulkCreate(@RequestBody List<TaskCreateDTO> dtos) {
+        return ResponseEntity.ok().body(service.bulkCreate(dtos));
+    }
+
     @PutMapping(
             value = "/{id}",
             produces = {MediaType.APPLICATION_JSON_VALUE},
             consumes = {MediaType.APPLICATION_JSON_VALUE}
     )
     @Override
-    public ResponseEntity<TaskResponseDTO> update(@PathVariable Long id, TaskUpdateDTO dto) {
-        TaskResponseDTO response = service.update(id, dto);
+    public ResponseEntity<TaskResponseDTO> update(
+            @PathVariable Long id,
+            TaskUpdateDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        TaskResponseDTO response = service.update(id, dto, ifMatch);
         return ResponseEntity.ok().body(response);
     }
+
+    @PatchMapping(
+            value = "/{id}",
+            produces = {MediaType.APPLICATION_JSON_VALUE},
+            consumes = {MediaType.APPLICATION_JSON_VALUE}
+    )
+    @Override
+    public ResponseEntity<TaskResponseDTO> patch(
+            @PathVariable Long id,
+            TaskUpdateDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = "Prefer", required = false) String prefer
+    ) {
+        if (prefer != null && prefer.contains("return=representation"))
+            return ResponseEntity.ok().body(service.update(id, dto, ifMatch));
+        ResourceVersion version = service.patch(id, dto, ifMatch);
+        return ResponseEntity.noContent()
+                .eTag(version.etag())
+                .lastModified(version.lastModified())
+                .build();
+    }
 }
@@ -0,0 +1,32 @@
+package com.management.project.controller;
+
+import com.management.project.controller.docs.TaskReadControllerDocs;
+import com.management.project.data.dto.task.TaskCollaboratorCountDTO;
+import com.management.project.service.reactive.ReactiveReadService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping("/v2/tasks")
+@Tag(name = "Tasks (read-only, streaming)", description = "Non-blocking read endpoints for Tasks")
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskReadController implements TaskReadControllerDocs {
+
+    private final ReactiveReadService service;
+
+    public TaskReadController(ReactiveReadService service) {
+        this.service = service;
+    }
+
+    @GetMapping(value = "/projects/{projectId}", produces = {MediaType.APPLICATION_NDJSON_VALUE})
+    @Override
+    public Flux<TaskCollaboratorCountDTO> countCollaboratorsPerTaskByProjectId(@PathVariable("projectId") Long projectId) {
+        return service.countCollaboratorsPerTaskByProjectId(projectId);
+    }
+}
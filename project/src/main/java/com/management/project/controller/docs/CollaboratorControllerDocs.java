@@ -1,21 +1,30 @@
 package com.management.project.controller.docs;
 
+import com.management.project.data.dto.bulk.BulkResponseDTO;
 import com.management.project.data.dto.collaborator.CollaboratorCreateDTO;
 import com.management.project.data.dto.collaborator.CollaboratorResponseDTO;
+import com.management.project.data.dto.collaborator.CollaboratorSuggestionDTO;
 import com.management.project.data.dto.collaborator.CollaboratorTaskCount;
 import com.management.project.data.dto.collaborator.CollaboratorUpdateDTO;
+import com.management.project.data.dto.pagination.CursorPageDTO;
+import com.management.project.model.enums.FunctionEnum;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -48,6 +57,27 @@ public interface CollaboratorControllerDocs {
             @RequestParam(value = "direction", defaultValue = "asc") String direction
     );
 
+    @Operation(summary = "Find All Collaborators by cursor",
+            description = "Finds All Collaborators ordered by name using keyset pagination. Send an empty 'after' to read " +
+                    "the first page and the returned nextCursor to read the following one. No total count is computed.",
+            tags = {"Collaborators"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(schema = @Schema(implementation = CursorPageDTO.class))
+                    ),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    ResponseEntity<CursorPageDTO<CollaboratorResponseDTO>> findAllByCursor(
+            @RequestParam(value = "after") String after,
+            @RequestParam(value = "size", defaultValue = "10") Integer size,
+            @RequestParam(value = "direction", defaultValue = "asc") String direction
+    );
+
     @Operation(summary = "Finds a Collaborator",
             description = "Find a specific collaborator by your ID",
             tags = {"Collaborators"},
@@ -57,6 +87,7 @@ public interface CollaboratorControllerDocs {
                             responseCode = "200",
                             content = @Content(schema = @Schema(implementation = CollaboratorResponseDTO.class))
                     ),
+                    @ApiResponse(description = "Not Modified", responseCode = "304", content = @Content),
                     @ApiResponse(description = "No Content", responseCode = "204", content = @Content),
                     @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
                     @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
@@ -64,7 +95,28 @@ public interface CollaboratorControllerDocs {
                     @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
             }
     )
-    ResponseEntity<CollaboratorResponseDTO> findById(@PathVariable("id") Long id);
+    ResponseEntity<CollaboratorResponseDTO> findById(@PathVariable("id") Long id, @Parameter(hidden = true) WebRequest request);
+
+    @Operation(summary = "Suggests Collaborators",
+            description = "Autocomplete: collaborators whose name, any word of it onwards, or email starts with the prefix, " +
+                    "ignoring case and accents. Served from an in-memory index; at most limit results (capped at 50)",
+            tags = {"Collaborators"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = CollaboratorSuggestionDTO.class)))
+                    ),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    ResponseEntity<List<CollaboratorSuggestionDTO>> suggest(
+            @Parameter(description = "Start of the name, of one of its words, or of the email") @RequestParam(value = "prefix") String prefix,
+            @Parameter(description = "Only collaborators with this function") @RequestParam(value = "function", required = false) FunctionEnum function,
+            @RequestParam(value = "limit", defaultValue = "10") Integer limit
+    );
 
     @Operation(summary = "Counts all Collaborators",
             description = "Returns the total number of collaborators",
@@ -84,7 +136,7 @@ public interface CollaboratorControllerDocs {
     ResponseEntity<Map<String, Long>> countProjects();
 
     @Operation(summary = "Counts tasks per collaborator",
-            description = "Returns the number of tasks assigned to each collaborator, including those with zero tasks",
+            description = "Returns the collaborators with the most tasks, highest first: at most limit rows (capped at 1000) with at least minCount tasks",
             tags = {"Collaborators"},
             responses = {
                     @ApiResponse(
@@ -98,7 +150,28 @@ public interface CollaboratorControllerDocs {
                     @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
             }
     )
-    ResponseEntity<List<CollaboratorTaskCount>> countTasksPerCollaborator();
+    ResponseEntity<List<CollaboratorTaskCount>> countTasksPerCollaborator(
+            @RequestParam(value = "limit", defaultValue = "100") Integer limit,
+            @RequestParam(value = "minCount", defaultValue = "0") Long minCount
+    );
+
+    @Operation(summary = "Streams the full tasks per collaborator ranking",
+            description = "Streams every collaborator with at least minCount tasks as one JSON array, highest first, without buffering the list in memory",
+            tags = {"Collaborators"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = CollaboratorTaskCount.class)))
+                    ),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    ResponseEntity<StreamingResponseBody> streamTasksPerCollaborator(
+            @RequestParam(value = "minCount", defaultValue = "0") Long minCount
+    );
 
 
     @Operation(summary = "Adds a new Collaborator",
@@ -117,6 +190,23 @@ public interface CollaboratorControllerDocs {
     )
     ResponseEntity<CollaboratorResponseDTO> create(@RequestBody CollaboratorCreateDTO dtoCreate);
 
+    @Operation(summary = "Adds Collaborators in bulk",
+            description = "Adds up to 5000 collaborators in a single request. Items are validated and stored together, " +
+                    "and the response reports the outcome of each item by its position in the request.",
+            tags = {"Collaborators"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(schema = @Schema(implementation = BulkResponseDTO.class))
+                    ),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    ResponseEntity<BulkResponseDTO<CollaboratorResponseDTO>> bulkCreate(@RequestBody List<CollaboratorCreateDTO> dtos);
+
     @Operation(summary = "Updates a collaborator's information",
             description = "Updates a collaborators's information by passing in a JSON representation of the updated collaborators.",
             tags = {"Collaborators"},
@@ -130,10 +220,45 @@ public interface CollaboratorControllerDocs {
                     @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
                     @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
                     @ApiResponse(description = "Not Found", responseCode = "404", content = @Content),
+                    @ApiResponse(description = "Conflict", responseCode = "409", content = @Content),
+                    @ApiResponse(description = "Precondition Failed", responseCode = "412", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    ResponseEntity<CollaboratorResponseDTO> update(
+            @PathVariable("id") Long id,
+            @RequestBody CollaboratorUpdateDTO dtoUpdate,
+            @Parameter(description = "ETag from a previous read; the update is refused with 412 if the collaborator changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
+
+    @Operation(summary = "Partially updates a collaborator",
+            description = "Writes only the fields present in the body with a single UPDATE, without reading the collaborator first. "
+                    + "Answers 204 with the new ETag; send Prefer: return=representation to get the updated collaborator back instead.",
+            tags = {"Collaborators"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(schema = @Schema(implementation = CollaboratorResponseDTO.class))
+                    ),
+                    @ApiResponse(description = "No Content", responseCode = "204", content = @Content),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Not Found", responseCode = "404", content = @Content),
+                    @ApiResponse(description = "Conflict", responseCode = "409", content = @Content),
+                    @ApiResponse(description = "Precondition Failed", responseCode = "412", content = @Content),
                     @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
             }
     )
-    ResponseEntity<CollaboratorResponseDTO> update(@PathVariable("id") Long id, @RequestBody CollaboratorUpdateDTO dtoUpdate);
+    ResponseEntity<CollaboratorResponseDTO> patch(
+            @PathVariable("id") Long id,
+            @RequestBody CollaboratorUpdateDTO dtoUpdate,
+            @Parameter(description = "ETag from a previous read; the update is refused with 412 if the collaborator changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(description = "return=representation answers 200 with the updated collaborator instead of 204")
+            @RequestHeader(value = "Prefer", required = false) String prefer
+    );
 
     @Operation(summary = "Deletes a Collaborator",
             description = "Deletes a specific collaborator by their ID",
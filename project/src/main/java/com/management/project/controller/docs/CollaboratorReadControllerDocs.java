@@ -0,0 +1,32 @@
+package com.management.project.controller.docs;
+
+import com.management.project.data.dto.collaborator.CollaboratorTaskCount;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Flux;
+
+public interface CollaboratorReadControllerDocs {
+
+    @Operation(summary = "Streams tasks per collaborator",
+            description = "Streams the collaborators with at least minCount tasks, highest first, as newline-delimited JSON, optionally up to limit rows",
+            tags = {"Collaborators (read-only, streaming)"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = CollaboratorTaskCount.class))
+                    ),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    Flux<CollaboratorTaskCount> countTasksPerCollaborator(
+            @RequestParam(value = "minCount", defaultValue = "0") Long minCount,
+            @RequestParam(value = "limit", required = false) Integer limit
+    );
+}
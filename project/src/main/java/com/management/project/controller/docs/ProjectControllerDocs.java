@@ -1,18 +1,27 @@
 package com.management.project.controller.docs;
 
+import com.management.project.data.dto.pagination.CursorPageDTO;
 import com.management.project.data.dto.project.*;
+import com.management.project.data.dto.task.TaskResponseDTO;
+import com.management.project.data.dto.task.TaskStatusTransitionDTO;
+import com.management.project.model.enums.StatusEnum;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -45,6 +54,27 @@ public interface ProjectControllerDocs {
             @RequestParam(value = "direction", defaultValue = "asc") String direction
     );
 
+    @Operation(summary = "Find All Projects by cursor",
+            description = "Finds All Projects ordered by name using keyset pagination. Send an empty 'after' to read " +
+                    "the first page and the returned nextCursor to read the following one. No total count is computed.",
+            tags = {"Projects"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(schema = @Schema(implementation = CursorPageDTO.class))
+                    ),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    ResponseEntity<CursorPageDTO<ProjectResponseDTO>> findAllByCursor(
+            @RequestParam(value = "after") String after,
+            @RequestParam(value = "size", defaultValue = "10") Integer size,
+            @RequestParam(value = "direction", defaultValue = "asc") String direction
+    );
+
     @Operation(summary = "Counts all Projects",
             description = "Returns the total number of projects",
             tags = {"Projects"},
@@ -63,7 +93,7 @@ public interface ProjectControllerDocs {
     ResponseEntity<Map<String, Long>> countProjects();
 
     @Operation(summary = "Counts tasks per project",
-            description = "Returns the number of tasks for each project, including those with zero tasks",
+            description = "Returns the projects with the most tasks, highest first: at most limit rows (capped at 1000) with at least minCount tasks",
             tags = {"Projects"},
             responses = {
                     @ApiResponse(
@@ -77,7 +107,28 @@ public interface ProjectControllerDocs {
                     @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
             }
     )
-    ResponseEntity<List<ProjectTaskCountDTO>> countTasksPerProject();
+    ResponseEntity<List<ProjectTaskCountDTO>> countTasksPerProject(
+            @RequestParam(value = "limit", defaultValue = "100") Integer limit,
+            @RequestParam(value = "minCount", defaultValue = "0") Long minCount
+    );
+
+    @Operation(summary = "Streams the full tasks per project ranking",
+            description = "Streams every project with at least minCount tasks as one JSON array, highest first, without buffering the list in memory",
+            tags = {"Projects"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ProjectTaskCountDTO.class)))
+                    ),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    ResponseEntity<StreamingResponseBody> streamTasksPerProject(
+            @RequestParam(value = "minCount", defaultValue = "0") Long minCount
+    );
 
     @Operation(summary = "Finds a Project",
             description = "Find a specific project by your ID",
@@ -88,6 +139,7 @@ public interface ProjectControllerDocs {
                             responseCode = "200",
                             content = @Content(schema = @Schema(implementation = ProjectResponseDTO.class))
                     ),
+                    @ApiResponse(description = "Not Modified", responseCode = "304", content = @Content),
                     @ApiResponse(description = "No Content", responseCode = "204", content = @Content),
                     @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
                     @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
@@ -95,7 +147,51 @@ public interface ProjectControllerDocs {
                     @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
             }
     )
-    ResponseEntity<ProjectResponseWithTasksDTO> findById(@PathVariable("id") Long id);
+    ResponseEntity<ProjectResponseWithTasksDTO> findById(@PathVariable("id") Long id, @Parameter(hidden = true) WebRequest request);
+
+    @Operation(summary = "Finds the tasks of a Project",
+            description = "Lists the tasks of a project ordered by ID using keyset pagination. " +
+                    "Pass the returned nextCursor as 'after' to read the next page, optionally filtering by status.",
+            tags = {"Projects"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(schema = @Schema(implementation = CursorPageDTO.class))
+                    ),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Not Found", responseCode = "404", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    ResponseEntity<CursorPageDTO<TaskResponseDTO>> findTasks(
+            @PathVariable("id") Long id,
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "size", defaultValue = "50") Integer size,
+            @RequestParam(value = "status", required = false) StatusEnum status
+    );
+
+    @Operation(summary = "Moves the tasks of a Project to a status",
+            description = "Applies the target status to the project's tasks matching the filters (currentStatus, ids, " +
+                    "updatedBefore; combined with AND, at least one required) in a single statement and returns the number of tasks moved.",
+            tags = {"Projects"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(schema = @Schema(implementation = Object.class))
+                    ),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Not Found", responseCode = "404", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    ResponseEntity<Map<String, Integer>> updateTaskStatus(
+            @PathVariable("id") Long id,
+            @RequestBody TaskStatusTransitionDTO transition
+    );
 
     @Operation(summary = "Adds a new Project",
             description = "Adds a new Project by passing in a JSON representation of the project.",
@@ -126,10 +222,45 @@ public interface ProjectControllerDocs {
                     @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
                     @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
                     @ApiResponse(description = "Not Found", responseCode = "404", content = @Content),
+                    @ApiResponse(description = "Conflict", responseCode = "409", content = @Content),
+                    @ApiResponse(description = "Precondition Failed", responseCode = "412", content = @Content),
                     @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
             }
     )
-    ResponseEntity<ProjectResponseDTO> update(@PathVariable("id") Long id, @RequestBody ProjectUpdateDTO dtoUpdate);
+    ResponseEntity<ProjectResponseDTO> update(
+            @PathVariable("id") Long id,
+            @RequestBody ProjectUpdateDTO dtoUpdate,
+            @Parameter(description = "ETag from a previous read; the update is refused with 412 if the project changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
+
+    @Operation(summary = "Partially updates a project",
+            description = "Writes only the fields present in the body with a single UPDATE, without reading the project first. "
+                    + "Answers 204 with the new ETag; send Prefer: return=representation to get the updated project back instead.",
+            tags = {"Projects"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(schema = @Schema(implementation = ProjectResponseDTO.class))
+                    ),
+                    @ApiResponse(description = "No Content", responseCode = "204", content = @Content),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Not Found", responseCode = "404", content = @Content),
+                    @ApiResponse(description = "Conflict", responseCode = "409", content = @Content),
+                    @ApiResponse(description = "Precondition Failed", responseCode = "412", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    ResponseEntity<ProjectResponseDTO> patch(
+            @PathVariable("id") Long id,
+            @RequestBody ProjectUpdateDTO dtoUpdate,
+            @Parameter(description = "ETag from a previous read; the update is refused with 412 if the project changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(description = "return=representation answers 200 with the updated project instead of 204")
+            @RequestHeader(value = "Prefer", required = false) String prefer
+    );
 
     @Operation(summary = "Deletes a Project",
             description = "Deletes a specific project by their ID",
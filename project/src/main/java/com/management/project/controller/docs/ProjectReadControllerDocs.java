@@ -0,0 +1,93 @@
+package com.management.project.controller.docs;
+
+import com.management.project.data.dto.project.ProjectSummaryDTO;
+import com.management.project.data.dto.project.ProjectTaskCountDTO;
+import com.management.project.data.dto.task.TaskSummaryDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ProjectReadControllerDocs {
+
+    @Operation(summary = "Streams Projects",
+            description = "Streams projects ordered by id as newline-delimited JSON, starting after the given id, optionally up to limit rows",
+            tags = {"Projects (read-only, streaming)"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = ProjectSummaryDTO.class))
+                    ),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    Flux<ProjectSummaryDTO> findAll(
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "limit", required = false) Integer limit
+    );
+
+    @Operation(summary = "Finds a Project",
+            description = "Find a specific project by its ID, without its tasks",
+            tags = {"Projects (read-only, streaming)"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(schema = @Schema(implementation = ProjectSummaryDTO.class))
+                    ),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Not Found", responseCode = "404", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    Mono<ProjectSummaryDTO> findById(@PathVariable("id") Long id);
+
+    @Operation(summary = "Streams the Tasks of a Project",
+            description = "Streams the project's tasks ordered by id as newline-delimited JSON, starting after the given id, optionally up to limit rows",
+            tags = {"Projects (read-only, streaming)"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = TaskSummaryDTO.class))
+                    ),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Not Found", responseCode = "404", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    Flux<TaskSummaryDTO> findTasks(
+            @PathVariable("id") Long id,
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "limit", required = false) Integer limit
+    );
+
+    @Operation(summary = "Streams tasks per project",
+            description = "Streams the projects with at least minCount tasks, highest first, as newline-delimited JSON, optionally up to limit rows",
+            tags = {"Projects (read-only, streaming)"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = ProjectTaskCountDTO.class))
+                    ),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    Flux<ProjectTaskCountDTO> countTasksPerProject(
+            @RequestParam(value = "minCount", defaultValue = "0") Long minCount,
+            @RequestParam(value = "limit", required = false) Integer limit
+    );
+}
@@ -0,0 +1,36 @@
+package com.management.project.controller.docs;
+
+import com.management.project.data.dto.pagination.CursorPageDTO;
+import com.management.project.data.dto.search.SearchResultDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestParam;
+
+public interface SearchControllerDocs {
+
+    @Operation(summary = "Searches projects and tasks by name",
+            description = "Full-text search over project and task names, best matches first. The query accepts web search syntax " +
+                    "(quoted phrases, OR, -word). Each result carries a highlight with the matched words wrapped in <mark>. " +
+                    "Pass the returned nextCursor as 'after' to read the next page.",
+            tags = {"Search"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(schema = @Schema(implementation = CursorPageDTO.class))
+                    ),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    ResponseEntity<CursorPageDTO<SearchResultDTO>> search(
+            @Parameter(description = "Words to search for") @RequestParam(value = "q") String query,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "20") Integer size
+    );
+}
@@ -1,18 +1,23 @@
 package com.management.project.controller.docs;
 
+import com.management.project.data.dto.bulk.BulkResponseDTO;
 import com.management.project.data.dto.collaborator_task.CollaboratorTaskDTO;
 import com.management.project.data.dto.task.TaskCollaboratorCountDTO;
 import com.management.project.data.dto.task.TaskCreateDTO;
 import com.management.project.data.dto.task.TaskResponseDTO;
 import com.management.project.data.dto.task.TaskUpdateDTO;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -28,6 +33,7 @@ public interface TaskControllerDocs {
                             responseCode = "200",
                             content = @Content(schema = @Schema(implementation = TaskResponseDTO.class))
                     ),
+                    @ApiResponse(description = "Not Modified", responseCode = "304", content = @Content),
                     @ApiResponse(description = "No Content", responseCode = "204", content = @Content),
                     @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
                     @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
@@ -35,7 +41,7 @@ public interface TaskControllerDocs {
                     @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
             }
     )
-    ResponseEntity<TaskResponseDTO> findById(@PathVariable("id") Long id);
+    ResponseEntity<TaskResponseDTO> findById(@PathVariable("id") Long id, @Parameter(hidden = true) WebRequest request);
 
     @Operation(summary = "Counts collaborators per task for a specific project",
             description = "Returns the number of collaborators assigned to each task in a specific project, including tasks with zero collaborators",
@@ -71,6 +77,23 @@ public interface TaskControllerDocs {
     )
     ResponseEntity<TaskResponseDTO> create(@RequestBody TaskCreateDTO dtoCreate);
 
+    @Operation(summary = "Adds Tasks in bulk",
+            description = "Adds up to 5000 tasks in a single request. Items are validated and stored together, " +
+                    "and the response reports the outcome of each item by its position in the request.",
+            tags = {"Tasks"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(schema = @Schema(implementation = BulkResponseDTO.class))
+                    ),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    ResponseEntity<BulkResponseDTO<TaskResponseDTO>> bulkCreate(@RequestBody List<TaskCreateDTO> dtos);
+
     @Operation(summary = "Assigns a collaborator to a task",
             description = "Associates a collaborator with a specific task using their IDs.",
             tags = {"Tasks"},
@@ -87,6 +110,23 @@ public interface TaskControllerDocs {
     )
     ResponseEntity<Map<String, String>> assignCollaborator(@RequestBody CollaboratorTaskDTO dto);
 
+    @Operation(summary = "Assigns collaborators to tasks in bulk",
+            description = "Associates up to 5000 (task, collaborator) pairs in a single request. Pairs that are already " +
+                    "assigned or repeated are reported as duplicates and the others are stored together.",
+            tags = {"Tasks"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(schema = @Schema(implementation = BulkResponseDTO.class))
+                    ),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    ResponseEntity<BulkResponseDTO<CollaboratorTaskDTO>> assignCollaborators(@RequestBody List<CollaboratorTaskDTO> dtos);
+
     @Operation(summary = "Updates a task's information",
             description = "Updates a task's information by passing in a JSON representation of the updated task.",
             tags = {"Tasks"},
@@ -100,8 +140,43 @@ public interface TaskControllerDocs {
                     @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
                     @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
                     @ApiResponse(description = "Not Found", responseCode = "404", content = @Content),
+                    @ApiResponse(description = "Conflict", responseCode = "409", content = @Content),
+                    @ApiResponse(description = "Precondition Failed", responseCode = "412", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    ResponseEntity<TaskResponseDTO> update(
+            @PathVariable("id") Long id,
+            @RequestBody TaskUpdateDTO dtoUpdate,
+            @Parameter(description = "ETag from a previous read; the update is refused with 412 if the task changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
+
+    @Operation(summary = "Partially updates a task",
+            description = "Writes only the fields present in the body with a single UPDATE, without reading the task first. "
+                    + "Answers 204 with the new ETag; send Prefer: return=representation to get the updated task back instead.",
+            tags = {"Tasks"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(schema = @Schema(implementation = TaskResponseDTO.class))
+                    ),
+                    @ApiResponse(description = "No Content", responseCode = "204", content = @Content),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Not Found", responseCode = "404", content = @Content),
+                    @ApiResponse(description = "Conflict", responseCode = "409", content = @Content),
+                    @ApiResponse(description = "Precondition Failed", responseCode = "412", content = @Content),
                     @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
             }
     )
-    ResponseEntity<TaskResponseDTO> update(@PathVariable("id") Long id, @RequestBody TaskUpdateDTO dtoUpdate);
+    ResponseEntity<TaskResponseDTO> patch(
+            @PathVariable("id") Long id,
+            @RequestBody TaskUpdateDTO dtoUpdate,
+            @Parameter(description = "ETag from a previous read; the update is refused with 412 if the task changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(description = "return=representation answers 200 with the updated task instead of 204")
+            @RequestHeader(value = "Prefer", required = false) String prefer
+    );
 }
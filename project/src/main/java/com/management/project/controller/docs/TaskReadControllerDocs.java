@@ -0,0 +1,30 @@
+package com.management.project.controller.docs;
+
+import com.management.project.data.dto.task.TaskCollaboratorCountDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PathVariable;
+import reactor.core.publisher.Flux;
+
+public interface TaskReadControllerDocs {
+
+    @Operation(summary = "Streams collaborators per task for a specific project",
+            description = "Streams the number of collaborators assigned to each task of the project, highest first, as newline-delimited JSON",
+            tags = {"Tasks (read-only, streaming)"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = TaskCollaboratorCountDTO.class))
+                    ),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Not Found", responseCode = "404", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    Flux<TaskCollaboratorCountDTO> countCollaboratorsPerTaskByProjectId(@PathVariable("projectId") Long projectId);
+}
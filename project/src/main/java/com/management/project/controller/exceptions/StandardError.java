@@ -1,7 +1,9 @@
 package com.management.project.controller.exceptions;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.management.project.service.validation.FieldError;
+
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 
 public record StandardError(
@@ -9,6 +11,11 @@ public record StandardError(
         Integer status,
         String error,
         String message,
-        String path
+        String path,
+        @JsonInclude(JsonInclude.Include.NON_EMPTY) List<FieldError> errors
 ) {
+
+    public StandardError(Instant timestamp, Integer status, String error, String message, String path) {
+        this(timestamp, status, error, message, path, List.of());
+    }
 }
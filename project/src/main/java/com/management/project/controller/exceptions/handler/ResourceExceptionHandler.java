@@ -41,7 +41,7 @@ public class ResourceExceptionHandler {
     public ResponseEntity<StandardError> emptyNameException(EmptyNameException e, HttpServletRequest request) {
         String error = "Invalid name";
         HttpStatus status = HttpStatus.BAD_REQUEST;
-        StandardError err = new StandardError(Instant.now(), status.value(), error, e.getMessage(), request.getRequestURI());
+        StandardError err = new StandardError(Instant.now(), status.value(), error, e.getMessage(), request.getRequestURI(), e.getErrors());
         return ResponseEntity.status(status).body(err);
     }
 
@@ -49,7 +49,7 @@ public class ResourceExceptionHandler {
     public ResponseEntity<StandardError> invalidNameSizeException(InvalidNameSizeException e, HttpServletRequest request) {
         String error = "Invalid name size";
         HttpStatus status = HttpStatus.BAD_REQUEST;
-        StandardError err = new StandardError(Instant.now(), status.value(), error, e.getMessage(), request.getRequestURI());
+        StandardError err = new StandardError(Instant.now(), status.value(), error, e.getMessage(), request.getRequestURI(), e.getErrors());
         return ResponseEntity.status(status).body(err);
     }
 
@@ -57,7 +57,15 @@ public class ResourceExceptionHandler {
     public ResponseEntity<StandardError> invalidNameSizeException(InvalidEmailException e, HttpServletRequest request) {
         String error = "Invalid email";
         HttpStatus status = HttpStatus.BAD_REQUEST;
-        StandardError err = new StandardError(Instant.now(), status.value(), error, e.getMessage(), request.getRequestURI());
+        StandardError err = new StandardError(Instant.now(), status.value(), error, e.getMessage(), request.getRequestURI(), e.getErrors());
+        return ResponseEntity.status(status).body(err);
+    }
+
+    @ExceptionHandler(NullForeignKeyException.class)
+    public ResponseEntity<StandardError> nullForeignKeyException(NullForeignKeyException e, HttpServletRequest request) {
+        String error = "Missing reference";
+        HttpStatus status = HttpStatus.BAD_REQUEST;
+        StandardError err = new StandardError(Instant.now(), status.value(), error, e.getMessage(), request.getRequestURI(), e.getErrors());
         return ResponseEntity.status(status).body(err);
     }
 
@@ -76,4 +84,36 @@ public class ResourceExceptionHandler {
         StandardError err = new StandardError(Instant.now(), status.value(), error, e.getMessage(), request.getRequestURI());
         return ResponseEntity.status(status).body(err);
     }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<StandardError> invalidCursorException(InvalidCursorException e, HttpServletRequest request) {
+        String error = "Invalid cursor";
+        HttpStatus status = HttpStatus.BAD_REQUEST;
+        StandardError err = new StandardError(Instant.now(), status.value(), error, e.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(status).body(err);
+    }
+
+    @ExceptionHandler(BulkSizeExceededException.class)
+    public ResponseEntity<StandardError> bulkSizeExceededException(BulkSizeExceededException e, HttpServletRequest request) {
+        String error = "Bulk size exceeded";
+        HttpStatus status = HttpStatus.BAD_REQUEST;
+        StandardError err = new StandardError(Instant.now(), status.value(), error, e.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(status).body(err);
+    }
+
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    public ResponseEntity<StandardError> concurrentUpdateException(ConcurrentUpdateException e, HttpServletRequest request) {
+        String error = "Concurrent update";
+        HttpStatus status = HttpStatus.CONFLICT;
+        StandardError err = new StandardError(Instant.now(), status.value(), error, e.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(status).body(err);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<StandardError> preconditionFailedException(PreconditionFailedException e, HttpServletRequest request) {
+        String error = "Precondition failed";
+        HttpStatus status = HttpStatus.PRECONDITION_FAILED;
+        StandardError err = new StandardError(Instant.now(), status.value(), error, e.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(status).body(err);
+    }
 }
@@ -0,0 +1,98 @@
+package com.management.project.controller.links;
+
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.function.Function;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+/**
+ * A controller route resolved once into a relative URI, so building a link only costs a string
+ * concatenation instead of a {@code methodOn} proxy invocation and a request URI lookup.
+ * <p>
+ * Links are prefixed with the same base URI {@code linkTo} would use (scheme, host, port and context
+ * path of the current request, or nothing outside a request), so the output is identical.
+ */
+public final class LinkTemplate {
+
+    private static final Long ID_PLACEHOLDER = Long.MIN_VALUE;
+    private static final String BASE_URI_ATTRIBUTE = LinkTemplate.class.getName() + ".BASE_URI";
+
+    private final String head;
+    private final String tail;
+    private final LinkRelation rel;
+    private final String type;
+
+    private LinkTemplate(String head, String tail, LinkRelation rel, String type) {
+        this.head = head;
+        this.tail = tail;
+        this.rel = rel;
+        this.type = type;
+    }
+
+    /**
+     * Route without path variables, e.g. {@code methodOn(ProjectController.class).findAll(0, 10, "desc")}.
+     */
+    public static LinkTemplate of(Object invocationValue, String rel, String type) {
+        return new LinkTemplate(resolve(invocationValue), null, LinkRelation.of(rel), type);
+    }
+
+    /**
+     * Route with an id path variable, e.g. {@code id -> methodOn(ProjectController.class).findById(id, null)}.
+     */
+    public static LinkTemplate of(Function<Long, Object> invocation, String rel, String type) {
+        String href = resolve(invocation.apply(ID_PLACEHOLDER));
+        String placeholder = ID_PLACEHOLDER.toString();
+        int index = href.indexOf(placeholder);
+        if (index < 0)
+            throw new IllegalArgumentException("The route " + href + " does not use the id argument");
+        return new LinkTemplate(
+                href.substring(0, index),
+                href.substring(index + placeholder.length()),
+                LinkRelation.of(rel),
+                type
+        );
+    }
+
+    public static LinkTemplate self(Function<Long, Object> invocation, String type) {
+        return of(invocation, IanaLinkRelations.SELF.value(), type);
+    }
+
+    public Link toLink() {
+        return Link.of(baseUri() + head, rel).withType(type);
+    }
+
+    public Link expand(Long id) {
+        String value = id == null ? "{id}" : id.toString();
+        return Link.of(baseUri() + head + value + tail, rel).withType(type);
+    }
+
+    private static String resolve(Object invocationValue) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        RequestContextHolder.resetRequestAttributes();
+        try {
+            return linkTo(invocationValue).toUri().toString();
+        } finally {
+            RequestContextHolder.setRequestAttributes(attributes);
+        }
+    }
+
+    private static String baseUri() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null)
+            return "";
+
+        Object cached = attributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached != null)
+            return (String) cached;
+
+        String baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString();
+        attributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+        return baseUri;
+    }
+}
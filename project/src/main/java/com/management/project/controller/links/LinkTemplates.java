@@ -0,0 +1,47 @@
+package com.management.project.controller.links;
+
+import com.management.project.controller.CollaboratorController;
+import com.management.project.controller.ProjectController;
+import com.management.project.controller.TaskController;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * Link templates for every route the services expose as HATEOAS links, resolved once when the
+ * class is loaded. Request bodies never appear in a URI, so create/update are resolved with
+ * {@code null} DTOs.
+ */
+public final class LinkTemplates {
+
+    public static final LinkTemplate PROJECT_FIND_ALL =
+            LinkTemplate.of(methodOn(ProjectController.class).findAll(0, 10, "desc"), "findAll", "GET");
+    public static final LinkTemplate PROJECT_SELF =
+            LinkTemplate.self(id -> methodOn(ProjectController.class).findById(id, null), "GET");
+    public static final LinkTemplate PROJECT_CREATE =
+            LinkTemplate.of(methodOn(ProjectController.class).create(null), "create", "POST");
+    public static final LinkTemplate PROJECT_UPDATE =
+            LinkTemplate.of(id -> methodOn(ProjectController.class).update(id, null, null), "update", "PUT");
+    public static final LinkTemplate PROJECT_DELETE =
+            LinkTemplate.of(id -> methodOn(ProjectController.class).delete(id), "delete", "DELETE");
+
+    public static final LinkTemplate TASK_SELF =
+            LinkTemplate.self(id -> methodOn(TaskController.class).findById(id, null), "GET");
+    public static final LinkTemplate TASK_CREATE =
+            LinkTemplate.of(methodOn(TaskController.class).create(null), "create", "POST");
+    public static final LinkTemplate TASK_UPDATE =
+            LinkTemplate.of(id -> methodOn(TaskController.class).update(id, null, null), "update", "PUT");
+
+    public static final LinkTemplate COLLABORATOR_FIND_ALL =
+            LinkTemplate.of(methodOn(CollaboratorController.class).findAll(0, 10, "desc"), "findAll", "GET");
+    public static final LinkTemplate COLLABORATOR_SELF =
+            LinkTemplate.self(id -> methodOn(CollaboratorController.class).findById(id, null), "GET");
+    public static final LinkTemplate COLLABORATOR_CREATE =
+            LinkTemplate.of(methodOn(CollaboratorController.class).create(null), "create", "POST");
+    public static final LinkTemplate COLLABORATOR_UPDATE =
+            LinkTemplate.of(id -> methodOn(CollaboratorController.class).update(id, null, null), "update", "PUT");
+    public static final LinkTemplate COLLABORATOR_DELETE =
+            LinkTemplate.of(id -> methodOn(CollaboratorController.class).delete(id), "delete", "DELETE");
+
+    private LinkTemplates() {
+    }
+}
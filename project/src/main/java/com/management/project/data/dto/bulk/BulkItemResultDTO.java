@@ -0,0 +1,21 @@
+package com.management.project.data.dto.bulk;
+
+/**
+ * Outcome of one item of a bulk request. {@code index} is the item's position in the request
+ * array and {@code status} the HTTP status it would have received as a single request.
+ */
+public record BulkItemResultDTO<T>(
+        int index,
+        Integer status,
+        T data,
+        String error
+) {
+
+    public static <T> BulkItemResultDTO<T> created(int index, T data) {
+        return new BulkItemResultDTO<>(index, 201, data, null);
+    }
+
+    public static <T> BulkItemResultDTO<T> failed(int index, Integer status, String error) {
+        return new BulkItemResultDTO<>(index, status, null, error);
+    }
+}
@@ -0,0 +1,15 @@
+package com.management.project.data.dto.bulk;
+
+import java.util.List;
+
+public record BulkResponseDTO<T>(
+        int created,
+        int failed,
+        List<BulkItemResultDTO<T>> results
+) {
+
+    public static <T> BulkResponseDTO<T> of(List<BulkItemResultDTO<T>> results) {
+        int created = (int) results.stream().filter(result -> result.data() != null).count();
+        return new BulkResponseDTO<>(created, results.size() - created, results);
+    }
+}
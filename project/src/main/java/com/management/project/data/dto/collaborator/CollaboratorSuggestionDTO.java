@@ -0,0 +1,10 @@
+package com.management.project.data.dto.collaborator;
+
+import com.management.project.model.enums.FunctionEnum;
+
+public record CollaboratorSuggestionDTO(
+        Long id,
+        String name,
+        String email,
+        FunctionEnum function
+) {}
@@ -0,0 +1,11 @@
+package com.management.project.data.dto.collaborator_task;
+
+/**
+ * Row of {@code task_collaborator} returned by the native bulk assignment insert.
+ */
+public interface TaskCollaboratorPair {
+
+    Long getTaskId();
+
+    Long getCollaboratorId();
+}
@@ -0,0 +1,28 @@
+package com.management.project.data.dto.conditional;
+
+import java.time.Instant;
+
+/**
+ * Row returned by {@code ProjectRepository.patch}: the new version of the project together with the
+ * task aggregate its tag is built from, read by the statement that wrote it. The timestamps come as
+ * epoch millis, the precision of the tag, so the row does not depend on how the driver maps
+ * {@code timestamptz}.
+ */
+public interface ProjectVersionRow {
+
+    Long getVersion();
+
+    Long getUpdatedAtMillis();
+
+    Long getTasksUpdatedAtMillis();
+
+    Long getTasks();
+
+    default ResourceVersion toResourceVersion() {
+        return new ResourceVersion(getVersion(), instant(getUpdatedAtMillis()), instant(getTasksUpdatedAtMillis()), getTasks());
+    }
+
+    private static Instant instant(Long millis) {
+        return millis != null ? Instant.ofEpochMilli(millis) : null;
+    }
+}
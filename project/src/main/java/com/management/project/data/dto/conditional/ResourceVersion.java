@@ -0,0 +1,70 @@
+package com.management.project.data.dto.conditional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Validators for conditional requests, built by the repositories' version queries from the
+ * {@code version} and {@code updated_at} columns instead of from the rendered body. The ETag is strong
+ * because the {@code @Version} column identifies the entity state exactly, which lets the same tag
+ * serve {@code If-None-Match} on reads and {@code If-Match} on updates.
+ *
+ * @param etag         quoted entity tag, e.g. {@code "3"}
+ * @param lastModified epoch millis for {@code Last-Modified}, or {@code -1} when unknown
+ */
+public record ResourceVersion(String etag, long lastModified) {
+
+    public ResourceVersion(Long version, Instant updatedAt) {
+        this(quote(String.valueOf(version)), millis(updatedAt));
+    }
+
+    /**
+     * Version of a resource whose body embeds a collection: any child update moves the latest
+     * child timestamp, any removal changes the count.
+     */
+    public ResourceVersion(Long version, Instant updatedAt, Instant childrenUpdatedAt, Long children) {
+        this(quote(version + "-" + hex(childrenUpdatedAt) + "-" + Long.toHexString(children)),
+                Math.max(millis(updatedAt), millis(childrenUpdatedAt)));
+    }
+
+    /**
+     * Strong comparison against an {@code If-Match} header: {@code *} or any listed tag equal to this
+     * one. Weak tags never match.
+     */
+    public boolean matches(String ifMatch) {
+        for (String tag : ifMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.equals("*") || candidate.equals(etag))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * The version named by an {@code If-Match} holding exactly one tag built by
+     * {@link #ResourceVersion(Long, Instant)}, so an update can check it in its {@code WHERE} clause.
+     * Empty for {@code *}, tag lists and composite tags.
+     */
+    public static Optional<Long> expectedVersion(String ifMatch) {
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\""))
+            return Optional.empty();
+        try {
+            return Optional.of(Long.parseLong(tag.substring(1, tag.length() - 1)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static long millis(Instant instant) {
+        return instant != null ? instant.toEpochMilli() : -1;
+    }
+
+    private static String hex(Instant instant) {
+        return instant != null ? Long.toHexString(instant.toEpochMilli()) : "0";
+    }
+
+    private static String quote(String tag) {
+        return "\"" + tag + "\"";
+    }
+}
@@ -0,0 +1,75 @@
+package com.management.project.data.dto.pagination;
+
+import org.springframework.hateoas.RepresentationModel;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is the value to send back as
+ * {@code after} to read the following page, and is {@code null} on the last page.
+ */
+public class CursorPageDTO<T> extends RepresentationModel<CursorPageDTO<T>> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static final int MAX_SIZE = 100;
+
+    private List<T> content = new ArrayList<>();
+    private Integer size;
+    private String nextCursor;
+
+    public CursorPageDTO() {
+    }
+
+    public CursorPageDTO(List<T> content, Integer size, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public Integer getSize() {
+        return size;
+    }
+
+    public void setSize(Integer size) {
+        this.size = size;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        CursorPageDTO<?> that = (CursorPageDTO<?>) o;
+        return Objects.equals(content, that.content) && Objects.equals(size, that.size) && Objects.equals(nextCursor, that.nextCursor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), content, size, nextCursor);
+    }
+}
@@ -0,0 +1,22 @@
+package com.management.project.data.dto.search;
+
+/**
+ * Row of the native full-text search queries. The highlight marks matches with
+ * {@link #MATCH_START} and {@link #MATCH_END}, which the service turns into markup.
+ */
+public interface SearchHit {
+
+    String MATCH_START = "\u0002";
+
+    String MATCH_END = "\u0003";
+
+    Long getId();
+
+    String getName();
+
+    Long getProjectId();
+
+    Float getRank();
+
+    String getHighlight();
+}
@@ -0,0 +1,20 @@
+package com.management.project.data.dto.search;
+
+/**
+ * One search result. {@code highlight} is the HTML-escaped name with the matched words wrapped in
+ * {@code <mark>}; {@code projectId} is the project itself for project results.
+ */
+public record SearchResultDTO(
+        Type type,
+        Long id,
+        String name,
+        Long projectId,
+        float rank,
+        String highlight
+) {
+
+    public enum Type {
+        PROJECT,
+        TASK
+    }
+}
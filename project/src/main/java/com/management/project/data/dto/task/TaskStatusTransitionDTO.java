@@ -0,0 +1,59 @@
+package com.management.project.data.dto.task;
+
+import com.management.project.model.enums.StatusEnum;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Moves the tasks of one project to {@link #status}. The filters are combined with AND and at
+ * least one of them is required; tasks already in the target status are left untouched.
+ */
+public class TaskStatusTransitionDTO {
+
+    private StatusEnum status;
+    private StatusEnum currentStatus;
+    private List<Long> ids;
+    private Instant updatedBefore;
+
+    public TaskStatusTransitionDTO() {}
+
+    public TaskStatusTransitionDTO(StatusEnum status, StatusEnum currentStatus, List<Long> ids, Instant updatedBefore) {
+        this.status = status;
+        this.currentStatus = currentStatus;
+        this.ids = ids;
+        this.updatedBefore = updatedBefore;
+    }
+
+    public StatusEnum getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusEnum status) {
+        this.status = status;
+    }
+
+    public StatusEnum getCurrentStatus() {
+        return currentStatus;
+    }
+
+    public void setCurrentStatus(StatusEnum currentStatus) {
+        this.currentStatus = currentStatus;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public Instant getUpdatedBefore() {
+        return updatedBefore;
+    }
+
+    public void setUpdatedBefore(Instant updatedBefore) {
+        this.updatedBefore = updatedBefore;
+    }
+}
@@ -0,0 +1,14 @@
+package com.management.project.data.dto.task;
+
+import com.management.project.model.enums.StatusEnum;
+
+import java.time.Instant;
+
+public record TaskSummaryDTO(
+        Long id,
+        String name,
+        StatusEnum status,
+        Instant createdAt,
+        Instant updatedAt,
+        Long projectId
+) {}
@@ -0,0 +1,32 @@
+package com.management.project.data.mapper;
+
+import com.management.project.data.dto.collaborator.CollaboratorCreateDTO;
+import com.management.project.data.dto.collaborator.CollaboratorResponseDTO;
+import com.management.project.data.dto.project.ProjectCreateDTO;
+import com.management.project.data.dto.project.ProjectResponseDTO;
+import com.management.project.data.dto.project.ProjectResponseWithTasksDTO;
+import com.management.project.data.dto.task.TaskResponseDTO;
+import com.management.project.model.Collaborator;
+import com.management.project.model.Project;
+import com.management.project.model.Task;
+
+/**
+ * Conversions between entities and DTOs used by the services.
+ * <p>
+ * The default implementation is generated at compile time by MapStruct ({@link GeneratedEntityMapper}).
+ * Setting {@code app.mapping.engine=modelmapper} switches back to the reflective {@link ModelMapperEntityMapper}.
+ */
+public interface EntityMapper {
+
+    ProjectResponseDTO toResponse(Project entity);
+
+    ProjectResponseWithTasksDTO toResponseWithTasks(Project entity);
+
+    TaskResponseDTO toResponse(Task entity);
+
+    CollaboratorResponseDTO toResponse(Collaborator entity);
+
+    Project toEntity(ProjectCreateDTO dto);
+
+    Collaborator toEntity(CollaboratorCreateDTO dto);
+}
@@ -0,0 +1,44 @@
+package com.management.project.data.mapper;
+
+import com.management.project.data.dto.collaborator.CollaboratorCreateDTO;
+import com.management.project.data.dto.collaborator.CollaboratorResponseDTO;
+import com.management.project.data.dto.project.ProjectCreateDTO;
+import com.management.project.data.dto.project.ProjectResponseDTO;
+import com.management.project.data.dto.project.ProjectResponseWithTasksDTO;
+import com.management.project.data.dto.task.TaskResponseDTO;
+import com.management.project.model.Collaborator;
+import com.management.project.model.Project;
+import com.management.project.model.Task;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface GeneratedEntityMapper extends EntityMapper {
+
+    @Override
+    ProjectResponseDTO toResponse(Project entity);
+
+    @Override
+    ProjectResponseWithTasksDTO toResponseWithTasks(Project entity);
+
+    @Override
+    @Mapping(target = "projectId", source = "project.id")
+    TaskResponseDTO toResponse(Task entity);
+
+    @Override
+    CollaboratorResponseDTO toResponse(Collaborator entity);
+
+    @Override
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "tasks", ignore = true)
+    Project toEntity(ProjectCreateDTO dto);
+
+    @Override
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "tasks", ignore = true)
+    Collaborator toEntity(CollaboratorCreateDTO dto);
+}
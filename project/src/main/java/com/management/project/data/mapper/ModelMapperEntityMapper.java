@@ -0,0 +1,51 @@
+package com.management.project.data.mapper;
+
+import com.management.project.data.dto.collaborator.CollaboratorCreateDTO;
+import com.management.project.data.dto.collaborator.CollaboratorResponseDTO;
+import com.management.project.data.dto.project.ProjectCreateDTO;
+import com.management.project.data.dto.project.ProjectResponseDTO;
+import com.management.project.data.dto.project.ProjectResponseWithTasksDTO;
+import com.management.project.data.dto.task.TaskResponseDTO;
+import com.management.project.model.Collaborator;
+import com.management.project.model.Project;
+import com.management.project.model.Task;
+import org.modelmapper.ModelMapper;
+
+public class ModelMapperEntityMapper implements EntityMapper {
+
+    private final ModelMapper modelMapper;
+
+    public ModelMapperEntityMapper(ModelMapper modelMapper) {
+        this.modelMapper = modelMapper;
+    }
+
+    @Override
+    public ProjectResponseDTO toResponse(Project entity) {
+        return modelMapper.map(entity, ProjectResponseDTO.class);
+    }
+
+    @Override
+    public ProjectResponseWithTasksDTO toResponseWithTasks(Project entity) {
+        return modelMapper.map(entity, ProjectResponseWithTasksDTO.class);
+    }
+
+    @Override
+    public TaskResponseDTO toResponse(Task entity) {
+        return modelMapper.map(entity, TaskResponseDTO.class);
+    }
+
+    @Override
+    public CollaboratorResponseDTO toResponse(Collaborator entity) {
+        return modelMapper.map(entity, CollaboratorResponseDTO.class);
+    }
+
+    @Override
+    public Project toEntity(ProjectCreateDTO dto) {
+        return modelMapper.map(dto, Project.class);
+    }
+
+    @Override
+    public Collaborator toEntity(CollaboratorCreateDTO dto) {
+        return modelMapper.map(dto, Collaborator.class);
+    }
+}
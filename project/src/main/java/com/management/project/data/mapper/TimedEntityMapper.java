@@ -0,0 +1,85 @@
+package com.management.project.data.mapper;
+
+import com.management.project.data.dto.collaborator.CollaboratorCreateDTO;
+import com.management.project.data.dto.collaborator.CollaboratorResponseDTO;
+import com.management.project.data.dto.project.ProjectCreateDTO;
+import com.management.project.data.dto.project.ProjectResponseDTO;
+import com.management.project.data.dto.project.ProjectResponseWithTasksDTO;
+import com.management.project.data.dto.task.TaskResponseDTO;
+import com.management.project.model.Collaborator;
+import com.management.project.model.Project;
+import com.management.project.model.Task;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.function.Supplier;
+
+/**
+ * Records every conversion of the wrapped {@link EntityMapper} in the {@code app.mapping} timer,
+ * tagged with the conversion and the engine, so mapping cost shows up next to the request and
+ * query timers. The timers are resolved once, up front, to keep the per-call cost to a clock read.
+ */
+public class TimedEntityMapper implements EntityMapper {
+
+    private final EntityMapper delegate;
+
+    private final Timer projectResponse;
+    private final Timer projectResponseWithTasks;
+    private final Timer taskResponse;
+    private final Timer collaboratorResponse;
+    private final Timer projectEntity;
+    private final Timer collaboratorEntity;
+
+    public TimedEntityMapper(EntityMapper delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        String engine = delegate instanceof ModelMapperEntityMapper ? "modelmapper" : "generated";
+        projectResponse = timer(registry, engine, "project.toResponse");
+        projectResponseWithTasks = timer(registry, engine, "project.toResponseWithTasks");
+        taskResponse = timer(registry, engine, "task.toResponse");
+        collaboratorResponse = timer(registry, engine, "collaborator.toResponse");
+        projectEntity = timer(registry, engine, "project.toEntity");
+        collaboratorEntity = timer(registry, engine, "collaborator.toEntity");
+    }
+
+    @Override
+    public ProjectResponseDTO toResponse(Project entity) {
+        return record(projectResponse, () -> delegate.toResponse(entity));
+    }
+
+    @Override
+    public ProjectResponseWithTasksDTO toResponseWithTasks(Project entity) {
+        return record(projectResponseWithTasks, () -> delegate.toResponseWithTasks(entity));
+    }
+
+    @Override
+    public TaskResponseDTO toResponse(Task entity) {
+        return record(taskResponse, () -> delegate.toResponse(entity));
+    }
+
+    @Override
+    public CollaboratorResponseDTO toResponse(Collaborator entity) {
+        return record(collaboratorResponse, () -> delegate.toResponse(entity));
+    }
+
+    @Override
+    public Project toEntity(ProjectCreateDTO dto) {
+        return record(projectEntity, () -> delegate.toEntity(dto));
+    }
+
+    @Override
+    public Collaborator toEntity(CollaboratorCreateDTO dto) {
+        return record(collaboratorEntity, () -> delegate.toEntity(dto));
+    }
+
+    private static <T> T record(Timer timer, Supplier<T> conversion) {
+        return timer.record(conversion);
+    }
+
+    private static Timer timer(MeterRegistry registry, String engine, String conversion) {
+        return Timer.builder("app.mapping")
+                .description("Entity/DTO conversions")
+                .tag("engine", engine)
+                .tag("conversion", conversion)
+                .register(registry);
+    }
+}
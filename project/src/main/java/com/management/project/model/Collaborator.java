@@ -1,29 +1,56 @@
 package com.management.project.model;
 
 import com.management.project.model.enums.FunctionEnum;
+import com.management.project.config.cache.CacheRegions;
+import com.management.project.service.constraints.ConstraintNames;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Check;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 @Entity
-@Table(name = "tb_collaborators")
+@Table(
+        name = "tb_collaborators",
+        uniqueConstraints = @UniqueConstraint(name = ConstraintNames.COLLABORATOR_EMAIL, columnNames = "email")
+)
+@Check(name = ConstraintNames.COLLABORATOR_NAME_LENGTH, constraints = "char_length(name) BETWEEN 3 AND 100")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.COLLABORATORS)
 public class Collaborator implements Serializable {
 
     @Serial
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_collaborators_seq")
+    @SequenceGenerator(name = "tb_collaborators_seq", sequenceName = "tb_collaborators_seq", allocationSize = 50)
     private Long id;
     private String name;
 
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String email;
     private FunctionEnum function;
+    private Instant updatedAt;
+
+    /**
+     * Number of tasks the collaborator is assigned to, kept by the same {@code task_collaborator}
+     * triggers as {@code Task.collaboratorCount}. Read-only for Hibernate.
+     */
+    @ColumnDefault("0")
+    @Column(name = "task_count", insertable = false, updatable = false)
+    private Long taskCount;
+
+    @Version
+    @ColumnDefault("0")
+    private Long version;
 
     @ManyToMany(mappedBy = "collaborators")
     private List<Task> tasks = new ArrayList<>();
@@ -36,6 +63,12 @@ public class Collaborator implements Serializable {
         this.function = function;
     }
 
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = Instant.now();
+    }
+
     public Long getId() {
         return id;
     }
@@ -68,6 +101,18 @@ public class Collaborator implements Serializable {
         this.function = function;
     }
 
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getTaskCount() {
+        return taskCount;
+    }
+
     public List<Task> getTasks() {
         return tasks;
     }
@@ -82,6 +127,10 @@ public class Collaborator implements Serializable {
         task.getCollaborators().remove(this);
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
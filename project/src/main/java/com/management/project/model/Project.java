@@ -1,7 +1,13 @@
 package com.management.project.model;
 
 import com.management.project.model.enums.StatusEnum;
+import com.management.project.config.cache.CacheRegions;
+import com.management.project.service.constraints.ConstraintNames;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Check;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -12,13 +18,17 @@ import java.util.Objects;
 
 @Entity
 @Table(name = "tb_projects")
+@Check(name = ConstraintNames.PROJECT_NAME_LENGTH, constraints = "char_length(name) BETWEEN 3 AND 100")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PROJECTS)
 public class Project implements Serializable {
 
     @Serial
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_projects_seq")
+    @SequenceGenerator(name = "tb_projects_seq", sequenceName = "tb_projects_seq", allocationSize = 50)
     private Long id;
     private String name;
 
@@ -27,7 +37,22 @@ public class Project implements Serializable {
     private Instant createdAt;
     private Instant updatedAt;
 
+    /**
+     * Number of tasks in the project, kept by the V12 triggers on {@code tb_tasks}:
+     * {@code trg_tasks_count_inserted} and {@code trg_tasks_count_deleted}, and
+     * {@code trg_tasks_count_moved} when an update moves a task to another project.
+     * Read-only for Hibernate.
+     */
+    @ColumnDefault("0")
+    @Column(name = "task_count", insertable = false, updatable = false)
+    private Long taskCount;
+
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
     @OneToMany(mappedBy = "project")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PROJECT_TASKS)
     private List<Task> tasks = new ArrayList<>();
 
     public Project() {
@@ -90,6 +115,10 @@ public class Project implements Serializable {
         this.updatedAt = updatedAt;
     }
 
+    public Long getTaskCount() {
+        return taskCount;
+    }
+
     public List<Task> getTasks() {
         return tasks;
     }
@@ -104,6 +133,10 @@ public class Project implements Serializable {
         task.setProject(null);
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
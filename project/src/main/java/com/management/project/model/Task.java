@@ -1,7 +1,14 @@
 package com.management.project.model;
 
 import com.management.project.model.enums.StatusEnum;
+import com.management.project.config.cache.CacheRegions;
+import com.management.project.service.constraints.ConstraintNames;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Check;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.OptimisticLock;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -12,13 +19,17 @@ import java.util.Objects;
 
 @Entity
 @Table(name = "tb_tasks")
+@Check(name = ConstraintNames.TASK_NAME_LENGTH, constraints = "char_length(name) BETWEEN 3 AND 100")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TASKS)
 public class Task implements Serializable {
 
     @Serial
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_tasks_seq")
+    @SequenceGenerator(name = "tb_tasks_seq", sequenceName = "tb_tasks_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -28,10 +39,28 @@ public class Task implements Serializable {
     private Instant createdAt;
     private Instant updatedAt;
 
+    /**
+     * Number of collaborators assigned to the task, kept by {@code trg_assignments_count_inserted}
+     * and {@code trg_assignments_count_deleted} on {@code task_collaborator}. Read-only for Hibernate.
+     */
+    @ColumnDefault("0")
+    @Column(name = "collaborator_count", insertable = false, updatable = false)
+    private Long collaboratorCount;
+
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
     @ManyToOne
+    @JoinColumn(name = "project_id", foreignKey = @ForeignKey(name = ConstraintNames.TASK_PROJECT))
     private Project project;
 
+    /**
+     * Assignments are rows of their own and do not change the task body, so they do not bump {@link #version}.
+     */
     @ManyToMany
+    @OptimisticLock(excluded = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TASK_COLLABORATORS)
     @JoinTable(
             name = "task_collaborator",
             joinColumns = @JoinColumn(name = "task_id"),
@@ -101,6 +130,10 @@ public class Task implements Serializable {
         this.updatedAt = updatedAt;
     }
 
+    public Long getCollaboratorCount() {
+        return collaboratorCount;
+    }
+
     public Project getProject() {
         return project;
     }
@@ -123,6 +156,10 @@ public class Task implements Serializable {
         collaborator.getTasks().remove(this);
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
@@ -1,27 +1,138 @@
 package com.management.project.repository;
 
+import com.management.project.data.dto.collaborator.CollaboratorSuggestionDTO;
 import com.management.project.data.dto.collaborator.CollaboratorTaskCount;
+import com.management.project.data.dto.conditional.ResourceVersion;
 import com.management.project.model.Collaborator;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface CollaboratorRepository extends JpaRepository<Collaborator, Long> {
 
-    boolean existsByEmail(String email);
+    /**
+     * Keyset pages over {@code (name, id)}: the rows that sort after the given position, without
+     * the offset scan and count query of {@link #findAll(org.springframework.data.domain.Pageable)}.
+     */
+    List<Collaborator> findAllByOrderByNameAscIdAsc(Limit limit);
 
+    List<Collaborator> findAllByOrderByNameDescIdDesc(Limit limit);
+
+    @Query("""
+        SELECT c FROM Collaborator c
+        WHERE (c.name, c.id) > (:name, :id)
+        ORDER BY c.name ASC, c.id ASC
+    """)
+    List<Collaborator> findAllAfterAsc(@Param("name") String name, @Param("id") Long id, Limit limit);
+
+    @Query("""
+        SELECT c FROM Collaborator c
+        WHERE (c.name, c.id) < (:name, :id)
+        ORDER BY c.name DESC, c.id DESC
+    """)
+    List<Collaborator> findAllAfterDesc(@Param("name") String name, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT new com.management.project.data.dto.conditional.ResourceVersion(c.version, c.updatedAt) FROM Collaborator c WHERE c.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * Partial update in a single statement, without loading the collaborator: only the non-null arguments are
+     * written, together with {@code updated_at} and the version. {@code expectedVersion}, when given,
+     * is checked in the same statement. Returns the new version, or nothing when no row matched.
+     * The second-level cache is not aware of the change.
+     */
+    @Transactional
+    @Query(value = """
+        UPDATE tb_collaborators
+        SET name = COALESCE(CAST(:name AS varchar), name),
+            email = COALESCE(CAST(:email AS varchar), email),
+            function = COALESCE(CAST(:function AS varchar), function),
+            updated_at = :updatedAt,
+            version = version + 1
+        WHERE id = :id
+          AND (CAST(:expectedVersion AS bigint) IS NULL OR version = CAST(:expectedVersion AS bigint))
+        RETURNING version
+    """, nativeQuery = true)
+    Optional<Long> patch(
+            @Param("id") Long id,
+            @Param("name") String name,
+            @Param("email") String email,
+            @Param("function") String function,
+            @Param("updatedAt") Instant updatedAt,
+            @Param("expectedVersion") Long expectedVersion
+    );
+
+    @Query("SELECT c.id FROM Collaborator c WHERE c.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT c.email FROM Collaborator c WHERE c.email IN :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Reads the trigger-maintained {@code task_count} column in index order instead of grouping
+     * the whole join table. {@code minCount} and {@code limit} bound the range scan on
+     * {@code (task_count DESC, id)}, so a top-K read touches K rows.
+     */
+    @Query(
+            """
+                SELECT
+                  new com.management.project.data.dto.collaborator.CollaboratorTaskCount(c.id, c.name, c.taskCount)
+                FROM Collaborator c
+                WHERE c.taskCount >= :minCount
+                ORDER BY c.taskCount DESC, c.id
+            """
+    )
+    List<CollaboratorTaskCount> countTasksPerCollaborator(@Param("minCount") long minCount, Limit limit);
+
+    /**
+     * Same ranking as {@link #countTasksPerCollaborator(long, Limit)}, read through a server-side
+     * cursor in fetch-size chunks. Must be consumed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
     @Query(
             """
                 SELECT
-                  new com.management.project.data.dto.collaborator.CollaboratorTaskCount(c.id, c.name, COUNT(t))
+                  new com.management.project.data.dto.collaborator.CollaboratorTaskCount(c.id, c.name, c.taskCount)
                 FROM Collaborator c
-                LEFT JOIN c.tasks t
-                GROUP BY c.id, c.name
-                ORDER BY COUNT(t) DESC
+                WHERE c.taskCount >= :minCount
+                ORDER BY c.taskCount DESC, c.id
             """
     )
-    List<CollaboratorTaskCount> countTasksPerCollaborator();
+    Stream<CollaboratorTaskCount> streamTasksPerCollaborator(@Param("minCount") long minCount);
+
+    /**
+     * Every collaborator as the fields of the autocomplete index, read through a server-side cursor in
+     * fetch-size chunks. Must be consumed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.management.project.data.dto.collaborator.CollaboratorSuggestionDTO(c.id, c.name, c.email, c.function) FROM Collaborator c")
+    Stream<CollaboratorSuggestionDTO> streamSuggestions();
+
+    /**
+     * Rewrites every {@code task_count} that no longer matches {@code task_collaborator} and
+     * returns how many collaborators had drifted.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE tb_collaborators c
+        SET task_count = (SELECT COUNT(*) FROM task_collaborator tc WHERE tc.collaborator_id = c.id)
+        WHERE c.task_count <> (SELECT COUNT(*) FROM task_collaborator tc WHERE tc.collaborator_id = c.id)
+    """, nativeQuery = true)
+    int reconcileTaskCounts();
 }
@@ -1,25 +1,170 @@
 package com.management.project.repository;
 
+import com.management.project.data.dto.conditional.ProjectVersionRow;
+import com.management.project.data.dto.conditional.ResourceVersion;
 import com.management.project.data.dto.project.ProjectTaskCountDTO;
+import com.management.project.data.dto.search.SearchHit;
 import com.management.project.model.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectRepositoryCustom {
 
+    /**
+     * Keyset pages over {@code (name, id)}: the rows that sort after the given position, without
+     * the offset scan and count query of {@link #findAll(org.springframework.data.domain.Pageable)}.
+     */
+    List<Project> findAllByOrderByNameAscIdAsc(Limit limit);
+
+    List<Project> findAllByOrderByNameDescIdDesc(Limit limit);
+
+    @Query("""
+        SELECT p FROM Project p
+        WHERE (p.name, p.id) > (:name, :id)
+        ORDER BY p.name ASC, p.id ASC
+    """)
+    List<Project> findAllAfterAsc(@Param("name") String name, @Param("id") Long id, Limit limit);
+
+    @Query("""
+        SELECT p FROM Project p
+        WHERE (p.name, p.id) < (:name, :id)
+        ORDER BY p.name DESC, p.id DESC
+    """)
+    List<Project> findAllAfterDesc(@Param("name") String name, @Param("id") Long id, Limit limit);
+
+    /**
+     * Version of the project detail body, which embeds the tasks: one aggregate over the
+     * {@code project_id} index instead of loading and mapping the collection.
+     */
+    @Query("""
+        SELECT new com.management.project.data.dto.conditional.ResourceVersion(p.version, p.updatedAt, MAX(t.updatedAt), COUNT(t))
+        FROM Project p LEFT JOIN p.tasks t
+        WHERE p.id = :id
+        GROUP BY p.id, p.version, p.updatedAt
+    """)
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * Partial update in a single statement, without loading the project: only the non-null arguments are
+     * written, together with {@code updated_at} and the version. {@code expectedVersion}, when given,
+     * is checked in the same statement. Returns the new version and the task aggregate of the project
+     * tag (as {@link #findVersionById(Long)} computes it), or nothing when no row matched.
+     * The second-level cache is not aware of the change.
+     */
+    @Transactional
+    @Query(value = """
+        UPDATE tb_projects
+        SET name = COALESCE(CAST(:name AS varchar), name),
+            status = COALESCE(CAST(:status AS varchar), status),
+            updated_at = :updatedAt,
+            version = version + 1
+        WHERE id = :id
+          AND (CAST(:expectedVersion AS bigint) IS NULL OR version = CAST(:expectedVersion AS bigint))
+        RETURNING version AS "version",
+            CAST(floor(extract(epoch FROM updated_at) * 1000) AS bigint) AS "updatedAtMillis",
+            (SELECT CAST(floor(extract(epoch FROM MAX(t.updated_at)) * 1000) AS bigint)
+             FROM tb_tasks t WHERE t.project_id = tb_projects.id) AS "tasksUpdatedAtMillis",
+            (SELECT COUNT(*) FROM tb_tasks t WHERE t.project_id = tb_projects.id) AS "tasks"
+    """, nativeQuery = true)
+    Optional<ProjectVersionRow> patch(
+            @Param("id") Long id,
+            @Param("name") String name,
+            @Param("status") String status,
+            @Param("updatedAt") Instant updatedAt,
+            @Param("expectedVersion") Long expectedVersion
+    );
+
+    /**
+     * Full-text match of {@code query} against the {@code search_vector} GIN index. At most
+     * {@code candidates} matches are ranked, which bounds the work for very common words; the best
+     * {@code limit} come back ranked, with a headline whose matches are wrapped in
+     * {@link SearchHit#MATCH_START} and {@link SearchHit#MATCH_END}.
+     */
+    @Query(value = """
+        SELECT r.id AS "id", r.name AS "name", r.project_id AS "projectId", r.rank AS "rank",
+               ts_headline(CAST(:language AS regconfig), r.name, websearch_to_tsquery(CAST(:language AS regconfig), :query),
+                           'StartSel=' || chr(2) || ', StopSel=' || chr(3) || ', HighlightAll=true') AS "highlight"
+        FROM (
+            SELECT c.id, c.name, c.project_id, ts_rank_cd(c.search_vector, websearch_to_tsquery(CAST(:language AS regconfig), :query)) AS rank
+            FROM (
+                SELECT p.id, p.name, p.id AS project_id, p.search_vector
+                FROM tb_projects p
+                WHERE p.search_vector @@ websearch_to_tsquery(CAST(:language AS regconfig), :query)
+                LIMIT :candidates
+            ) c
+            ORDER BY rank DESC, c.id
+            LIMIT :limit
+        ) r
+        ORDER BY r.rank DESC, r.id
+    """, nativeQuery = true)
+    List<SearchHit> search(
+            @Param("language") String language,
+            @Param("query") String query,
+            @Param("candidates") int candidates,
+            @Param("limit") int limit
+    );
+
+    @Query("SELECT p.id FROM Project p WHERE p.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Reads the trigger-maintained {@code task_count} column in index order instead of grouping
+     * the whole task table. {@code minCount} and {@code limit} bound the range scan on
+     * {@code (task_count DESC, id)}, so a top-K read touches K rows.
+     */
     @Query(
             """
                 SELECT
-                    new com.management.project.data.dto.project.ProjectTaskCountDTO(p.id, p.name, COUNT(t))
+                    new com.management.project.data.dto.project.ProjectTaskCountDTO(p.id, p.name, p.taskCount)
                 FROM Project p
-                LEFT JOIN p.tasks t
-                GROUP BY p.id, p.name
-                ORDER BY COUNT(t) DESC
+                WHERE p.taskCount >= :minCount
+                ORDER BY p.taskCount DESC, p.id
             """
     )
-    List<ProjectTaskCountDTO> countTasksPerProject();
+    List<ProjectTaskCountDTO> countTasksPerProject(@Param("minCount") long minCount, Limit limit);
+
+    /**
+     * Same ranking as {@link #countTasksPerProject(long, Limit)}, read through a server-side cursor
+     * in fetch-size chunks. Must be consumed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(
+            """
+                SELECT
+                    new com.management.project.data.dto.project.ProjectTaskCountDTO(p.id, p.name, p.taskCount)
+                FROM Project p
+                WHERE p.taskCount >= :minCount
+                ORDER BY p.taskCount DESC, p.id
+            """
+    )
+    Stream<ProjectTaskCountDTO> streamTasksPerProject(@Param("minCount") long minCount);
+
+    /**
+     * Rewrites every {@code task_count} that no longer matches the task table and returns how many
+     * projects had drifted.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE tb_projects p
+        SET task_count = (SELECT COUNT(*) FROM tb_tasks t WHERE t.project_id = p.id)
+        WHERE p.task_count <> (SELECT COUNT(*) FROM tb_tasks t WHERE t.project_id = p.id)
+    """, nativeQuery = true)
+    int reconcileTaskCounts();
 }
@@ -0,0 +1,16 @@
+package com.management.project.repository;
+
+import com.management.project.model.Project;
+
+import java.util.Optional;
+
+public interface ProjectRepositoryCustom {
+
+    /**
+     * Loads the project and its tasks in a single join query, so mapping the tasks of
+     * {@code GET /v1/projects/{id}} does not trigger one lazy load per collection. It goes through
+     * {@code EntityManager.find}, so a project whose entity and task collection are in the
+     * second-level cache is served without touching the database.
+     */
+    Optional<Project> findWithTasksById(Long id);
+}
@@ -0,0 +1,23 @@
+package com.management.project.repository;
+
+import com.management.project.model.Project;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.SpecHints;
+
+import java.util.Map;
+import java.util.Optional;
+
+public class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Project> findWithTasksById(Long id) {
+        EntityGraph<Project> graph = entityManager.createEntityGraph(Project.class);
+        graph.addAttributeNodes("tasks");
+        return Optional.ofNullable(entityManager.find(Project.class, id, Map.of(SpecHints.HINT_SPEC_FETCH_GRAPH, graph)));
+    }
+}
@@ -1,29 +1,139 @@
 package com.management.project.repository;
 
+import com.management.project.data.dto.collaborator_task.TaskCollaboratorPair;
+import com.management.project.data.dto.conditional.ResourceVersion;
+import com.management.project.data.dto.search.SearchHit;
 import com.management.project.data.dto.task.TaskCollaboratorCountDTO;
 import com.management.project.model.Task;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.management.project.model.enums.StatusEnum;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
 
-    Page<Task> findAllByProjectId(Long id, Pageable page);
+    /**
+     * Keyset page of a project's tasks: the next {@code limit} tasks whose id is greater than
+     * {@code after}. Seeks on the {@code (project_id, id)} index, so deep pages cost the same as
+     * the first one.
+     */
+    List<Task> findByProjectIdAndIdGreaterThanOrderByIdAsc(Long projectId, Long after, Limit limit);
 
+    List<Task> findByProjectIdAndStatusAndIdGreaterThanOrderByIdAsc(
+            Long projectId, StatusEnum status, Long after, Limit limit);
+
+    /**
+     * Reads the trigger-maintained {@code collaborator_count} column through the
+     * {@code (project_id, collaborator_count DESC, id)} index, so only the project's own rows are touched.
+     */
     @Query("""
         SELECT
-            new com.management.project.data.dto.task.TaskCollaboratorCountDTO(t.id, t.name, COUNT(c))
+            new com.management.project.data.dto.task.TaskCollaboratorCountDTO(t.id, t.name, t.collaboratorCount)
         FROM Task t
-        LEFT JOIN t.collaborators c
-        WHERE t.project.id  = :projectId
-        GROUP BY t.id, t.name
-        ORDER BY COUNT(c) DESC
+        WHERE t.project.id = :projectId
+        ORDER BY t.collaboratorCount DESC, t.id
     """)
     List<TaskCollaboratorCountDTO> countCollaboratorsPerTaskByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Rewrites every {@code collaborator_count} that no longer matches {@code task_collaborator}
+     * and returns how many tasks had drifted.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE tb_tasks t
+        SET collaborator_count = (SELECT COUNT(*) FROM task_collaborator tc WHERE tc.task_id = t.id)
+        WHERE t.collaborator_count <> (SELECT COUNT(*) FROM task_collaborator tc WHERE tc.task_id = t.id)
+    """, nativeQuery = true)
+    int reconcileCollaboratorCounts();
+
+    @Query("SELECT new com.management.project.data.dto.conditional.ResourceVersion(t.version, t.updatedAt) FROM Task t WHERE t.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * Partial update in a single statement, without loading the task: only the non-null arguments are
+     * written, together with {@code updated_at} and the version. {@code expectedVersion}, when given,
+     * is checked in the same statement. Returns the new version, or nothing when no row matched.
+     * The second-level cache is not aware of the change.
+     */
+    @Transactional
+    @Query(value = """
+        UPDATE tb_tasks
+        SET name = COALESCE(CAST(:name AS varchar), name),
+            status = COALESCE(CAST(:status AS varchar), status),
+            updated_at = :updatedAt,
+            version = version + 1
+        WHERE id = :id
+          AND (CAST(:expectedVersion AS bigint) IS NULL OR version = CAST(:expectedVersion AS bigint))
+        RETURNING version
+    """, nativeQuery = true)
+    Optional<Long> patch(
+            @Param("id") Long id,
+            @Param("name") String name,
+            @Param("status") String status,
+            @Param("updatedAt") Instant updatedAt,
+            @Param("expectedVersion") Long expectedVersion
+    );
+
+    /**
+     * Full-text match of {@code query} against the {@code search_vector} GIN index. At most
+     * {@code candidates} matches are ranked, which bounds the work for very common words; the best
+     * {@code limit} come back ranked, with a headline whose matches are wrapped in
+     * {@link SearchHit#MATCH_START} and {@link SearchHit#MATCH_END}.
+     */
+    @Query(value = """
+        SELECT r.id AS "id", r.name AS "name", r.project_id AS "projectId", r.rank AS "rank",
+               ts_headline(CAST(:language AS regconfig), r.name, websearch_to_tsquery(CAST(:language AS regconfig), :query),
+                           'StartSel=' || chr(2) || ', StopSel=' || chr(3) || ', HighlightAll=true') AS "highlight"
+        FROM (
+            SELECT c.id, c.name, c.project_id, ts_rank_cd(c.search_vector, websearch_to_tsquery(CAST(:language AS regconfig), :query)) AS rank
+            FROM (
+                SELECT t.id, t.name, t.project_id AS project_id, t.search_vector
+                FROM tb_tasks t
+                WHERE t.search_vector @@ websearch_to_tsquery(CAST(:language AS regconfig), :query)
+                LIMIT :candidates
+            ) c
+            ORDER BY rank DESC, c.id
+            LIMIT :limit
+        ) r
+        ORDER BY r.rank DESC, r.id
+    """, nativeQuery = true)
+    List<SearchHit> search(
+            @Param("language") String language,
+            @Param("query") String query,
+            @Param("candidates") int candidates,
+            @Param("limit") int limit
+    );
+
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Inserts the given (task, collaborator) pairs straight into the join table, position by
+     * position, and returns only the pairs that were new: already assigned pairs are skipped by
+     * {@code ON CONFLICT DO NOTHING} instead of failing the statement.
+     */
+    @Transactional
+    @Query(value = """
+        INSERT INTO task_collaborator (task_id, collaborator_id)
+        SELECT * FROM unnest(CAST(:taskIds AS bigint[]), CAST(:collaboratorIds AS bigint[]))
+        ON CONFLICT DO NOTHING
+        RETURNING task_id AS "taskId", collaborator_id AS "collaboratorId"
+    """, nativeQuery = true)
+    List<TaskCollaboratorPair> insertCollaboratorAssignments(
+            @Param("taskIds") Long[] taskIds,
+            @Param("collaboratorIds") Long[] collaboratorIds
+    );
 }
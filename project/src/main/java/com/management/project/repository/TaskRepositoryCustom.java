@@ -0,0 +1,24 @@
+package com.management.project.repository;
+
+import com.management.project.model.enums.StatusEnum;
+
+import java.time.Instant;
+import java.util.Collection;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Moves the tasks of a project to {@code status} in one set-based {@code UPDATE}, setting
+     * {@code updatedAt} and bumping the version the way a managed update would. Null filters are
+     * ignored; tasks already in {@code status} are not touched. Being a Hibernate bulk update, it
+     * also invalidates the cached tasks. Returns the number of tasks moved.
+     */
+    int updateStatusByProjectId(
+            Long projectId,
+            StatusEnum status,
+            StatusEnum currentStatus,
+            Collection<Long> ids,
+            Instant updatedBefore,
+            Instant updatedAt
+    );
+}
@@ -0,0 +1,53 @@
+package com.management.project.repository;
+
+import com.management.project.model.Task;
+import com.management.project.model.enums.StatusEnum;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int updateStatusByProjectId(
+            Long projectId,
+            StatusEnum status,
+            StatusEnum currentStatus,
+            Collection<Long> ids,
+            Instant updatedBefore,
+            Instant updatedAt
+    ) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = builder.createCriteriaUpdate(Task.class);
+        Root<Task> task = update.from(Task.class);
+
+        List<Predicate> filters = new ArrayList<>();
+        filters.add(builder.equal(task.get("project").get("id"), projectId));
+        filters.add(builder.notEqual(task.get("status"), status));
+        if (currentStatus != null)
+            filters.add(builder.equal(task.get("status"), currentStatus));
+        if (ids != null)
+            filters.add(task.get("id").in(ids));
+        if (updatedBefore != null)
+            filters.add(builder.lessThan(task.get("updatedAt"), updatedBefore));
+
+        update.set(task.<StatusEnum>get("status"), status)
+                .set(task.<Instant>get("updatedAt"), updatedAt)
+                .set(task.<Long>get("version"), builder.sum(task.get("version"), 1L))
+                .where(filters.toArray(Predicate[]::new));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
@@ -0,0 +1,158 @@
+package com.management.project.repository.reactive;
+
+import com.management.project.data.dto.collaborator.CollaboratorTaskCount;
+import com.management.project.data.dto.project.ProjectSummaryDTO;
+import com.management.project.data.dto.project.ProjectTaskCountDTO;
+import com.management.project.data.dto.task.TaskCollaboratorCountDTO;
+import com.management.project.data.dto.task.TaskSummaryDTO;
+import com.management.project.model.enums.StatusEnum;
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Read-only queries of the {@code /v2} API over R2DBC, against the same tables JPA maps. Lists are
+ * read with a fetch size, so the driver pulls rows from a server-side portal only as fast as the
+ * subscriber requests them. A {@code null} limit binds {@code LIMIT NULL}, which PostgreSQL reads as
+ * no limit.
+ * <p>
+ * Timestamps are stored without time zone in the JVM default zone, as Hibernate writes them, and
+ * are converted back the same way.
+ */
+@Repository
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true", matchIfMissing = true)
+public class ReactiveReadRepository {
+
+    private static final int FETCH_SIZE = 500;
+
+    private final DatabaseClient client;
+
+    public ReactiveReadRepository(DatabaseClient client) {
+        this.client = client;
+    }
+
+    public Flux<ProjectSummaryDTO> findProjects(long after, Integer limit) {
+        GenericExecuteSpec spec = client.sql("""
+                SELECT id, name, status, created_at, updated_at
+                FROM tb_projects
+                WHERE id > :after
+                ORDER BY id
+                LIMIT :limit
+                """)
+                .bind("after", after);
+        return withLimit(spec, limit).map(ReactiveReadRepository::toProject).all();
+    }
+
+    public Mono<ProjectSummaryDTO> findProjectById(long id) {
+        return client.sql("SELECT id, name, status, created_at, updated_at FROM tb_projects WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveReadRepository::toProject)
+                .one();
+    }
+
+    public Mono<Boolean> existsProjectById(long id) {
+        return client.sql("SELECT EXISTS (SELECT 1 FROM tb_projects WHERE id = :id) AS present")
+                .bind("id", id)
+                .map(row -> row.get("present", Boolean.class))
+                .one();
+    }
+
+    public Flux<TaskSummaryDTO> findTasksByProjectId(long projectId, long after, Integer limit) {
+        GenericExecuteSpec spec = client.sql("""
+                SELECT id, name, status, created_at, updated_at, project_id
+                FROM tb_tasks
+                WHERE project_id = :projectId AND id > :after
+                ORDER BY id
+                LIMIT :limit
+                """)
+                .bind("projectId", projectId)
+                .bind("after", after);
+        return withLimit(spec, limit).map(ReactiveReadRepository::toTask).all();
+    }
+
+    public Flux<ProjectTaskCountDTO> countTasksPerProject(long minCount, Integer limit) {
+        GenericExecuteSpec spec = client.sql("""
+                SELECT id, name, task_count
+                FROM tb_projects
+                WHERE task_count >= :minCount
+                ORDER BY task_count DESC, id
+                LIMIT :limit
+                """)
+                .bind("minCount", minCount);
+        return withLimit(spec, limit)
+                .map(row -> new ProjectTaskCountDTO(longValue(row, "id"), row.get("name", String.class), longValue(row, "task_count")))
+                .all();
+    }
+
+    public Flux<CollaboratorTaskCount> countTasksPerCollaborator(long minCount, Integer limit) {
+        GenericExecuteSpec spec = client.sql("""
+                SELECT id, name, task_count
+                FROM tb_collaborators
+                WHERE task_count >= :minCount
+                ORDER BY task_count DESC, id
+                LIMIT :limit
+                """)
+                .bind("minCount", minCount);
+        return withLimit(spec, limit)
+                .map(row -> new CollaboratorTaskCount(longValue(row, "id"), row.get("name", String.class), longValue(row, "task_count")))
+                .all();
+    }
+
+    public Flux<TaskCollaboratorCountDTO> countCollaboratorsPerTaskByProjectId(long projectId) {
+        return client.sql("""
+                SELECT id, name, collaborator_count
+                FROM tb_tasks
+                WHERE project_id = :projectId
+                ORDER BY collaborator_count DESC, id
+                """)
+                .bind("projectId", projectId)
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(row -> new TaskCollaboratorCountDTO(longValue(row, "id"), row.get("name", String.class), longValue(row, "collaborator_count")))
+                .all();
+    }
+
+    private static GenericExecuteSpec withLimit(GenericExecuteSpec spec, Integer limit) {
+        spec = limit == null ? spec.bindNull("limit", Integer.class) : spec.bind("limit", limit);
+        return spec.filter(statement -> statement.fetchSize(FETCH_SIZE));
+    }
+
+    private static ProjectSummaryDTO toProject(Readable row) {
+        return new ProjectSummaryDTO(
+                longValue(row, "id"),
+                row.get("name", String.class),
+                StatusEnum.valueOf(row.get("status", String.class)),
+                instant(row, "created_at"),
+                instant(row, "updated_at")
+        );
+    }
+
+    private static TaskSummaryDTO toTask(Readable row) {
+        return new TaskSummaryDTO(
+                longValue(row, "id"),
+                row.get("name", String.class),
+                StatusEnum.valueOf(row.get("status", String.class)),
+                instant(row, "created_at"),
+                instant(row, "updated_at"),
+                longValue(row, "project_id")
+        );
+    }
+
+    // integer and bigint columns decode to different boxed types
+    private static Long longValue(Readable row, String column) {
+        Number value = row.get(column, Number.class);
+        return value == null ? null : value.longValue();
+    }
+
+    private static Instant instant(Readable row, String column) {
+        LocalDateTime value = row.get(column, LocalDateTime.class);
+        return value == null ? null : value.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
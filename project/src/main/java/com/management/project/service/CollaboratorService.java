@@ -1,41 +1,71 @@
 package com.management.project.service;
 
 import com.management.project.controller.CollaboratorController;
+import com.management.project.data.dto.bulk.BulkItemResultDTO;
+import com.management.project.data.dto.bulk.BulkResponseDTO;
 import com.management.project.data.dto.collaborator.CollaboratorCreateDTO;
 import com.management.project.data.dto.collaborator.CollaboratorResponseDTO;
 import com.management.project.data.dto.collaborator.CollaboratorTaskCount;
 import com.management.project.data.dto.collaborator.CollaboratorUpdateDTO;
+import com.management.project.data.dto.conditional.ResourceVersion;
+import com.management.project.data.dto.pagination.CursorPageDTO;
+import com.management.project.data.mapper.EntityMapper;
 import com.management.project.model.Collaborator;
 import com.management.project.repository.CollaboratorRepository;
+import com.management.project.service.cache.SecondLevelCacheEvictor;
+import com.management.project.service.constraints.ConstraintNames;
 import com.management.project.service.exceptions.*;
-import org.modelmapper.ModelMapper;
+import com.management.project.service.pagination.NameCursor;
+import com.management.project.service.streaming.JsonArrayWriter;
+import com.management.project.service.suggest.CollaboratorSuggestService;
+import com.management.project.service.validation.InputValidator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Stream;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+import static com.management.project.controller.links.LinkTemplates.*;
 
 
 @Service
 public class CollaboratorService {
 
+    public static final int MAX_BULK_SIZE = 5000;
+    public static final int MAX_RANKING_SIZE = 1000;
+
     @Autowired
     private CollaboratorRepository repository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private EntityMapper mapper;
+
+    @Autowired
+    private SecondLevelCacheEvictor cacheEvictor;
+
+    @Autowired
+    private JsonArrayWriter jsonArrayWriter;
+
+    @Autowired
+    private CollaboratorSuggestService suggestService;
+
+    @Autowired
+    private InputValidator validator;
 
     @Autowired
     PagedResourcesAssembler<CollaboratorResponseDTO> assembler;
@@ -43,7 +73,7 @@ public class CollaboratorService {
     public PagedModel<EntityModel<CollaboratorResponseDTO>> findAll(Pageable pageable) {
         var dtoResponse = repository.findAll(pageable)
                 .map(coll ->{
-                    var dto = modelMapper.map(coll, CollaboratorResponseDTO.class);
+                    var dto = mapper.toResponse(coll);
                     addHateoasLinks(dto);
                     return dto;
                 });
@@ -58,10 +88,65 @@ public class CollaboratorService {
         return assembler.toModel(dtoResponse, findAllLinks);
     }
 
+    public CursorPageDTO<CollaboratorResponseDTO> findAllByCursor(String after, Integer size, Direction direction) {
+        int pageSize = Math.max(1, Math.min(size, CursorPageDTO.MAX_SIZE));
+        // One extra row tells whether another page exists without a count query.
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Collaborator> entities;
+        if(after == null || after.isEmpty()) {
+            entities = direction.isAscending()
+                    ? repository.findAllByOrderByNameAscIdAsc(limit)
+                    : repository.findAllByOrderByNameDescIdDesc(limit);
+        } else {
+            NameCursor cursor = NameCursor.decode(after);
+            entities = direction.isAscending()
+                    ? repository.findAllAfterAsc(cursor.getName(), cursor.getId(), limit)
+                    : repository.findAllAfterDesc(cursor.getName(), cursor.getId(), limit);
+        }
+
+        boolean hasNext = entities.size() > pageSize;
+        if(hasNext)
+            entities = entities.subList(0, pageSize);
+
+        List<CollaboratorResponseDTO> content = entities.stream()
+                .map(coll -> {
+                    var dto = mapper.toResponse(coll);
+                    addHateoasLinks(dto);
+                    return dto;
+                })
+                .toList();
+
+        String nextCursor = null;
+        if(hasNext) {
+            Collaborator last = entities.get(entities.size() - 1);
+            nextCursor = new NameCursor(last.getName(), last.getId()).encode();
+        }
+        CursorPageDTO<CollaboratorResponseDTO> page = new CursorPageDTO<>(content, pageSize, nextCursor);
+
+        String directionParam = direction.name().toLowerCase();
+        page.add(WebMvcLinkBuilder.linkTo(
+                WebMvcLinkBuilder.methodOn(CollaboratorController.class).findAllByCursor(after == null ? "" : after, pageSize, directionParam)
+        ).withSelfRel().expand());
+        if(hasNext)
+            page.add(WebMvcLinkBuilder.linkTo(
+                    WebMvcLinkBuilder.methodOn(CollaboratorController.class).findAllByCursor(nextCursor, pageSize, directionParam)
+            ).withRel("next").expand());
+        return page;
+    }
+
+    /**
+     * Validators for a conditional {@code findById}, read without loading or mapping the entity.
+     */
+    public ResourceVersion findVersion(Long id) {
+        return repository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Collaborator not found"));
+    }
+
     public CollaboratorResponseDTO findById(Long id) {
         Collaborator entity = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Collaborator not found"));
-        CollaboratorResponseDTO dtoResponse = modelMapper.map(entity, CollaboratorResponseDTO.class);
+        CollaboratorResponseDTO dtoResponse = mapper.toResponse(entity);
         addHateoasLinks(dtoResponse);
         return dtoResponse;
     }
@@ -70,43 +155,123 @@ public class CollaboratorService {
         return repository.count();
     }
 
-    public List<CollaboratorTaskCount> countTasksPerCollaborator() {
-        return repository.countTasksPerCollaborator();
+    public List<CollaboratorTaskCount> countTasksPerCollaborator(Integer limit, Long minCount) {
+        int top = Math.max(1, Math.min(limit, MAX_RANKING_SIZE));
+        return repository.countTasksPerCollaborator(Math.max(0, minCount), Limit.of(top));
     }
 
+    /**
+     * Writes the whole ranking as a JSON array while it is read, for clients that need every row.
+     */
+    @Transactional(readOnly = true)
+    public void writeTasksPerCollaborator(Long minCount, OutputStream out) throws IOException {
+        try (Stream<CollaboratorTaskCount> rows = repository.streamTasksPerCollaborator(Math.max(0, minCount))) {
+            jsonArrayWriter.write(rows, out);
+        }
+    }
+
+    /**
+     * A single {@code INSERT}: a taken email is reported by the unique constraint on
+     * {@code tb_collaborators.email}, not checked beforehand.
+     */
     public CollaboratorResponseDTO create(CollaboratorCreateDTO dto) {
         if(dto == null)
             throw new RequiredObjectIsNullException();
+        validator.validate(dto).orThrow();
 
-        if(dto.getName() == null || dto.getName().isEmpty())
-            throw new EmptyNameException("The name cannot be null or blank.");
+        Collaborator entity = mapper.toEntity(dto);
+        try {
+            repository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            throw constraintViolation(e, dto.getEmail());
+        }
+        suggestService.put(entity);
+        CollaboratorResponseDTO dtoResponse = mapper.toResponse(entity);
+        addHateoasLinks(dtoResponse);
+        return dtoResponse;
+    }
 
-        if(dto.getName().length() < 3 || dto.getName().length() > 100)
-            throw new InvalidNameSizeException("The name field must be between 3 and 100 characters.");
+    /**
+     * Creates every valid item in one transaction. Emails repeated inside the request and emails
+     * already stored are both detected up front, the latter with a single {@code IN} query, and
+     * the collaborators are written through {@code saveAll} as JDBC batches.
+     */
+    @Transactional
+    public BulkResponseDTO<CollaboratorResponseDTO> bulkCreate(List<CollaboratorCreateDTO> dtos) {
+        if(dtos == null || dtos.isEmpty())
+            throw new RequiredObjectIsNullException();
 
-        if(!isValidEmail(dto.getEmail()))
-            throw new InvalidEmailException("The email provided is invalid.");
+        if(dtos.size() > MAX_BULK_SIZE)
+            throw new BulkSizeExceededException("A bulk request accepts at most " + MAX_BULK_SIZE + " items.");
 
-        if(repository.existsByEmail(dto.getEmail()))
-            throw new EmailAlreadyExistsException("The email " + dto.getEmail() + " is already in use.");
+        List<BulkItemResultDTO<CollaboratorResponseDTO>> results = new ArrayList<>(Collections.nCopies(dtos.size(), null));
+        Set<String> emails = new HashSet<>();
+        for(int i = 0; i < dtos.size(); i++) {
+            CollaboratorCreateDTO dto = dtos.get(i);
+            String error = dto == null ? RequiredObjectIsNullException.DEFAULT_MESSAGE : validator.validate(dto).getMessage();
+            if(error != null) {
+                results.set(i, BulkItemResultDTO.failed(i, 400, error));
+                continue;
+            }
+            if(!emails.add(dto.getEmail()))
+                results.set(i, BulkItemResultDTO.failed(i, 409, "The email " + dto.getEmail() + " is repeated in the request."));
+        }
 
-        Collaborator entity = modelMapper.map(dto, Collaborator.class);
-        repository.save(entity);
-        CollaboratorResponseDTO dtoResponse = modelMapper.map(entity, CollaboratorResponseDTO.class);
-        addHateoasLinks(dtoResponse);
-        return dtoResponse;
+        Set<String> existingEmails = emails.isEmpty() ? Set.of() : repository.findExistingEmails(emails);
+
+        List<Integer> indexes = new ArrayList<>();
+        List<Collaborator> entities = new ArrayList<>();
+        for(int i = 0; i < dtos.size(); i++) {
+            if(results.get(i) != null)
+                continue;
+            CollaboratorCreateDTO dto = dtos.get(i);
+            if(existingEmails.contains(dto.getEmail())) {
+                results.set(i, BulkItemResultDTO.failed(i, 409, "The email " + dto.getEmail() + " is already in use."));
+                continue;
+            }
+            indexes.add(i);
+            entities.add(mapper.toEntity(dto));
+        }
+
+        repository.saveAll(entities);
+        suggestService.putAll(entities);
+
+        for(int i = 0; i < entities.size(); i++) {
+            CollaboratorResponseDTO dtoResponse = mapper.toResponse(entities.get(i));
+            addHateoasLinks(dtoResponse);
+            results.set(indexes.get(i), BulkItemResultDTO.created(indexes.get(i), dtoResponse));
+        }
+        return BulkResponseDTO.of(results);
     }
 
     public CollaboratorResponseDTO update(Long id, CollaboratorUpdateDTO updatedData) {
+        return update(id, updatedData, null);
+    }
+
+    /**
+     * Applies the update only if the collaborator still matches {@code ifMatch}, when given. An update
+     * committed by someone else between the read and the write fails the version check with
+     * {@link ConcurrentUpdateException} instead of being overwritten.
+     */
+    public CollaboratorResponseDTO update(Long id, CollaboratorUpdateDTO updatedData, String ifMatch) {
         if(updatedData == null)
             throw new RequiredObjectIsNullException();
 
         Collaborator entity = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Collaborator not found"));
+        if(ifMatch != null && !new ResourceVersion(entity.getVersion(), entity.getUpdatedAt()).matches(ifMatch))
+            throw new PreconditionFailedException("Collaborator has changed since it was read");
 
         updateData(entity, updatedData);
-        repository.save(entity);
-        CollaboratorResponseDTO dtoResponse = modelMapper.map(entity, CollaboratorResponseDTO.class);
+        try {
+            repository.save(entity);
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConcurrentUpdateException("Collaborator was updated concurrently, reload it and retry");
+        } catch (DataIntegrityViolationException e) {
+            throw constraintViolation(e, updatedData.getEmail());
+        }
+        suggestService.put(entity);
+        CollaboratorResponseDTO dtoResponse = mapper.toResponse(entity);
         addHateoasLinks(dtoResponse);
         return dtoResponse;
     }
@@ -114,6 +279,8 @@ public class CollaboratorService {
     public void deleteById(Long id) {
         try {
             repository.deleteById(id);
+            cacheEvictor.evictCollaboratorCascade();
+            suggestService.remove(id);
         } catch (EmptyResultDataAccessException e) {
             throw new ResourceNotFoundException("Collaborator not found");
         } catch (DataIntegrityViolationException e) {
@@ -121,40 +288,72 @@ public class CollaboratorService {
         }
     }
 
+    /**
+     * Partial update in one {@code UPDATE ... RETURNING} of the non-null fields instead of a load and a
+     * full-row save. An {@code If-Match} naming one version is checked by the same statement; other
+     * preconditions, and requests with no field to write, take the
+     * {@link #update(Long, CollaboratorUpdateDTO, String)} path.
+     */
+    public ResourceVersion patch(Long id, CollaboratorUpdateDTO updatedData, String ifMatch) {
+        if(updatedData == null)
+            throw new RequiredObjectIsNullException();
+        validator.validate(updatedData).orThrow();
+
+        Long expectedVersion = ifMatch == null ? null : ResourceVersion.expectedVersion(ifMatch).orElse(null);
+        boolean checkable = ifMatch == null || expectedVersion != null || ifMatch.trim().equals("*");
+        boolean empty = updatedData.getName() == null && updatedData.getEmail() == null && updatedData.getFunction() == null;
+        if(!checkable || empty) {
+            update(id, updatedData, ifMatch);
+            return findVersion(id);
+        }
+
+        Instant updatedAt = Instant.now();
+        // same ordinal encoding Hibernate writes for the unannotated enum
+        String function = updatedData.getFunction() == null ? null : String.valueOf(updatedData.getFunction().ordinal());
+        Long version;
+        try {
+            version = repository.patch(id, updatedData.getName(), updatedData.getEmail(), function, updatedAt, expectedVersion)
+                    .orElseThrow(() -> repository.existsById(id)
+                            ? new PreconditionFailedException("Collaborator has changed since it was read")
+                            : new ResourceNotFoundException("Collaborator not found"));
+        } catch (DataIntegrityViolationException e) {
+            throw constraintViolation(e, updatedData.getEmail());
+        }
+        cacheEvictor.evictEntity(Collaborator.class, id);
+        suggestService.merge(id, updatedData);
+        return new ResourceVersion(version, updatedAt);
+    }
+
     private void updateData(Collaborator entity, CollaboratorUpdateDTO updatedData) {
-        if(updatedData.getName() != null) {
-            if(updatedData.getName().length() < 3 || updatedData.getName().length() > 100)
-                throw new InvalidNameSizeException("The name field must be between 3 and 100 characters.");
+        validator.validate(updatedData).orThrow();
+        if(updatedData.getName() != null)
             entity.setName(updatedData.getName());
-        }
 
-        if(updatedData.getEmail() != null) {
-            if(!isValidEmail(updatedData.getEmail()))
-                throw new InvalidEmailException("The email provided is invalid.");
+        if(updatedData.getEmail() != null)
             entity.setEmail(updatedData.getEmail());
-        }
 
         if(updatedData.getFunction() != null)
             entity.setFunction(updatedData.getFunction());
     }
 
-    private boolean isValidEmail(String email) {
-        final String EMAIL_REGEX = "^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
-        Pattern pattern = Pattern.compile(EMAIL_REGEX);
-        Matcher matcher = pattern.matcher(email);
-        return matcher.matches();
+    /**
+     * The exception for a write the database rejected, told apart by the violated constraint.
+     */
+    private RuntimeException constraintViolation(DataIntegrityViolationException e, String email) {
+        return switch (ConstraintNames.of(e)) {
+            case ConstraintNames.COLLABORATOR_EMAIL ->
+                    new EmailAlreadyExistsException("The email " + email + " is already in use.");
+            case ConstraintNames.COLLABORATOR_NAME_LENGTH ->
+                    new InvalidNameSizeException("The name field must be between 3 and 100 characters.");
+            default -> new DatabaseException(e.getMessage());
+        };
     }
 
     private void addHateoasLinks(CollaboratorResponseDTO dto) {
-        dto.add(linkTo(methodOn(CollaboratorController.class).findAll(0, 10, "desc")).withRel("findAll").withType("GET"));
-        dto.add(linkTo(methodOn(CollaboratorController.class).findById(dto.getId())).withSelfRel().withType("GET"));
-
-        CollaboratorCreateDTO dtoCreated = new CollaboratorCreateDTO(dto.getName(), dto.getEmail(), dto.getFunction());
-        dto.add(linkTo(methodOn(CollaboratorController.class).create(dtoCreated)).withRel("create").withType("POST"));
-
-        CollaboratorUpdateDTO dtoUpdated = new CollaboratorUpdateDTO(dto.getName(), dto.getEmail(), dto.getFunction());
-        dto.add(linkTo(methodOn(CollaboratorController.class).update(dto.getId(), dtoUpdated)).withRel("update").withType("PUT"));
-
-        dto.add(linkTo(methodOn(CollaboratorController.class).delete(dto.getId())).withRel("delete").withType("DELETE"));
+        dto.add(COLLABORATOR_FIND_ALL.toLink());
+        dto.add(COLLABORATOR_SELF.expand(dto.getId()));
+        dto.add(COLLABORATOR_CREATE.toLink());
+        dto.add(COLLABORATOR_UPDATE.expand(dto.getId()));
+        dto.add(COLLABORATOR_DELETE.expand(dto.getId()));
     }
 }
@@ -1,37 +1,63 @@
 package com.management.project.service;
 
 import com.management.project.controller.ProjectController;
-import com.management.project.controller.TaskController;
 import com.management.project.data.dto.project.*;
+import com.management.project.data.dto.conditional.ResourceVersion;
+import com.management.project.data.dto.pagination.CursorPageDTO;
+import com.management.project.data.mapper.EntityMapper;
 import com.management.project.model.Project;
+import com.management.project.model.Task;
 import com.management.project.repository.ProjectRepository;
+import com.management.project.service.cache.SecondLevelCacheEvictor;
 import com.management.project.service.exceptions.*;
-import org.modelmapper.ModelMapper;
+import com.management.project.service.pagination.NameCursor;
+import com.management.project.service.streaming.JsonArrayWriter;
+import com.management.project.service.validation.InputValidator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+import static com.management.project.controller.links.LinkTemplates.*;
 
 
 @Service
 public class ProjectService {
 
+    public static final int MAX_RANKING_SIZE = 1000;
+
     @Autowired
     private ProjectRepository repository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private EntityMapper mapper;
+
+    @Autowired
+    private SecondLevelCacheEvictor cacheEvictor;
+
+    @Autowired
+    private JsonArrayWriter jsonArrayWriter;
+
+    @Autowired
+    private InputValidator validator;
 
     @Autowired
     PagedResourcesAssembler<ProjectResponseDTO> assembler;
@@ -39,7 +65,7 @@ public class ProjectService {
     public PagedModel<EntityModel<ProjectResponseDTO>> findAll(Pageable pageable) {
         var dtoResponse = repository.findAll(pageable)
                 .map(prod ->{
-                    var dto = modelMapper.map(prod, ProjectResponseDTO.class);
+                    var dto = mapper.toResponse(prod);
                     addHateoasLinks(dto);
                     return dto;
                 });
@@ -54,19 +80,84 @@ public class ProjectService {
         return assembler.toModel(dtoResponse, findAllLinks);
     }
 
+    public CursorPageDTO<ProjectResponseDTO> findAllByCursor(String after, Integer size, Direction direction) {
+        int pageSize = Math.max(1, Math.min(size, CursorPageDTO.MAX_SIZE));
+        // One extra row tells whether another page exists without a count query.
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Project> entities;
+        if(after == null || after.isEmpty()) {
+            entities = direction.isAscending()
+                    ? repository.findAllByOrderByNameAscIdAsc(limit)
+                    : repository.findAllByOrderByNameDescIdDesc(limit);
+        } else {
+            NameCursor cursor = NameCursor.decode(after);
+            entities = direction.isAscending()
+                    ? repository.findAllAfterAsc(cursor.getName(), cursor.getId(), limit)
+                    : repository.findAllAfterDesc(cursor.getName(), cursor.getId(), limit);
+        }
+
+        boolean hasNext = entities.size() > pageSize;
+        if(hasNext)
+            entities = entities.subList(0, pageSize);
+
+        List<ProjectResponseDTO> content = entities.stream()
+                .map(prod -> {
+                    var dto = mapper.toResponse(prod);
+                    addHateoasLinks(dto);
+                    return dto;
+                })
+                .toList();
+
+        String nextCursor = null;
+        if(hasNext) {
+            Project last = entities.get(entities.size() - 1);
+            nextCursor = new NameCursor(last.getName(), last.getId()).encode();
+        }
+        CursorPageDTO<ProjectResponseDTO> page = new CursorPageDTO<>(content, pageSize, nextCursor);
+
+        String directionParam = direction.name().toLowerCase();
+        page.add(WebMvcLinkBuilder.linkTo(
+                WebMvcLinkBuilder.methodOn(ProjectController.class).findAllByCursor(after == null ? "" : after, pageSize, directionParam)
+        ).withSelfRel().expand());
+        if(hasNext)
+            page.add(WebMvcLinkBuilder.linkTo(
+                    WebMvcLinkBuilder.methodOn(ProjectController.class).findAllByCursor(nextCursor, pageSize, directionParam)
+            ).withRel("next").expand());
+        return page;
+    }
+
     public long countProducts() {
         return repository.count();
     }
 
-    public List<ProjectTaskCountDTO> countTasksPerProject() {
-        return repository.countTasksPerProject();
+    public List<ProjectTaskCountDTO> countTasksPerProject(Integer limit, Long minCount) {
+        int top = Math.max(1, Math.min(limit, MAX_RANKING_SIZE));
+        return repository.countTasksPerProject(Math.max(0, minCount), Limit.of(top));
+    }
+
+    /**
+     * Writes the whole ranking as a JSON array while it is read, for clients that need every row.
+     */
+    @Transactional(readOnly = true)
+    public void writeTasksPerProject(Long minCount, OutputStream out) throws IOException {
+        try (Stream<ProjectTaskCountDTO> rows = repository.streamTasksPerProject(Math.max(0, minCount))) {
+            jsonArrayWriter.write(rows, out);
+        }
+    }
+
+    /**
+     * Validators for a conditional {@code findById}, read without loading or mapping the entity.
+     */
+    public ResourceVersion findVersion(Long id) {
+        return repository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
     }
 
     public ProjectResponseWithTasksDTO findById(Long id) {
-        Project entity = repository.findById(id)
+        Project entity = repository.findWithTasksById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
-        System.out.println(entity);
-        ProjectResponseWithTasksDTO dto = modelMapper.map(entity, ProjectResponseWithTasksDTO.class);
+        ProjectResponseWithTasksDTO dto = mapper.toResponseWithTasks(entity);
         addHateoasLinks(dto);
         return dto;
     }
@@ -74,38 +165,74 @@ public class ProjectService {
     public ProjectResponseDTO create(ProjectCreateDTO dto) {
         if(dto == null)
             throw new RequiredObjectIsNullException();
+        validator.validate(dto).orThrow();
 
-        if(dto.getName() == null || dto.getName().isEmpty())
-            throw new EmptyNameException("The name cannot be null or blank.");
-
-        if(dto.getName().length() < 3 || dto.getName().length() > 100)
-            throw new InvalidNameSizeException("The name field must be between 3 and 100 characters.");
-
-
-        Project entity = modelMapper.map(dto, Project.class);
+        Project entity = mapper.toEntity(dto);
         repository.save(entity);
-        ProjectResponseDTO dtoResponse = modelMapper.map(entity, ProjectResponseDTO.class);
+        ProjectResponseDTO dtoResponse = mapper.toResponse(entity);
         addHateoasLinks(dtoResponse);
         return dtoResponse;
     }
 
     public ProjectResponseDTO update(Long id, ProjectUpdateDTO updatedData) {
+        return update(id, updatedData, null);
+    }
+
+    /**
+     * Applies the update only if the project still matches {@code ifMatch}, when given. An update
+     * committed by someone else between the read and the write fails the version check with
+     * {@link ConcurrentUpdateException} instead of being overwritten. The project tag covers its
+     * tasks, so a conditional update loads them with the project and compares the tag of the
+     * entity it is about to save.
+     */
+    public ProjectResponseDTO update(Long id, ProjectUpdateDTO updatedData, String ifMatch) {
         if(updatedData == null)
             throw new RequiredObjectIsNullException();
 
-        Project entity = repository.findById(id)
+        Project entity = (ifMatch == null ? repository.findById(id) : repository.findWithTasksById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+        if(ifMatch != null && !versionOf(entity).matches(ifMatch))
+            throw new PreconditionFailedException("Project has changed since it was read");
 
         updateData(entity, updatedData);
-        repository.save(entity);
-        ProjectResponseDTO dtoResponse = modelMapper.map(entity, ProjectResponseDTO.class);
+        try {
+            repository.save(entity);
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConcurrentUpdateException("Project was updated concurrently, reload it and retry");
+        }
+        ProjectResponseDTO dtoResponse = mapper.toResponse(entity);
         addHateoasLinks(dtoResponse);
         return dtoResponse;
     }
 
+    /**
+     * Partial update for the high-volume status flips: one {@code UPDATE ... RETURNING} of the non-null
+     * fields instead of a load and a full-row save. The project tag also covers its tasks, so a request
+     * carrying {@code If-Match} (or no field at all) takes the {@link #update(Long, ProjectUpdateDTO, String)}
+     * path instead.
+     */
+    public ResourceVersion patch(Long id, ProjectUpdateDTO updatedData, String ifMatch) {
+        if(updatedData == null)
+            throw new RequiredObjectIsNullException();
+        validator.validate(updatedData).orThrow();
+
+        if(ifMatch != null || (updatedData.getName() == null && updatedData.getStatus() == null)) {
+            update(id, updatedData, ifMatch);
+            return findVersion(id);
+        }
+
+        String status = updatedData.getStatus() == null ? null : updatedData.getStatus().name();
+        ResourceVersion version = repository.patch(id, updatedData.getName(), status, Instant.now(), null)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found"))
+                .toResourceVersion();
+        cacheEvictor.evictEntity(Project.class, id);
+        return version;
+    }
+
     public void deleteById(Long id) {
         try {
             repository.deleteById(id);
+            cacheEvictor.evictProjectCascade();
         } catch (EmptyResultDataAccessException e) {
             throw new ResourceNotFoundException("Project not found");
         } catch (DataIntegrityViolationException e) {
@@ -113,52 +240,43 @@ public class ProjectService {
         }
     }
 
+    /**
+     * The tag {@link #findVersion(Long)} reads, built from a project whose tasks are loaded.
+     */
+    private ResourceVersion versionOf(Project entity) {
+        Instant tasksUpdatedAt = entity.getTasks().stream()
+                .map(Task::getUpdatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        return new ResourceVersion(entity.getVersion(), entity.getUpdatedAt(), tasksUpdatedAt, (long) entity.getTasks().size());
+    }
+
     private void updateData(Project entity, ProjectUpdateDTO updatedData) {
-        if(updatedData.getName() != null) {
-            if(updatedData.getName().length() < 3 || updatedData.getName().length() > 100)
-                throw new InvalidNameSizeException("The name field must be between 3 and 100 characters.");
+        validator.validate(updatedData).orThrow();
+        if(updatedData.getName() != null)
             entity.setName(updatedData.getName());
-        }
         if(updatedData.getStatus() != null)
             entity.setStatus(updatedData.getStatus());
     }
 
     private void addHateoasLinks(ProjectResponseDTO dto) {
-        dto.add(linkTo(methodOn(ProjectController.class).findAll(0, 10, "desc")).withRel("findAll").withType("GET"));
-        dto.add(linkTo(methodOn(ProjectController.class).findById(dto.getId())).withSelfRel().withType("GET"));
-
-        ProjectCreateDTO dtoCreated = new ProjectCreateDTO(dto.getName(), dto.getStatus());
-        dto.add(linkTo(methodOn(ProjectController.class).create(dtoCreated)).withRel("create").withType("POST"));
-
-        ProjectUpdateDTO dtoUpdated = new ProjectUpdateDTO(dto.getName(), dto.getStatus());
-        dto.add(linkTo(methodOn(ProjectController.class).update(dto.getId(), dtoUpdated)).withRel("update").withType("PUT"));
-
-        dto.add(linkTo(methodOn(ProjectController.class).delete(dto.getId())).withRel("delete").withType("DELETE"));
+        dto.add(PROJECT_FIND_ALL.toLink());
+        dto.add(PROJECT_SELF.expand(dto.getId()));
+        dto.add(PROJECT_CREATE.toLink());
+        dto.add(PROJECT_UPDATE.expand(dto.getId()));
+        dto.add(PROJECT_DELETE.expand(dto.getId()));
     }
 
     private void addHateoasLinks(ProjectResponseWithTasksDTO dto) {
-        dto.add(linkTo(methodOn(ProjectController.class).findAll(0, 10, "desc"))
-                .withRel("findAll").withType("GET"));
-
-        dto.add(linkTo(methodOn(ProjectController.class).findById(dto.getId()))
-                .withSelfRel().withType("GET"));
-
-        ProjectCreateDTO dtoCreated = new ProjectCreateDTO(dto.getName(), dto.getStatus());
-        dto.add(linkTo(methodOn(ProjectController.class).create(dtoCreated))
-                .withRel("create").withType("POST"));
-
-        ProjectUpdateDTO dtoUpdated = new ProjectUpdateDTO(dto.getName(), dto.getStatus());
-        dto.add(linkTo(methodOn(ProjectController.class).update(dto.getId(), dtoUpdated))
-                .withRel("update").withType("PUT"));
-
-        dto.add(linkTo(methodOn(ProjectController.class).delete(dto.getId()))
-                .withRel("delete").withType("DELETE"));
+        dto.add(PROJECT_FIND_ALL.toLink());
+        dto.add(PROJECT_SELF.expand(dto.getId()));
+        dto.add(PROJECT_CREATE.toLink());
+        dto.add(PROJECT_UPDATE.expand(dto.getId()));
+        dto.add(PROJECT_DELETE.expand(dto.getId()));
 
         if (dto.getTasks() != null) {
-            dto.getTasks().forEach(task ->
-                    task.add(linkTo(methodOn(TaskController.class).findById(task.getId()))
-                            .withSelfRel().withType("GET"))
-            );
+            dto.getTasks().forEach(task -> task.add(TASK_SELF.expand(task.getId())));
         }
     }
 }
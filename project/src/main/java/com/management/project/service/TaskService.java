@@ -1,39 +1,56 @@
 package com.management.project.service;
 
-import com.management.project.controller.TaskController;
+import com.management.project.controller.ProjectController;
+import com.management.project.data.dto.bulk.BulkItemResultDTO;
+import com.management.project.data.dto.bulk.BulkResponseDTO;
 import com.management.project.data.dto.collaborator_task.CollaboratorTaskDTO;
+import com.management.project.data.dto.conditional.ResourceVersion;
+import com.management.project.data.dto.pagination.CursorPageDTO;
 import com.management.project.data.dto.project.ProjectResponseDTO;
 import com.management.project.data.dto.task.TaskCollaboratorCountDTO;
 import com.management.project.data.dto.task.TaskCreateDTO;
 import com.management.project.data.dto.task.TaskResponseDTO;
+import com.management.project.data.dto.task.TaskStatusTransitionDTO;
 import com.management.project.data.dto.task.TaskUpdateDTO;
+import com.management.project.data.mapper.EntityMapper;
 import com.management.project.model.Collaborator;
 import com.management.project.model.Project;
 import com.management.project.model.Task;
+import com.management.project.model.enums.StatusEnum;
 import com.management.project.repository.CollaboratorRepository;
 import com.management.project.repository.ProjectRepository;
 import com.management.project.repository.TaskRepository;
+import com.management.project.service.cache.SecondLevelCacheEvictor;
+import com.management.project.service.constraints.ConstraintNames;
 import com.management.project.service.exceptions.*;
+import com.management.project.service.validation.InputValidator;
 import jakarta.persistence.EntityManager;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+import static com.management.project.controller.links.LinkTemplates.*;
 
 
 @Service
 public class TaskService {
 
+    public static final int MAX_BULK_SIZE = 5000;
+
     private TaskRepository taskRepository;
     private ProjectRepository projectRepository;
     private CollaboratorRepository collaboratorRepository;
-    private ModelMapper modelMapper;
+    private EntityMapper mapper;
+    private SecondLevelCacheEvictor cacheEvictor;
+    private InputValidator validator;
     PagedResourcesAssembler<ProjectResponseDTO> assembler;
     private EntityManager entityManager;
 
@@ -41,56 +58,162 @@ public class TaskService {
             TaskRepository taskRepository,
             ProjectRepository projectRepository,
             CollaboratorRepository collaboratorRepository,
-            ModelMapper modelMapper,
+            EntityMapper mapper,
+            SecondLevelCacheEvictor cacheEvictor,
+            InputValidator validator,
             PagedResourcesAssembler<ProjectResponseDTO> assembler
     ) {
         this.taskRepository = taskRepository;
         this.projectRepository = projectRepository;
         this.collaboratorRepository = collaboratorRepository;
-        this.modelMapper = modelMapper;
+        this.mapper = mapper;
+        this.cacheEvictor = cacheEvictor;
+        this.validator = validator;
         this.assembler = assembler;
     }
 
+    /**
+     * Validators for a conditional {@code findById}, read without loading or mapping the entity.
+     */
+    public ResourceVersion findVersion(Long id) {
+        return taskRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+    }
+
     public TaskResponseDTO findById(Long id) {
         Task entity = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));;
 
-        TaskResponseDTO dtoResponse = modelMapper.map(entity, TaskResponseDTO.class);
+        TaskResponseDTO dtoResponse = mapper.toResponse(entity);
         addHateoasLinks(dtoResponse);
         return dtoResponse;
     }
 
+    public CursorPageDTO<TaskResponseDTO> findAllByProjectId(Long projectId, Long after, Integer size, StatusEnum status) {
+        if(!projectRepository.existsById(projectId))
+            throw new ResourceNotFoundException("Project not found");
+
+        int pageSize = Math.max(1, Math.min(size, CursorPageDTO.MAX_SIZE));
+        long cursor = after == null ? 0L : after;
+        // One extra row tells whether another page exists without a count query.
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Task> tasks = status == null
+                ? taskRepository.findByProjectIdAndIdGreaterThanOrderByIdAsc(projectId, cursor, limit)
+                : taskRepository.findByProjectIdAndStatusAndIdGreaterThanOrderByIdAsc(projectId, status, cursor, limit);
+
+        boolean hasNext = tasks.size() > pageSize;
+        if(hasNext)
+            tasks = tasks.subList(0, pageSize);
+
+        List<TaskResponseDTO> content = tasks.stream()
+                .map(task -> {
+                    TaskResponseDTO dto = mapper.toResponse(task);
+                    addHateoasLinks(dto);
+                    return dto;
+                })
+                .toList();
+
+        Long nextCursor = hasNext ? content.get(content.size() - 1).getId() : null;
+        CursorPageDTO<TaskResponseDTO> page = new CursorPageDTO<>(
+                content, pageSize, nextCursor == null ? null : String.valueOf(nextCursor));
+
+        page.add(WebMvcLinkBuilder.linkTo(
+                WebMvcLinkBuilder.methodOn(ProjectController.class).findTasks(projectId, after, pageSize, status)
+        ).withSelfRel().expand());
+        if(hasNext)
+            page.add(WebMvcLinkBuilder.linkTo(
+                    WebMvcLinkBuilder.methodOn(ProjectController.class).findTasks(projectId, nextCursor, pageSize, status)
+            ).withRel("next").expand());
+        return page;
+    }
+
     public List<TaskCollaboratorCountDTO> countCollaboratorsPerTaskByProjectId(Long projectId) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
         return taskRepository.countCollaboratorsPerTaskByProjectId(projectId);
     }
 
+    /**
+     * A single {@code INSERT} against a reference to the project: a missing project is reported by
+     * the {@code fk_project} foreign key instead of being loaded first.
+     */
    public TaskResponseDTO create(TaskCreateDTO dto) {
        if(dto == null)
            throw new RequiredObjectIsNullException();
 
-        if(dto.getProjectId() == null) {
-            throw new NullForeignKeyException("Project id is required");
+        validator.validate(dto).orThrow();
+
+        Task entity = new Task(dto.getName(), dto.getStatus(), projectRepository.getReferenceById(dto.getProjectId()));
+
+        try {
+            taskRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            throw switch (ConstraintNames.of(e)) {
+                case ConstraintNames.TASK_PROJECT -> new ResourceNotFoundException("Project not found");
+                case ConstraintNames.TASK_NAME_LENGTH ->
+                        new InvalidNameSizeException("The name field must be between 3 and 100 characters.");
+                default -> new DatabaseException(e.getMessage());
+            };
         }
 
-        Project project = projectRepository.findById(dto.getProjectId())
-                .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+        TaskResponseDTO dtoResponse = mapper.toResponse(entity);
+        addHateoasLinks(dtoResponse);
 
-        if(dto.getName() == null || dto.getName().isEmpty())
-            throw new EmptyNameException("The name task cannot be null or blank.");
+        return dtoResponse;
+    }
 
-        if(dto.getName().length() < 3 || dto.getName().length() > 100)
-            throw new InvalidNameSizeException("The name field must be between 3 and 100 characters.");
+    /**
+     * Creates every valid item in one transaction. Project existence is checked with a single
+     * {@code IN} query and the tasks are written through {@code saveAll}, which the pooled id
+     * sequences let Hibernate send as JDBC batches. Invalid items are reported, not thrown.
+     */
+    @Transactional
+    public BulkResponseDTO<TaskResponseDTO> bulkCreate(List<TaskCreateDTO> dtos) {
+        if(dtos == null || dtos.isEmpty())
+            throw new RequiredObjectIsNullException();
 
-        Task entity = new Task(dto.getName(), dto.getStatus(), project);
+        if(dtos.size() > MAX_BULK_SIZE)
+            throw new BulkSizeExceededException("A bulk request accepts at most " + MAX_BULK_SIZE + " items.");
 
-        taskRepository.save(entity);
+        List<BulkItemResultDTO<TaskResponseDTO>> results = new ArrayList<>(Collections.nCopies(dtos.size(), null));
+        for(int i = 0; i < dtos.size(); i++) {
+            TaskCreateDTO dto = dtos.get(i);
+            String error = dto == null ? RequiredObjectIsNullException.DEFAULT_MESSAGE : validator.validate(dto).getMessage();
+            if(error != null)
+                results.set(i, BulkItemResultDTO.failed(i, 400, error));
+        }
 
-        TaskResponseDTO dtoResponse = modelMapper.map(entity, TaskResponseDTO.class);
-        addHateoasLinks(dtoResponse);
+        Set<Long> projectIds = new HashSet<>();
+        for(int i = 0; i < dtos.size(); i++)
+            if(results.get(i) == null)
+                projectIds.add(dtos.get(i).getProjectId());
+        Set<Long> existingProjectIds = projectIds.isEmpty() ? Set.of() : projectRepository.findExistingIds(projectIds);
+
+        Map<Long, Project> projects = new HashMap<>();
+        List<Integer> indexes = new ArrayList<>();
+        List<Task> entities = new ArrayList<>();
+        for(int i = 0; i < dtos.size(); i++) {
+            if(results.get(i) != null)
+                continue;
+            TaskCreateDTO dto = dtos.get(i);
+            if(!existingProjectIds.contains(dto.getProjectId())) {
+                results.set(i, BulkItemResultDTO.failed(i, 404, "Project not found"));
+                continue;
+            }
+            Project project = projects.computeIfAbsent(dto.getProjectId(), projectRepository::getReferenceById);
+            indexes.add(i);
+            entities.add(new Task(dto.getName(), dto.getStatus(), project));
+        }
 
-        return dtoResponse;
+        taskRepository.saveAll(entities);
+
+        for(int i = 0; i < entities.size(); i++) {
+            TaskResponseDTO dtoResponse = mapper.toResponse(entities.get(i));
+            addHateoasLinks(dtoResponse);
+            results.set(indexes.get(i), BulkItemResultDTO.created(indexes.get(i), dtoResponse));
+        }
+        return BulkResponseDTO.of(results);
     }
 
     public Map<String, String> assignCollaboratorToTask(CollaboratorTaskDTO dto) {
@@ -113,39 +236,163 @@ public class TaskService {
         return response;
     }
 
+    /**
+     * Assigns many (task, collaborator) pairs with one existence query per side and one insert
+     * into {@code task_collaborator}, without loading any task or its collaborators. Pairs repeated
+     * in the request or already assigned are reported as duplicates.
+     */
+    @Transactional
+    public BulkResponseDTO<CollaboratorTaskDTO> assignCollaboratorsToTasks(List<CollaboratorTaskDTO> dtos) {
+        if(dtos == null || dtos.isEmpty())
+            throw new RequiredObjectIsNullException();
+
+        if(dtos.size() > MAX_BULK_SIZE)
+            throw new BulkSizeExceededException("A bulk request accepts at most " + MAX_BULK_SIZE + " items.");
+
+        List<BulkItemResultDTO<CollaboratorTaskDTO>> results = new ArrayList<>(Collections.nCopies(dtos.size(), null));
+        Map<Assignment, Integer> assignments = new LinkedHashMap<>();
+        for(int i = 0; i < dtos.size(); i++) {
+            CollaboratorTaskDTO dto = dtos.get(i);
+            if(dto == null || dto.getTaskId() == null || dto.getCollaboratorId() == null)
+                results.set(i, BulkItemResultDTO.failed(i, 400, "Task id and collaborator id are required"));
+            else if(assignments.putIfAbsent(new Assignment(dto.getTaskId(), dto.getCollaboratorId()), i) != null)
+                results.set(i, BulkItemResultDTO.failed(i, 409, "Assignment is repeated in the request."));
+        }
+
+        Set<Long> taskIds = new HashSet<>();
+        Set<Long> collaboratorIds = new HashSet<>();
+        assignments.keySet().forEach(assignment -> {
+            taskIds.add(assignment.taskId());
+            collaboratorIds.add(assignment.collaboratorId());
+        });
+        Set<Long> existingTaskIds = taskIds.isEmpty() ? Set.of() : taskRepository.findExistingIds(taskIds);
+        Set<Long> existingCollaboratorIds = collaboratorIds.isEmpty() ? Set.of() : collaboratorRepository.findExistingIds(collaboratorIds);
+
+        List<Assignment> pending = new ArrayList<>();
+        assignments.forEach((assignment, i) -> {
+            if(!existingTaskIds.contains(assignment.taskId()))
+                results.set(i, BulkItemResultDTO.failed(i, 404, "Task not found"));
+            else if(!existingCollaboratorIds.contains(assignment.collaboratorId()))
+                results.set(i, BulkItemResultDTO.failed(i, 404, "Collaborator not found"));
+            else
+                pending.add(assignment);
+        });
+
+        Set<Assignment> inserted = new HashSet<>();
+        if(!pending.isEmpty()) {
+            taskRepository.insertCollaboratorAssignments(
+                    pending.stream().map(Assignment::taskId).toArray(Long[]::new),
+                    pending.stream().map(Assignment::collaboratorId).toArray(Long[]::new)
+            ).forEach(pair -> inserted.add(new Assignment(pair.getTaskId(), pair.getCollaboratorId())));
+            // The native insert bypasses Hibernate, so the cached Task.collaborators are stale.
+            cacheEvictor.evictTaskCollaborators(inserted.stream().map(Assignment::taskId).collect(Collectors.toSet()));
+        }
+
+        for(Assignment assignment : pending) {
+            int i = assignments.get(assignment);
+            results.set(i, inserted.contains(assignment)
+                    ? BulkItemResultDTO.created(i, dtos.get(i))
+                    : BulkItemResultDTO.failed(i, 409, "Collaborator is already assigned to this task."));
+        }
+        return BulkResponseDTO.of(results);
+    }
+
     public TaskResponseDTO update(Long id, TaskUpdateDTO updatedData) {
+        return update(id, updatedData, null);
+    }
+
+    /**
+     * Applies the update only if the task still matches {@code ifMatch}, when given. An update
+     * committed by someone else between the read and the write fails the version check with
+     * {@link ConcurrentUpdateException} instead of being overwritten.
+     */
+    public TaskResponseDTO update(Long id, TaskUpdateDTO updatedData, String ifMatch) {
         if(updatedData == null)
             throw new RequiredObjectIsNullException();
 
         Task entity = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+        if(ifMatch != null && !new ResourceVersion(entity.getVersion(), entity.getUpdatedAt()).matches(ifMatch))
+            throw new PreconditionFailedException("Task has changed since it was read");
 
         updateData(entity, updatedData);
-        taskRepository.save(entity);
+        try {
+            taskRepository.save(entity);
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConcurrentUpdateException("Task was updated concurrently, reload it and retry");
+        }
 
-        TaskResponseDTO dtoResponse = modelMapper.map(entity, TaskResponseDTO.class);
+        TaskResponseDTO dtoResponse = mapper.toResponse(entity);
         addHateoasLinks(dtoResponse);
 
         return dtoResponse;
     }
 
+    /**
+     * Partial update for the kanban status flips: one {@code UPDATE ... RETURNING} of the non-null fields
+     * instead of a load and a full-row save. An {@code If-Match} naming one version is checked by the
+     * same statement; other preconditions, and requests with no field to write, take the
+     * {@link #update(Long, TaskUpdateDTO, String)} path.
+     */
+    public ResourceVersion patch(Long id, TaskUpdateDTO updatedData, String ifMatch) {
+        if(updatedData == null)
+            throw new RequiredObjectIsNullException();
+        validator.validate(updatedData).orThrow();
+
+        Long expectedVersion = ifMatch == null ? null : ResourceVersion.expectedVersion(ifMatch).orElse(null);
+        boolean checkable = ifMatch == null || expectedVersion != null || ifMatch.trim().equals("*");
+        if(!checkable || (updatedData.getName() == null && updatedData.getStatus() == null)) {
+            update(id, updatedData, ifMatch);
+            return findVersion(id);
+        }
+
+        Instant updatedAt = Instant.now();
+        String status = updatedData.getStatus() == null ? null : updatedData.getStatus().name();
+        Long version = taskRepository.patch(id, updatedData.getName(), status, updatedAt, expectedVersion)
+                .orElseThrow(() -> taskRepository.existsById(id)
+                        ? new PreconditionFailedException("Task has changed since it was read")
+                        : new ResourceNotFoundException("Task not found"));
+        cacheEvictor.evictEntity(Task.class, id);
+        return new ResourceVersion(version, updatedAt);
+    }
+
+    /**
+     * Moves the matching tasks of a project to the target status with one set-based statement
+     * instead of a {@code findById}/{@code save} per task.
+     */
+    public int updateStatusByProjectId(Long projectId, TaskStatusTransitionDTO transition) {
+        if(transition == null)
+            throw new RequiredObjectIsNullException();
+        if(transition.getStatus() == null)
+            throw new RequiredObjectIsNullException("The target status is required.");
+        if(transition.getCurrentStatus() == null && transition.getIds() == null && transition.getUpdatedBefore() == null)
+            throw new RequiredObjectIsNullException("At least one filter (currentStatus, ids or updatedBefore) is required.");
+        if(transition.getIds() != null && transition.getIds().size() > MAX_BULK_SIZE)
+            throw new BulkSizeExceededException("A bulk request accepts at most " + MAX_BULK_SIZE + " items.");
+
+        if(!projectRepository.existsById(projectId))
+            throw new ResourceNotFoundException("Project not found");
+        if(transition.getIds() != null && transition.getIds().isEmpty())
+            return 0;
+
+        return taskRepository.updateStatusByProjectId(projectId, transition.getStatus(), transition.getCurrentStatus(),
+                transition.getIds(), transition.getUpdatedBefore(), Instant.now());
+    }
+
     private void updateData(Task entity, TaskUpdateDTO updatedData) {
-        if(updatedData.getName() != null) {
-            if(updatedData.getName().length() < 3 || updatedData.getName().length() > 100)
-                throw new InvalidNameSizeException("The name must be between 3 and 100 characters.");
+        validator.validate(updatedData).orThrow();
+        if(updatedData.getName() != null)
             entity.setName(updatedData.getName());
-        }
         if(updatedData.getStatus() != null)
             entity.setStatus(updatedData.getStatus());
     }
 
-    private void addHateoasLinks(TaskResponseDTO dto) {
-        dto.add(linkTo(methodOn(TaskController.class).findById(dto.getId())).withSelfRel().withType("GET"));
-
-        TaskCreateDTO dtoCreated = new TaskCreateDTO(dto.getName(), dto.getStatus(), dto.getProjectId());
-        dto.add(linkTo(methodOn(TaskController.class).create(dtoCreated)).withRel("create").withType("POST"));
+    private record Assignment(Long taskId, Long collaboratorId) {
+    }
 
-        TaskUpdateDTO dtoUpdated = new TaskUpdateDTO(dto.getName(), dto.getStatus());
-        dto.add(linkTo(methodOn(TaskController.class).update(dto.getId(), dtoUpdated)).withRel("update").withType("PUT"));
+    private void addHateoasLinks(TaskResponseDTO dto) {
+        dto.add(TASK_SELF.expand(dto.getId()));
+        dto.add(TASK_CREATE.toLink());
+        dto.add(TASK_UPDATE.expand(dto.getId()));
     }
 }
@@ -0,0 +1,77 @@
+package com.management.project.service.cache;
+
+import com.management.project.model.Project;
+import com.management.project.model.Task;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+
+/**
+ * Evicts second-level cache entries that Hibernate cannot invalidate by itself: rows removed by
+ * {@code ON DELETE CASCADE} in the database and rows written by native SQL. Evictions run after the
+ * surrounding transaction commits, so a concurrent reader cannot cache the old state again.
+ */
+@Component
+public class SecondLevelCacheEvictor {
+
+    private static final String TASK_COLLABORATORS_ROLE = Task.class.getName() + ".collaborators";
+    private static final String PROJECT_TASKS_ROLE = Project.class.getName() + ".tasks";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public SecondLevelCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * One entity updated by native SQL; its cached collections are unaffected.
+     */
+    public void evictEntity(Class<?> entityClass, Long id) {
+        afterCommit(() -> cache().evictEntityData(entityClass, id));
+    }
+
+    public void evictTaskCollaborators(Collection<Long> taskIds) {
+        afterCommit(() -> taskIds.forEach(taskId -> cache().evictCollectionData(TASK_COLLABORATORS_ROLE, taskId)));
+    }
+
+    /**
+     * Deleting a project cascades to its tasks and their assignments in the database. Every cached
+     * task collection goes too: assembling a cached collection whose tasks were evicted would load
+     * them one select at a time.
+     */
+    public void evictProjectCascade() {
+        afterCommit(() -> {
+            cache().evictCollectionData(PROJECT_TASKS_ROLE);
+            cache().evictEntityData(Task.class);
+            cache().evictCollectionData(TASK_COLLABORATORS_ROLE);
+        });
+    }
+
+    /**
+     * Deleting a collaborator cascades to its assignments, which are cached per task.
+     */
+    public void evictCollaboratorCascade() {
+        afterCommit(() -> cache().evictCollectionData(TASK_COLLABORATORS_ROLE));
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.getCache().unwrap(Cache.class);
+    }
+}
@@ -0,0 +1,46 @@
+package com.management.project.service.constraints;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Names of the database constraints the services rely on instead of checking before a write (V17),
+ * declared on the entities too so the generated test schema uses the same names.
+ */
+public final class ConstraintNames {
+
+    public static final String COLLABORATOR_EMAIL = "uk_collaborators_email";
+    public static final String COLLABORATOR_NAME_LENGTH = "ck_collaborators_name_length";
+    public static final String PROJECT_NAME_LENGTH = "ck_projects_name_length";
+    public static final String TASK_NAME_LENGTH = "ck_tasks_name_length";
+    public static final String TASK_PROJECT = "fk_project";
+
+    private static final List<String> ALL = List.of(
+            COLLABORATOR_EMAIL, COLLABORATOR_NAME_LENGTH, PROJECT_NAME_LENGTH, TASK_NAME_LENGTH, TASK_PROJECT
+    );
+
+    private ConstraintNames() {
+    }
+
+    /**
+     * The constraint {@code e} violated, as one of the constants above when it is one of them, or an
+     * empty string when it cannot be told. Dialects extract the name differently (H2 keeps the
+     * schema and the backing index, and cuts the first letter of foreign keys), so a known name
+     * matches when it appears in the extracted name or else in the driver's message.
+     */
+    public static String of(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String reported = violation.getConstraintName() == null ? "" : violation.getConstraintName().toLowerCase(Locale.ROOT);
+                String message = String.valueOf(violation.getSQLException().getMessage()).toLowerCase(Locale.ROOT);
+                return ALL.stream().filter(reported::contains).findFirst()
+                        .or(() -> ALL.stream().filter(message::contains).findFirst())
+                        .orElse(reported);
+            }
+        }
+        return "";
+    }
+}
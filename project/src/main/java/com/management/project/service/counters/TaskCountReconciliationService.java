@@ -0,0 +1,64 @@
+package com.management.project.service.counters;
+
+import com.management.project.repository.CollaboratorRepository;
+import com.management.project.repository.ProjectRepository;
+import com.management.project.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Periodically compares the trigger-maintained task counters ({@code tb_projects.task_count},
+ * {@code tb_collaborators.task_count} and {@code tb_tasks.collaborator_count}) with the rows they
+ * count, and rewrites the ones that drifted. Drift should be zero; anything else means some write
+ * bypassed the triggers (a restore, a manual fix, a disabled trigger) and is logged as a warning.
+ * <p>
+ * Each counter is repaired in a single correlated {@code UPDATE} that only touches mismatched rows,
+ * so a clean run writes nothing. A task write racing the repair of the same row can leave it off
+ * by one until the next run.
+ */
+@Service
+@ConditionalOnProperty(name = "app.counters.reconciliation.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskCountReconciliationService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskCountReconciliationService.class);
+
+    private final ProjectRepository projectRepository;
+    private final CollaboratorRepository collaboratorRepository;
+    private final TaskRepository taskRepository;
+
+    public TaskCountReconciliationService(ProjectRepository projectRepository,
+                                          CollaboratorRepository collaboratorRepository,
+                                          TaskRepository taskRepository) {
+        this.projectRepository = projectRepository;
+        this.collaboratorRepository = collaboratorRepository;
+        this.taskRepository = taskRepository;
+    }
+
+    @Transactional
+    @Scheduled(cron = "${app.counters.reconciliation.cron:0 0 3 * * *}")
+    public Drift reconcile() {
+        Drift drift = new Drift(
+                projectRepository.reconcileTaskCounts(),
+                collaboratorRepository.reconcileTaskCounts(),
+                taskRepository.reconcileCollaboratorCounts()
+        );
+        if (drift.total() > 0)
+            log.warn("Task counters drifted and were repaired: {} projects, {} collaborators, {} tasks",
+                    drift.projects(), drift.collaborators(), drift.tasks());
+        return drift;
+    }
+
+    /**
+     * Number of rows whose counter did not match, per table.
+     */
+    public record Drift(int projects, int collaborators, int tasks) {
+
+        public int total() {
+            return projects + collaborators + tasks;
+        }
+    }
+}
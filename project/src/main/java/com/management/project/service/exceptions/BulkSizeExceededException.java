@@ -0,0 +1,13 @@
+package com.management.project.service.exceptions;
+
+import java.io.Serial;
+
+public class BulkSizeExceededException extends StacklessException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public BulkSizeExceededException(String message) {
+        super(message);
+    }
+}
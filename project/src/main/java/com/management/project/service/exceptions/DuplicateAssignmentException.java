@@ -2,7 +2,7 @@ package com.management.project.service.exceptions;
 
 import java.io.Serial;
 
-public class DuplicateAssignmentException extends RuntimeException {
+public class DuplicateAssignmentException extends StacklessException {
 
     @Serial
     private static final long serialVersionUID = 1L;
@@ -1,13 +1,20 @@
 package com.management.project.service.exceptions;
 
+import com.management.project.service.validation.FieldError;
+
 import java.io.Serial;
+import java.util.List;
 
-public class EmptyNameException extends RuntimeException {
+public class EmptyNameException extends ValidationException {
 
     @Serial
     private static final long serialVersionUID = 1L;
 
     public EmptyNameException(String message) {
-        super(message);
+        this(message, List.of(new FieldError("name", message)));
+    }
+
+    public EmptyNameException(String message, List<FieldError> errors) {
+        super(message, errors);
     }
 }
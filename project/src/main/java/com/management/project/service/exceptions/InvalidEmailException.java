@@ -1,13 +1,20 @@
 package com.management.project.service.exceptions;
 
+import com.management.project.service.validation.FieldError;
+
 import java.io.Serial;
+import java.util.List;
 
-public class InvalidEmailException extends RuntimeException {
+public class InvalidEmailException extends ValidationException {
 
     @Serial
     private static final long serialVersionUID = 1L;
 
     public InvalidEmailException(String message) {
-        super(message);
+        this(message, List.of(new FieldError("email", message)));
+    }
+
+    public InvalidEmailException(String message, List<FieldError> errors) {
+        super(message, errors);
     }
 }
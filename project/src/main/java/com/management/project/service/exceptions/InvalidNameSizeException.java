@@ -1,13 +1,20 @@
 package com.management.project.service.exceptions;
 
+import com.management.project.service.validation.FieldError;
+
 import java.io.Serial;
+import java.util.List;
 
-public class InvalidNameSizeException extends RuntimeException {
+public class InvalidNameSizeException extends ValidationException {
 
     @Serial
     private static final long serialVersionUID = 1L;
 
     public InvalidNameSizeException(String message) {
-        super(message);
+        this(message, List.of(new FieldError("name", message)));
+    }
+
+    public InvalidNameSizeException(String message, List<FieldError> errors) {
+        super(message, errors);
     }
 }
@@ -1,13 +1,20 @@
 package com.management.project.service.exceptions;
 
+import com.management.project.service.validation.FieldError;
+
 import java.io.Serial;
+import java.util.List;
 
-public class NullForeignKeyException extends RuntimeException {
+public class NullForeignKeyException extends ValidationException {
 
     @Serial
     private static final long serialVersionUID = 1L;
 
     public NullForeignKeyException(String message) {
-        super(message);
+        this(message, List.of(new FieldError("projectId", message)));
+    }
+
+    public NullForeignKeyException(String message, List<FieldError> errors) {
+        super(message, errors);
     }
 }
@@ -0,0 +1,13 @@
+package com.management.project.service.exceptions;
+
+import java.io.Serial;
+
+public class PreconditionFailedException extends StacklessException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
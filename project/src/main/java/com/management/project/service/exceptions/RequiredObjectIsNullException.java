@@ -2,13 +2,15 @@ package com.management.project.service.exceptions;
 
 import java.io.Serial;
 
-public class RequiredObjectIsNullException extends RuntimeException {
+public class RequiredObjectIsNullException extends StacklessException {
 
     @Serial
     private static final long serialVersionUID = 1L;
 
+    public static final String DEFAULT_MESSAGE = "Its is not allowed to persist a null object";
+
     public RequiredObjectIsNullException() {
-        super("Its is not allowed to persist a null object");
+        super(DEFAULT_MESSAGE);
     }
 
     public RequiredObjectIsNullException(String message) {
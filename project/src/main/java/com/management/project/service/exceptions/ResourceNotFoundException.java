@@ -2,7 +2,7 @@ package com.management.project.service.exceptions;
 
 import java.io.Serial;
 
-public class ResourceNotFoundException extends RuntimeException {
+public class ResourceNotFoundException extends StacklessException {
 
     @Serial
     private static final long serialVersionUID = 1L;
@@ -0,0 +1,18 @@
+package com.management.project.service.exceptions;
+
+import java.io.Serial;
+
+/**
+ * Base of the exceptions for requests the client got wrong. They are expected, answered with a 4xx
+ * and never logged, so they skip filling in a stack trace: with invalid payloads arriving in bulk,
+ * walking the stack would cost more than the request itself.
+ */
+public abstract class StacklessException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    protected StacklessException(String message) {
+        super(message, null, false, false);
+    }
+}
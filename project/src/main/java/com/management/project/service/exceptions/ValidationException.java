@@ -0,0 +1,27 @@
+package com.management.project.service.exceptions;
+
+import com.management.project.service.validation.FieldError;
+
+import java.io.Serial;
+import java.util.List;
+
+/**
+ * An invalid field, thrown from a {@link com.management.project.service.validation.ValidationResult}.
+ * The message is the first error; {@link #getErrors()} has every field that failed.
+ */
+public abstract class ValidationException extends StacklessException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final List<FieldError> errors;
+
+    protected ValidationException(String message, List<FieldError> errors) {
+        super(message);
+        this.errors = List.copyOf(errors);
+    }
+
+    public List<FieldError> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,62 @@
+package com.management.project.service.pagination;
+
+import com.management.project.service.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position of the last row of a page sorted by {@code (name, id)}. Clients only see it as an
+ * opaque base64url token and send it back unchanged as {@code after}.
+ */
+public final class NameCursor {
+
+    private static final char SEPARATOR = ':';
+
+    private final String name;
+    private final Long id;
+
+    public NameCursor(String name, Long id) {
+        this.name = name;
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String encode() {
+        // The id goes first: it never contains the separator, while the name may.
+        String raw = id + String.valueOf(SEPARATOR) + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static NameCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if(separator < 1)
+                throw new InvalidCursorException("Invalid pagination cursor.");
+            return new NameCursor(raw.substring(separator + 1), Long.valueOf(raw.substring(0, separator)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid pagination cursor.");
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        NameCursor that = (NameCursor) o;
+        return Objects.equals(name, that.name) && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, id);
+    }
+}
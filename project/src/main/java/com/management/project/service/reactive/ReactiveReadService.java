@@ -0,0 +1,70 @@
+package com.management.project.service.reactive;
+
+import com.management.project.data.dto.collaborator.CollaboratorTaskCount;
+import com.management.project.data.dto.project.ProjectSummaryDTO;
+import com.management.project.data.dto.project.ProjectTaskCountDTO;
+import com.management.project.data.dto.task.TaskCollaboratorCountDTO;
+import com.management.project.data.dto.task.TaskSummaryDTO;
+import com.management.project.repository.reactive.ReactiveReadRepository;
+import com.management.project.service.exceptions.ResourceNotFoundException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking read side of the {@code /v2} API. Lists are unbounded unless a limit is given: they
+ * are streamed, so the subscriber's demand, not the result size, decides how much is in memory.
+ */
+@Service
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true", matchIfMissing = true)
+public class ReactiveReadService {
+
+    private final ReactiveReadRepository repository;
+
+    public ReactiveReadService(ReactiveReadRepository repository) {
+        this.repository = repository;
+    }
+
+    public Flux<ProjectSummaryDTO> findProjects(Long after, Integer limit) {
+        return repository.findProjects(cursor(after), positive(limit));
+    }
+
+    public Mono<ProjectSummaryDTO> findProjectById(Long id) {
+        return repository.findProjectById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Project not found")));
+    }
+
+    public Flux<TaskSummaryDTO> findTasksByProjectId(Long projectId, Long after, Integer limit) {
+        return requireProject(projectId)
+                .thenMany(Flux.defer(() -> repository.findTasksByProjectId(projectId, cursor(after), positive(limit))));
+    }
+
+    public Flux<ProjectTaskCountDTO> countTasksPerProject(Long minCount, Integer limit) {
+        return repository.countTasksPerProject(Math.max(0, minCount), positive(limit));
+    }
+
+    public Flux<CollaboratorTaskCount> countTasksPerCollaborator(Long minCount, Integer limit) {
+        return repository.countTasksPerCollaborator(Math.max(0, minCount), positive(limit));
+    }
+
+    public Flux<TaskCollaboratorCountDTO> countCollaboratorsPerTaskByProjectId(Long projectId) {
+        return requireProject(projectId)
+                .thenMany(Flux.defer(() -> repository.countCollaboratorsPerTaskByProjectId(projectId)));
+    }
+
+    private Mono<Void> requireProject(Long projectId) {
+        return repository.existsProjectById(projectId)
+                .flatMap(exists -> exists
+                        ? Mono.<Void>empty()
+                        : Mono.error(new ResourceNotFoundException("Project not found")));
+    }
+
+    private static long cursor(Long after) {
+        return after == null ? 0 : after;
+    }
+
+    private static Integer positive(Integer limit) {
+        return limit == null ? null : Math.max(1, limit);
+    }
+}
@@ -0,0 +1,96 @@
+package com.management.project.service.search;
+
+import com.management.project.config.search.SearchProperties;
+import com.management.project.controller.SearchController;
+import com.management.project.data.dto.pagination.CursorPageDTO;
+import com.management.project.data.dto.search.SearchHit;
+import com.management.project.data.dto.search.SearchResultDTO;
+import com.management.project.repository.ProjectRepository;
+import com.management.project.repository.TaskRepository;
+import com.management.project.service.exceptions.InvalidCursorException;
+import com.management.project.service.exceptions.RequiredObjectIsNullException;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Ranked full-text search over project and task names. Each table returns its own best matches
+ * from its GIN index; the two lists are merged by rank here. The cursor is the offset of the next
+ * result, capped at {@code app.search.max-candidates}: past that, results would come from an
+ * arbitrary subset of the matches.
+ */
+@Service
+public class SearchService {
+
+    private static final Comparator<SearchResultDTO> BY_RANK = Comparator
+            .comparing(SearchResultDTO::rank, Comparator.reverseOrder())
+            .thenComparing(SearchResultDTO::type)
+            .thenComparing(SearchResultDTO::id);
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final SearchProperties properties;
+
+    public SearchService(ProjectRepository projectRepository, TaskRepository taskRepository, SearchProperties properties) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.properties = properties;
+    }
+
+    public CursorPageDTO<SearchResultDTO> search(String query, String after, Integer size) {
+        if(query == null || query.isBlank())
+            throw new RequiredObjectIsNullException("The search query is required.");
+        int offset = decodeOffset(after);
+        int pageSize = Math.max(1, Math.min(size, CursorPageDTO.MAX_SIZE));
+
+        int candidates = properties.getMaxCandidates();
+        int limit = Math.min(offset + pageSize + 1, candidates);
+        List<SearchResultDTO> results = offset >= candidates ? List.of() : Stream.concat(
+                        projectRepository.search(properties.getLanguage(), query, candidates, limit).stream()
+                                .map(hit -> toResult(SearchResultDTO.Type.PROJECT, hit)),
+                        taskRepository.search(properties.getLanguage(), query, candidates, limit).stream()
+                                .map(hit -> toResult(SearchResultDTO.Type.TASK, hit)))
+                .sorted(BY_RANK)
+                .skip(offset)
+                .limit(pageSize + 1L)
+                .toList();
+
+        boolean hasNext = results.size() > pageSize && offset + pageSize < candidates;
+        List<SearchResultDTO> content = results.size() > pageSize ? results.subList(0, pageSize) : results;
+        String nextCursor = hasNext ? String.valueOf(offset + pageSize) : null;
+        CursorPageDTO<SearchResultDTO> page = new CursorPageDTO<>(content, pageSize, nextCursor);
+
+        page.add(WebMvcLinkBuilder.linkTo(
+                WebMvcLinkBuilder.methodOn(SearchController.class).search(query, after, pageSize)
+        ).withSelfRel().expand());
+        if(hasNext)
+            page.add(WebMvcLinkBuilder.linkTo(
+                    WebMvcLinkBuilder.methodOn(SearchController.class).search(query, nextCursor, pageSize)
+            ).withRel("next").expand());
+        return page;
+    }
+
+    private int decodeOffset(String after) {
+        if(after == null)
+            return 0;
+        try {
+            int offset = Integer.parseInt(after);
+            if(offset < 0)
+                throw new InvalidCursorException("Invalid pagination cursor.");
+            return offset;
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException("Invalid pagination cursor.");
+        }
+    }
+
+    private SearchResultDTO toResult(SearchResultDTO.Type type, SearchHit hit) {
+        String highlight = HtmlUtils.htmlEscape(hit.getHighlight())
+                .replace(SearchHit.MATCH_START, "<mark>")
+                .replace(SearchHit.MATCH_END, "</mark>");
+        return new SearchResultDTO(type, hit.getId(), hit.getName(), hit.getProjectId(), hit.getRank(), highlight);
+    }
+}
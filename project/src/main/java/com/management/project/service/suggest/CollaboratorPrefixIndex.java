@@ -0,0 +1,353 @@
+package com.management.project.service.suggest;
+
+import com.management.project.data.dto.collaborator.CollaboratorSuggestionDTO;
+import com.management.project.model.enums.FunctionEnum;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory prefix index over collaborator names and emails. Each function, plus one partition for
+ * collaborators without a function, keeps its keys in a sorted array with a parallel array of
+ * owners: a lookup is a binary search for the first key not below the prefix, then a forward scan
+ * while the keys still start with it.
+ * <p>
+ * Keys go through {@link #normalize(String)}. A name contributes one key per word, running from that
+ * word to the end ({@code "ana maria silva"}, {@code "maria silva"}, {@code "silva"}), so a prefix
+ * may span words; the email contributes itself.
+ * <p>
+ * Readers never lock, they read the current partitions through a volatile field. Writers are
+ * serialized and replace the partitions they touch with new arrays, a copy proportional to the
+ * partition size. {@link #rebuild(Iterator)} loads a new snapshot outside that lock and replays
+ * the writes that arrived meanwhile before publishing it. The locks are {@link ReentrantLock}s
+ * rather than monitors so that a virtual thread waiting on them, or holding one through the
+ * database read of a rebuild, does not pin its carrier thread.
+ */
+public class CollaboratorPrefixIndex {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    private static final int UNASSIGNED = FunctionEnum.values().length;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile Partition[] partitions = State.empty().partitions;
+
+    // writer state, guarded by writeLock
+    private State state = State.empty();
+    private List<Consumer<State>> pending;
+
+    /**
+     * Up to {@code limit} collaborators with a key starting with {@code prefix}, ordered by the first
+     * key that matched and then by id. A {@code null} function searches every partition.
+     */
+    public List<CollaboratorSuggestionDTO> suggest(String prefix, FunctionEnum function, int limit) {
+        String key = normalize(prefix);
+        Partition[] snapshot = partitions;
+        if (function != null)
+            return snapshot[function.ordinal()].find(key, limit).stream().map(Key::owner).toList();
+
+        // each collaborator lives in one partition, so the first limit of each are enough to merge
+        List<Key> matches = new ArrayList<>();
+        for (Partition partition : snapshot)
+            matches.addAll(partition.find(key, limit));
+        matches.sort(Key.ORDER);
+        return matches.stream().limit(limit).map(Key::owner).toList();
+    }
+
+    /**
+     * Adds the collaborators, replacing the entries of the ones already indexed.
+     */
+    public void putAll(Collection<CollaboratorSuggestionDTO> collaborators) {
+        List<CollaboratorSuggestionDTO> rows = List.copyOf(collaborators);
+        write(state -> state.put(rows));
+    }
+
+    /**
+     * Replaces the non-null fields of an indexed collaborator; unknown ids are ignored.
+     */
+    public void merge(Long id, String name, String email, FunctionEnum function) {
+        write(state -> state.merge(id, name, email, function));
+    }
+
+    public void remove(Long id) {
+        write(state -> state.remove(id));
+    }
+
+    public int size() {
+        writeLock.lock();
+        try {
+            return state.byId.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the whole index with {@code rows}. Writes made while the rows are read are applied to
+     * both the current index and, before it is published, the new one.
+     */
+    public void rebuild(Iterator<CollaboratorSuggestionDTO> rows) {
+        rebuildLock.lock();
+        try {
+            writeLock.lock();
+            try {
+                pending = new ArrayList<>();
+            } finally {
+                writeLock.unlock();
+            }
+            State next = null;
+            try {
+                next = State.load(rows);
+            } finally {
+                writeLock.lock();
+                try {
+                    if (next != null) {
+                        for (Consumer<State> change : pending)
+                            change.accept(next);
+                        state = next;
+                        partitions = next.partitions;
+                    }
+                    pending = null;
+                } finally {
+                    writeLock.unlock();
+                }
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Lowercase, without accents and with single spaces between words.
+     */
+    public static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        String plain = MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+        return SPACES.matcher(plain).replaceAll(" ").trim();
+    }
+
+    private void write(Consumer<State> change) {
+        writeLock.lock();
+        try {
+            change.accept(state);
+            partitions = state.partitions;
+            if (pending != null)
+                pending.add(change);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static Collection<String> keys(CollaboratorSuggestionDTO collaborator) {
+        Set<String> keys = new LinkedHashSet<>(4);
+        if (collaborator.name() != null) {
+            String name = normalize(collaborator.name());
+            int start = 0;
+            while (start < name.length()) {
+                keys.add(name.substring(start));
+                int space = name.indexOf(' ', start);
+                if (space < 0)
+                    break;
+                start = space + 1;
+            }
+        }
+        if (collaborator.email() != null)
+            keys.add(normalize(collaborator.email()));
+        return keys;
+    }
+
+    private static int slot(CollaboratorSuggestionDTO collaborator) {
+        return collaborator.function() == null ? UNASSIGNED : collaborator.function().ordinal();
+    }
+
+    private record Key(String key, CollaboratorSuggestionDTO owner) {
+
+        static final Comparator<Key> ORDER = Comparator.comparing(Key::key).thenComparing(k -> k.owner().id());
+    }
+
+    private static final class State {
+
+        final Map<Long, CollaboratorSuggestionDTO> byId;
+        Partition[] partitions;
+
+        private State(Map<Long, CollaboratorSuggestionDTO> byId, Partition[] partitions) {
+            this.byId = byId;
+            this.partitions = partitions;
+        }
+
+        static State empty() {
+            Partition[] partitions = new Partition[UNASSIGNED + 1];
+            Arrays.fill(partitions, Partition.EMPTY);
+            return new State(new HashMap<>(), partitions);
+        }
+
+        static State load(Iterator<CollaboratorSuggestionDTO> rows) {
+            Map<Long, CollaboratorSuggestionDTO> byId = new HashMap<>();
+            while (rows.hasNext()) {
+                CollaboratorSuggestionDTO row = rows.next();
+                byId.put(row.id(), row);
+            }
+            List<List<Key>> keys = keysBySlot(byId.values());
+            Partition[] partitions = new Partition[UNASSIGNED + 1];
+            for (int i = 0; i < partitions.length; i++)
+                partitions[i] = Partition.EMPTY.update(List.of(), keys.get(i));
+            return new State(byId, partitions);
+        }
+
+        void put(List<CollaboratorSuggestionDTO> rows) {
+            List<CollaboratorSuggestionDTO> replaced = new ArrayList<>();
+            for (CollaboratorSuggestionDTO row : rows) {
+                CollaboratorSuggestionDTO previous = byId.get(row.id());
+                if (previous != null)
+                    replaced.add(previous);
+            }
+            update(replaced, rows);
+        }
+
+        void merge(Long id, String name, String email, FunctionEnum function) {
+            CollaboratorSuggestionDTO current = byId.get(id);
+            if (current == null)
+                return;
+            put(List.of(new CollaboratorSuggestionDTO(
+                    id,
+                    name != null ? name : current.name(),
+                    email != null ? email : current.email(),
+                    function != null ? function : current.function()
+            )));
+        }
+
+        void remove(Long id) {
+            CollaboratorSuggestionDTO current = byId.get(id);
+            if (current != null)
+                update(List.of(current), List.of());
+        }
+
+        private void update(List<CollaboratorSuggestionDTO> removed, List<CollaboratorSuggestionDTO> added) {
+            List<List<Key>> removedKeys = keysBySlot(removed);
+            List<List<Key>> addedKeys = keysBySlot(added);
+            Partition[] next = partitions.clone();
+            for (int slot = 0; slot < next.length; slot++)
+                next[slot] = next[slot].update(removedKeys.get(slot), addedKeys.get(slot));
+            partitions = next;
+
+            removed.forEach(row -> byId.remove(row.id()));
+            added.forEach(row -> byId.put(row.id(), row));
+        }
+
+        private static List<List<Key>> keysBySlot(Collection<CollaboratorSuggestionDTO> rows) {
+            List<List<Key>> keys = new ArrayList<>(UNASSIGNED + 1);
+            for (int i = 0; i <= UNASSIGNED; i++)
+                keys.add(new ArrayList<>());
+            for (CollaboratorSuggestionDTO row : rows)
+                for (String key : keys(row))
+                    keys.get(slot(row)).add(new Key(key, row));
+            keys.forEach(slot -> slot.sort(Key.ORDER));
+            return keys;
+        }
+    }
+
+    private static final class Partition {
+
+        static final Partition EMPTY = new Partition(new String[0], new CollaboratorSuggestionDTO[0]);
+
+        final String[] keys;
+        final CollaboratorSuggestionDTO[] owners;
+
+        private Partition(String[] keys, CollaboratorSuggestionDTO[] owners) {
+            this.keys = keys;
+            this.owners = owners;
+        }
+
+        /**
+         * The first matching key of up to {@code limit} distinct owners, in key order.
+         */
+        List<Key> find(String prefix, int limit) {
+            List<Key> found = new ArrayList<>(Math.min(limit, 16));
+            Set<Long> seen = new HashSet<>();
+            for (int i = lowerBound(prefix); i < keys.length && found.size() < limit && keys[i].startsWith(prefix); i++)
+                if (seen.add(owners[i].id()))
+                    found.add(new Key(keys[i], owners[i]));
+            return found;
+        }
+
+        /**
+         * A copy without {@code removed} and with {@code added} merged in, both sorted. The unchanged
+         * runs between their positions are block copies.
+         */
+        Partition update(List<Key> removed, List<Key> added) {
+            if (removed.isEmpty() && added.isEmpty())
+                return this;
+            int[] skipped = new int[removed.size()];
+            int removedCount = 0;
+            for (Key key : removed) {
+                int position = position(key);
+                if (position < keys.length && compare(key, position) == 0)
+                    skipped[removedCount++] = position;
+            }
+            int[] insertedAt = new int[added.size()];
+            for (int a = 0; a < added.size(); a++)
+                insertedAt[a] = position(added.get(a));
+
+            String[] nextKeys = new String[keys.length - removedCount + added.size()];
+            CollaboratorSuggestionDTO[] nextOwners = new CollaboratorSuggestionDTO[nextKeys.length];
+            int size = 0;
+            int i = 0;
+            int s = 0;
+            int a = 0;
+            while (i < keys.length || a < added.size()) {
+                int stop = Math.min(s < removedCount ? skipped[s] : keys.length, a < added.size() ? insertedAt[a] : keys.length);
+                System.arraycopy(keys, i, nextKeys, size, stop - i);
+                System.arraycopy(owners, i, nextOwners, size, stop - i);
+                size += stop - i;
+                i = stop;
+                if (a < added.size() && insertedAt[a] == i) {
+                    nextKeys[size] = added.get(a).key();
+                    nextOwners[size++] = added.get(a++).owner();
+                } else if (s < removedCount && skipped[s] == i) {
+                    i++;
+                    s++;
+                }
+            }
+            return new Partition(nextKeys, nextOwners);
+        }
+
+        private int compare(Key key, int i) {
+            int byKey = key.key().compareTo(keys[i]);
+            return byKey != 0 ? byKey : Long.compare(key.owner().id(), owners[i].id());
+        }
+
+        /**
+         * Index of the first entry not below {@code key}.
+         */
+        private int position(Key key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compare(key, mid) > 0)
+                    low = mid + 1;
+                else
+                    high = mid;
+            }
+            return low;
+        }
+
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(prefix) < 0)
+                    low = mid + 1;
+                else
+                    high = mid;
+            }
+            return low;
+        }
+    }
+}
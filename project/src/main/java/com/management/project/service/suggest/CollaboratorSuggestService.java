@@ -0,0 +1,106 @@
+package com.management.project.service.suggest;
+
+import com.management.project.data.dto.collaborator.CollaboratorSuggestionDTO;
+import com.management.project.data.dto.collaborator.CollaboratorUpdateDTO;
+import com.management.project.model.Collaborator;
+import com.management.project.model.enums.FunctionEnum;
+import com.management.project.repository.CollaboratorRepository;
+import com.management.project.service.exceptions.RequiredObjectIsNullException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Collaborator autocomplete served from a {@link CollaboratorPrefixIndex} instead of a
+ * {@code LIKE} query. The index is loaded when the application starts and reloaded every
+ * {@code app.suggest.refresh-interval}; in between, {@code CollaboratorService} reports each
+ * write, applied once its transaction commits. The periodic reload picks up rows written
+ * around the service (native SQL, other instances).
+ */
+@Service
+public class CollaboratorSuggestService {
+
+    public static final int MAX_LIMIT = 50;
+
+    private static final Logger log = LoggerFactory.getLogger(CollaboratorSuggestService.class);
+
+    private final CollaboratorRepository repository;
+    private final CollaboratorPrefixIndex index = new CollaboratorPrefixIndex();
+
+    public CollaboratorSuggestService(CollaboratorRepository repository) {
+        this.repository = repository;
+    }
+
+    public List<CollaboratorSuggestionDTO> suggest(String prefix, FunctionEnum function, Integer limit) {
+        if(prefix == null || prefix.isBlank())
+            throw new RequiredObjectIsNullException("The prefix is required.");
+        return index.suggest(prefix, function, Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${app.suggest.refresh-interval:PT10M}",
+            fixedDelayString = "${app.suggest.refresh-interval:PT10M}"
+    )
+    public void rebuild() {
+        long start = System.nanoTime();
+        try (Stream<CollaboratorSuggestionDTO> rows = repository.streamSuggestions()) {
+            index.rebuild(rows.iterator());
+        }
+        log.debug("Collaborator suggestions reloaded: {} collaborators in {} ms",
+                index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public void put(Collaborator collaborator) {
+        putAll(List.of(collaborator));
+    }
+
+    public void putAll(Collection<Collaborator> collaborators) {
+        List<CollaboratorSuggestionDTO> rows = collaborators.stream().map(this::toSuggestion).toList();
+        afterCommit(() -> index.putAll(rows));
+    }
+
+    /**
+     * A partial update: the fields left {@code null} keep their indexed value.
+     */
+    public void merge(Long id, CollaboratorUpdateDTO updatedData) {
+        afterCommit(() -> index.merge(id, updatedData.getName(), updatedData.getEmail(), updatedData.getFunction()));
+    }
+
+    public void remove(Long id) {
+        afterCommit(() -> index.remove(id));
+    }
+
+    private CollaboratorSuggestionDTO toSuggestion(Collaborator collaborator) {
+        return new CollaboratorSuggestionDTO(
+                collaborator.getId(),
+                collaborator.getName(),
+                collaborator.getEmail(),
+                collaborator.getFunction()
+        );
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
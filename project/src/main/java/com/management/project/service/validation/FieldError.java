@@ -0,0 +1,6 @@
+package com.management.project.service.validation;
+
+public record FieldError(
+        String field,
+        String message
+) {}
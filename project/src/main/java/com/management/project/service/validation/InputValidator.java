@@ -0,0 +1,91 @@
+package com.management.project.service.validation;
+
+import com.management.project.data.dto.collaborator.CollaboratorCreateDTO;
+import com.management.project.data.dto.collaborator.CollaboratorUpdateDTO;
+import com.management.project.data.dto.project.ProjectCreateDTO;
+import com.management.project.data.dto.project.ProjectUpdateDTO;
+import com.management.project.data.dto.task.TaskCreateDTO;
+import com.management.project.data.dto.task.TaskUpdateDTO;
+import com.management.project.service.exceptions.EmptyNameException;
+import com.management.project.service.exceptions.InvalidEmailException;
+import com.management.project.service.exceptions.InvalidNameSizeException;
+import com.management.project.service.exceptions.NullForeignKeyException;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * Field rules of the create and update payloads, shared by the services. Each call checks every
+ * field and returns the errors instead of stopping at the first one; the input itself must not be
+ * {@code null}, which the services report separately.
+ */
+@Component
+public class InputValidator {
+
+    public static final int MIN_NAME_LENGTH = 3;
+    public static final int MAX_NAME_LENGTH = 100;
+
+    private static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+
+    private static final String NAME_SIZE = "The name field must be between 3 and 100 characters.";
+    private static final String EMPTY_NAME = "The name cannot be null or blank.";
+    private static final String INVALID_EMAIL = "The email provided is invalid.";
+
+    public ValidationResult validate(CollaboratorCreateDTO dto) {
+        ValidationResult result = new ValidationResult();
+        requiredName(result, dto.getName(), EMPTY_NAME);
+        if(!isValidEmail(dto.getEmail()))
+            result.reject("email", INVALID_EMAIL, InvalidEmailException::new);
+        return result;
+    }
+
+    public ValidationResult validate(CollaboratorUpdateDTO dto) {
+        ValidationResult result = new ValidationResult();
+        optionalName(result, dto.getName(), NAME_SIZE);
+        if(dto.getEmail() != null && !isValidEmail(dto.getEmail()))
+            result.reject("email", INVALID_EMAIL, InvalidEmailException::new);
+        return result;
+    }
+
+    public ValidationResult validate(ProjectCreateDTO dto) {
+        ValidationResult result = new ValidationResult();
+        requiredName(result, dto.getName(), EMPTY_NAME);
+        return result;
+    }
+
+    public ValidationResult validate(ProjectUpdateDTO dto) {
+        ValidationResult result = new ValidationResult();
+        optionalName(result, dto.getName(), NAME_SIZE);
+        return result;
+    }
+
+    public ValidationResult validate(TaskCreateDTO dto) {
+        ValidationResult result = new ValidationResult();
+        if(dto.getProjectId() == null)
+            result.reject("projectId", "Project id is required", NullForeignKeyException::new);
+        requiredName(result, dto.getName(), "The name task cannot be null or blank.");
+        return result;
+    }
+
+    public ValidationResult validate(TaskUpdateDTO dto) {
+        ValidationResult result = new ValidationResult();
+        optionalName(result, dto.getName(), "The name must be between 3 and 100 characters.");
+        return result;
+    }
+
+    public boolean isValidEmail(String email) {
+        return email != null && EMAIL.matcher(email).matches();
+    }
+
+    private void requiredName(ValidationResult result, String name, String emptyMessage) {
+        if(name == null || name.isEmpty())
+            result.reject("name", emptyMessage, EmptyNameException::new);
+        else
+            optionalName(result, name, NAME_SIZE);
+    }
+
+    private void optionalName(ValidationResult result, String name, String sizeMessage) {
+        if(name != null && (name.length() < MIN_NAME_LENGTH || name.length() > MAX_NAME_LENGTH))
+            result.reject("name", sizeMessage, InvalidNameSizeException::new);
+    }
+}
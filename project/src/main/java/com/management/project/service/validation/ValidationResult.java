@@ -0,0 +1,51 @@
+package com.management.project.service.validation;
+
+import com.management.project.service.exceptions.ValidationException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Every field error found in one input, in the order they were checked. A valid input allocates no
+ * list. Callers that report errors as data, like the bulk endpoints, read {@link #getMessage()};
+ * the others call {@link #orThrow()}.
+ */
+public final class ValidationResult {
+
+    private List<FieldError> errors = List.of();
+    private BiFunction<String, List<FieldError>, ? extends ValidationException> exception;
+
+    ValidationResult reject(String field, String message, BiFunction<String, List<FieldError>, ? extends ValidationException> exception) {
+        if(errors.isEmpty()) {
+            errors = new ArrayList<>(2);
+            this.exception = exception;
+        }
+        errors.add(new FieldError(field, message));
+        return this;
+    }
+
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+    public List<FieldError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * The first error, or {@code null} when the input is valid.
+     */
+    public String getMessage() {
+        return errors.isEmpty() ? null : errors.get(0).message();
+    }
+
+    /**
+     * Throws the exception of the first error, carrying all of them.
+     */
+    public void orThrow() {
+        if(!errors.isEmpty())
+            throw exception.apply(getMessage(), errors);
+    }
+}
@@ -0,0 +1,2 @@
+CREATE INDEX idx_projects_name_id ON tb_projects (name, id);
+CREATE INDEX idx_collaborators_name_id ON tb_collaborators (name, id);
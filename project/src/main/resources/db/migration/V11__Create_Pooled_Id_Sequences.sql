@@ -0,0 +1,21 @@
+-- Replaces the SERIAL sequences with sequences that hand out blocks of 50 ids, so Hibernate can
+-- assign ids in memory and batch the inserts. Plain SQL inserts keep working through the column
+-- default: each nextval reserves a whole block, which Hibernate's pooled-lo optimizer never reuses.
+
+CREATE SEQUENCE tb_projects_seq INCREMENT BY 50;
+SELECT setval('tb_projects_seq', COALESCE((SELECT MAX(id) FROM tb_projects), 0) + 1, false);
+ALTER TABLE tb_projects ALTER COLUMN id SET DEFAULT nextval('tb_projects_seq');
+ALTER SEQUENCE tb_projects_seq OWNED BY tb_projects.id;
+DROP SEQUENCE tb_projects_id_seq;
+
+CREATE SEQUENCE tb_tasks_seq INCREMENT BY 50;
+SELECT setval('tb_tasks_seq', COALESCE((SELECT MAX(id) FROM tb_tasks), 0) + 1, false);
+ALTER TABLE tb_tasks ALTER COLUMN id SET DEFAULT nextval('tb_tasks_seq');
+ALTER SEQUENCE tb_tasks_seq OWNED BY tb_tasks.id;
+DROP SEQUENCE tb_tasks_id_seq;
+
+CREATE SEQUENCE tb_collaborators_seq INCREMENT BY 50;
+SELECT setval('tb_collaborators_seq', COALESCE((SELECT MAX(id) FROM tb_collaborators), 0) + 1, false);
+ALTER TABLE tb_collaborators ALTER COLUMN id SET DEFAULT nextval('tb_collaborators_seq');
+ALTER SEQUENCE tb_collaborators_seq OWNED BY tb_collaborators.id;
+DROP SEQUENCE tb_collaborators_id_seq;
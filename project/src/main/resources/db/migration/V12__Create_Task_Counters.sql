@@ -0,0 +1,124 @@
+-- Denormalised counters behind the task-count reports, kept up to date by statement-level
+-- triggers. Transition tables let one multi-row INSERT (batched JDBC or the bulk endpoints)
+-- update each counter row once per statement instead of once per inserted row.
+
+ALTER TABLE tb_projects ADD COLUMN task_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tb_collaborators ADD COLUMN task_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tb_tasks ADD COLUMN collaborator_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE tb_projects p
+SET task_count = c.total
+FROM (SELECT project_id, COUNT(*) AS total FROM tb_tasks GROUP BY project_id) c
+WHERE p.id = c.project_id;
+
+UPDATE tb_collaborators co
+SET task_count = c.total
+FROM (SELECT collaborator_id, COUNT(*) AS total FROM task_collaborator GROUP BY collaborator_id) c
+WHERE co.id = c.collaborator_id;
+
+UPDATE tb_tasks t
+SET collaborator_count = c.total
+FROM (SELECT task_id, COUNT(*) AS total FROM task_collaborator GROUP BY task_id) c
+WHERE t.id = c.task_id;
+
+-- tb_tasks -> tb_projects.task_count
+
+CREATE FUNCTION fn_tasks_count_inserted() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    UPDATE tb_projects p
+    SET task_count = p.task_count + c.total
+    FROM (SELECT project_id, COUNT(*) AS total FROM new_tasks GROUP BY project_id) c
+    WHERE p.id = c.project_id;
+    RETURN NULL;
+END
+$$;
+
+CREATE FUNCTION fn_tasks_count_deleted() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    UPDATE tb_projects p
+    SET task_count = p.task_count - c.total
+    FROM (SELECT project_id, COUNT(*) AS total FROM old_tasks GROUP BY project_id) c
+    WHERE p.id = c.project_id;
+    RETURN NULL;
+END
+$$;
+
+CREATE FUNCTION fn_tasks_count_moved() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    UPDATE tb_projects p
+    SET task_count = p.task_count + c.delta
+    FROM (
+        SELECT project_id, SUM(delta) AS delta
+        FROM (
+            SELECT n.project_id, 1 AS delta
+            FROM new_tasks n JOIN old_tasks o ON o.id = n.id
+            WHERE o.project_id <> n.project_id
+            UNION ALL
+            SELECT o.project_id, -1 AS delta
+            FROM new_tasks n JOIN old_tasks o ON o.id = n.id
+            WHERE o.project_id <> n.project_id
+        ) moves
+        GROUP BY project_id
+    ) c
+    WHERE p.id = c.project_id;
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER trg_tasks_count_inserted AFTER INSERT ON tb_tasks
+    REFERENCING NEW TABLE AS new_tasks
+    FOR EACH STATEMENT EXECUTE FUNCTION fn_tasks_count_inserted();
+
+CREATE TRIGGER trg_tasks_count_deleted AFTER DELETE ON tb_tasks
+    REFERENCING OLD TABLE AS old_tasks
+    FOR EACH STATEMENT EXECUTE FUNCTION fn_tasks_count_deleted();
+
+CREATE TRIGGER trg_tasks_count_moved AFTER UPDATE ON tb_tasks
+    REFERENCING NEW TABLE AS new_tasks OLD TABLE AS old_tasks
+    FOR EACH STATEMENT EXECUTE FUNCTION fn_tasks_count_moved();
+
+-- task_collaborator -> tb_tasks.collaborator_count and tb_collaborators.task_count
+
+CREATE FUNCTION fn_assignments_count_inserted() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    UPDATE tb_tasks t
+    SET collaborator_count = t.collaborator_count + c.total
+    FROM (SELECT task_id, COUNT(*) AS total FROM new_assignments GROUP BY task_id) c
+    WHERE t.id = c.task_id;
+
+    UPDATE tb_collaborators co
+    SET task_count = co.task_count + c.total
+    FROM (SELECT collaborator_id, COUNT(*) AS total FROM new_assignments GROUP BY collaborator_id) c
+    WHERE co.id = c.collaborator_id;
+    RETURN NULL;
+END
+$$;
+
+CREATE FUNCTION fn_assignments_count_deleted() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    UPDATE tb_tasks t
+    SET collaborator_count = t.collaborator_count - c.total
+    FROM (SELECT task_id, COUNT(*) AS total FROM old_assignments GROUP BY task_id) c
+    WHERE t.id = c.task_id;
+
+    UPDATE tb_collaborators co
+    SET task_count = co.task_count - c.total
+    FROM (SELECT collaborator_id, COUNT(*) AS total FROM old_assignments GROUP BY collaborator_id) c
+    WHERE co.id = c.collaborator_id;
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER trg_assignments_count_inserted AFTER INSERT ON task_collaborator
+    REFERENCING NEW TABLE AS new_assignments
+    FOR EACH STATEMENT EXECUTE FUNCTION fn_assignments_count_inserted();
+
+CREATE TRIGGER trg_assignments_count_deleted AFTER DELETE ON task_collaborator
+    REFERENCING OLD TABLE AS old_assignments
+    FOR EACH STATEMENT EXECUTE FUNCTION fn_assignments_count_deleted();
+
+-- The reports read the counters in order, so they are indexed in that order.
+
+CREATE INDEX idx_projects_task_count ON tb_projects (task_count DESC, id);
+CREATE INDEX idx_collaborators_task_count ON tb_collaborators (task_count DESC, id);
+CREATE INDEX idx_tasks_project_id_collaborator_count ON tb_tasks (project_id, collaborator_count DESC, id);
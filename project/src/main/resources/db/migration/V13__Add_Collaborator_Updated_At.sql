@@ -0,0 +1,2 @@
+-- Last-Modified / ETag source for GET /v1/collaborators/{id}; existing rows start at the migration time.
+ALTER TABLE tb_collaborators ADD COLUMN updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP;
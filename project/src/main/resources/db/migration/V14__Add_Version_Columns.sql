@@ -0,0 +1,4 @@
+-- Optimistic locking: Hibernate checks and increments these on every entity update.
+ALTER TABLE tb_projects ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tb_tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tb_collaborators ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
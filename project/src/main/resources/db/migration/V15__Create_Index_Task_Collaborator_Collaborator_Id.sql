@@ -0,0 +1,4 @@
+-- The task_collaborator primary key (task_id, collaborator_id) only serves lookups by task. Loading a
+-- collaborator's tasks, the ON DELETE CASCADE from tb_collaborators and the collaborator task-count
+-- reconciliation look assignments up by collaborator_id.
+CREATE INDEX idx_task_collaborator_collaborator_id_task_id ON task_collaborator (collaborator_id, task_id);
@@ -0,0 +1,10 @@
+-- Full-text search over project and task names (GET /v1/search). The text search configuration is
+-- app.search.language, passed in as the searchLanguage placeholder; the search queries use the same
+-- setting, so changing it later takes a migration that recreates these columns.
+ALTER TABLE tb_projects
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (to_tsvector('${searchLanguage}'::regconfig, name)) STORED;
+ALTER TABLE tb_tasks
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (to_tsvector('${searchLanguage}'::regconfig, name)) STORED;
+
+CREATE INDEX idx_projects_search_vector ON tb_projects USING GIN (search_vector);
+CREATE INDEX idx_tasks_search_vector ON tb_tasks USING GIN (search_vector);
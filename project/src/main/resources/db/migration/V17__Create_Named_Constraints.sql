@@ -0,0 +1,7 @@
+-- Writes rely on these instead of checking first: the services translate a violation back into the
+-- matching API error by constraint name, so the names are part of the contract (ConstraintNames).
+ALTER TABLE tb_collaborators RENAME CONSTRAINT tb_collaborators_email_key TO uk_collaborators_email;
+
+ALTER TABLE tb_projects ADD CONSTRAINT ck_projects_name_length CHECK (char_length(name) BETWEEN 3 AND 100);
+ALTER TABLE tb_tasks ADD CONSTRAINT ck_tasks_name_length CHECK (char_length(name) BETWEEN 3 AND 100);
+ALTER TABLE tb_collaborators ADD CONSTRAINT ck_collaborators_name_length CHECK (char_length(name) BETWEEN 3 AND 100);
@@ -0,0 +1,2 @@
+CREATE INDEX idx_tasks_project_id_id ON tb_tasks (project_id, id);
+CREATE INDEX idx_tasks_project_id_status_id ON tb_tasks (project_id, status, id);
@@ -0,0 +1,125 @@
+package com.management.project.integrationtest.cache;
+
+import com.management.project.config.ModelMapperConfig;
+import com.management.project.config.cache.CacheRegions;
+import com.management.project.config.cache.SecondLevelCacheConfig;
+import com.management.project.model.Project;
+import com.management.project.model.Task;
+import com.management.project.model.enums.StatusEnum;
+import com.management.project.repository.TaskRepository;
+import com.management.project.service.ProjectService;
+import com.management.project.service.cache.SecondLevelCacheEvictor;
+import com.management.project.service.streaming.JsonArrayWriter;
+import com.management.project.service.validation.InputValidator;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.cache.CacheManager;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({SecondLevelCacheConfig.class, ProjectService.class, SecondLevelCacheEvictor.class, InputValidator.class, ModelMapperConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private ProjectService service;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CacheManager secondLevelCacheManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private PagedResourcesAssembler<?> assembler;
+
+    @MockitoBean
+    private JsonArrayWriter jsonArrayWriter;
+
+    private TransactionTemplate transaction;
+
+    private Statistics statistics;
+
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        projectId = transaction.execute(status -> {
+            Project project = new Project("Cached project", null);
+            entityManager.persist(project);
+            for (int i = 0; i < 3; i++) {
+                Task task = new Task();
+                task.setName("Task " + i);
+                project.addTask(task);
+                entityManager.persist(task);
+            }
+            return project.getId();
+        });
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testFindByIdIsServedFromTheCacheOnceWarm() {
+        transaction.execute(status -> service.findById(projectId));
+        statistics.clear();
+
+        var result = transaction.execute(status -> service.findById(projectId));
+
+        assertEquals(3, result.getTasks().size());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getDomainDataRegionStatistics(CacheRegions.PROJECT_TASKS).getHitCount() > 0);
+    }
+
+    @Test
+    void testCreatingATaskEvictsTheCachedProjectTasks() {
+        transaction.execute(status -> service.findById(projectId));
+
+        transaction.executeWithoutResult(status ->
+                taskRepository.save(new Task("New task", null, entityManager.getReference(Project.class, projectId))));
+
+        var result = transaction.execute(status -> service.findById(projectId));
+        assertEquals(4, result.getTasks().size());
+    }
+
+    @Test
+    void testBulkStatusUpdateInvalidatesTheCachedTasks() {
+        transaction.execute(status -> service.findById(projectId));
+
+        int updated = transaction.execute(status -> taskRepository.updateStatusByProjectId(
+                projectId, StatusEnum.DONE, StatusEnum.NOT_DONE, null, null, Instant.now()));
+
+        var result = transaction.execute(status -> service.findById(projectId));
+        assertEquals(3, updated);
+        assertTrue(result.getTasks().stream().allMatch(task -> task.getStatus() == StatusEnum.DONE));
+    }
+
+    @Test
+    void testRegionsAreCreatedWithStatistics() {
+        for (String region : CacheRegions.ALL)
+            assertNotNull(secondLevelCacheManager.getCache(region), region);
+    }
+}
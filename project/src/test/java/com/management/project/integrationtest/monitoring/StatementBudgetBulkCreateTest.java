@@ -0,0 +1,79 @@
+package com.management.project.integrationtest.monitoring;
+
+import com.management.project.config.ModelMapperConfig;
+import com.management.project.config.monitoring.StatementBudgetFilter;
+import com.management.project.config.monitoring.StatementBudgetProperties;
+import com.management.project.data.dto.bulk.BulkResponseDTO;
+import com.management.project.data.dto.task.TaskCreateDTO;
+import com.management.project.data.dto.task.TaskResponseDTO;
+import com.management.project.model.Project;
+import com.management.project.service.TaskService;
+import com.management.project.service.cache.SecondLevelCacheEvictor;
+import com.management.project.service.validation.InputValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs a bulk create under the SQL budget filter with the application's budget: its sequence
+ * fetches and insert batches repeat by design and must not be reported as N+1.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TaskService.class, SecondLevelCacheEvictor.class, InputValidator.class, ModelMapperConfig.class})
+class StatementBudgetBulkCreateTest {
+
+    private static final int TASKS = 1_000;
+
+    private static final String URI = "/v1/tasks/bulk";
+
+    @Autowired
+    private TaskService service;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private PagedResourcesAssembler<?> assembler;
+
+    @Test
+    void testBulkCreateIsNotReportedAsRepeatedStatements() throws Exception {
+        Project project = new Project("Bulk project", null);
+        entityManager.persist(project);
+        entityManager.flush();
+        List<TaskCreateDTO> dtos = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++)
+            dtos.add(new TaskCreateDTO("Task " + i, null, project.getId()));
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        StatementBudgetFilter filter = new StatementBudgetFilter(new StatementBudgetProperties(), registry);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", URI);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, URI);
+        AtomicReference<BulkResponseDTO<TaskResponseDTO>> response = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            response.set(service.bulkCreate(dtos));
+            entityManager.flush();
+        });
+
+        assertEquals(TASKS, response.get().created());
+        // the sequence fetches and insert batches were prepared, and recorded
+        assertTrue(registry.get("app.sql.statements").summary().totalAmount() > 20);
+        assertNull(registry.find("app.sql.repeated").counter());
+        assertNull(registry.find("app.sql.budget.exceeded").counter());
+    }
+}
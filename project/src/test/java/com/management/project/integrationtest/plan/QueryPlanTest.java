@@ -0,0 +1,286 @@
+package com.management.project.integrationtest.plan;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.management.project.integrationtest.support.ExecutedStatements;
+import com.management.project.integrationtest.support.ExecutedStatements.Executed;
+import com.management.project.model.enums.StatusEnum;
+import com.management.project.repository.CollaboratorRepository;
+import com.management.project.repository.ProjectRepository;
+import com.management.project.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs every repository query against PostgreSQL, replays each executed statement under
+ * {@code EXPLAIN} with the same parameters and fails on a sequential scan of a seeded table, an
+ * index scan of one that only filters (no {@code Index Cond}, so it reads the index from the start
+ * instead of seeking) or a sort of more than {@value #MAX_SORTED_ROWS} rows, i.e. on a query the
+ * indexes no longer serve.
+ * <p>
+ * Opt-in, since it needs a PostgreSQL database it may migrate with Flyway:
+ * <pre>
+ * mvn test -Dtest=QueryPlanTest -Dplan-check.url=jdbc:postgresql://localhost:5432/plan_check
+ * </pre>
+ * ({@code plan-check.username} and {@code plan-check.password} default to the application's.)
+ * The seed rows live in the test transaction and are rolled back.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfSystemProperty(named = "plan-check.url", matches = ".+")
+@TestPropertySource(properties = {
+        "spring.datasource.url=${plan-check.url}",
+        "spring.datasource.username=${plan-check.username:postgres}",
+        "spring.datasource.password=${plan-check.password:root}",
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+})
+class QueryPlanTest {
+
+    private static final int PROJECTS = 2_000;
+
+    private static final int TASKS = 200_000;
+
+    private static final int COLLABORATORS = 20_000;
+
+    private static final int MAX_SORTED_ROWS = 1_000;
+
+    private static final Set<String> SEEDED_TABLES = Set.of("tb_projects", "tb_tasks", "tb_collaborators", "task_collaborator");
+
+    /**
+     * The total of a page request counts the whole table by definition.
+     */
+    private static final Pattern TABLE_COUNT = Pattern.compile("(?i)select count\\([^)]*\\) from \\w+ \\w+");
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CollaboratorRepository collaboratorRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.search.language}")
+    private String searchLanguage;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private long projectId;
+
+    private long taskId;
+
+    private long collaboratorId;
+
+    @TestConfiguration
+    static class RecordingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor recordingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? ExecutedStatements.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    @Test
+    void testRepositoryQueriesUseIndexes() {
+        seed();
+
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("ProjectRepository.findById", () -> projectRepository.findById(projectId));
+        queries.put("ProjectRepository.findWithTasksById", () -> projectRepository.findWithTasksById(projectId));
+        queries.put("ProjectRepository.findAll(Pageable)", () ->
+                projectRepository.findAll(PageRequest.of(50, 10, Sort.by(Sort.Direction.ASC, "name"))));
+        queries.put("ProjectRepository.findAllByOrderByNameAscIdAsc", () -> projectRepository.findAllByOrderByNameAscIdAsc(Limit.of(10)));
+        queries.put("ProjectRepository.findAllByOrderByNameDescIdDesc", () -> projectRepository.findAllByOrderByNameDescIdDesc(Limit.of(10)));
+        queries.put("ProjectRepository.findAllAfterAsc", () -> projectRepository.findAllAfterAsc("Plan project 001000", projectId, Limit.of(10)));
+        queries.put("ProjectRepository.findAllAfterDesc", () -> projectRepository.findAllAfterDesc("Plan project 001000", projectId, Limit.of(10)));
+        queries.put("ProjectRepository.findVersionById", () -> projectRepository.findVersionById(projectId));
+        queries.put("ProjectRepository.patch", () -> projectRepository.patch(projectId, null, "DONE", Instant.now(), null));
+        queries.put("ProjectRepository.findExistingIds", () -> projectRepository.findExistingIds(List.of(projectId, projectId + 1)));
+        queries.put("ProjectRepository.countTasksPerProject", () -> projectRepository.countTasksPerProject(150, Limit.of(10)));
+        queries.put("ProjectRepository.existsById", () -> projectRepository.existsById(projectId));
+        queries.put("ProjectRepository.search", () -> projectRepository.search(searchLanguage, "001000", 10_000, 21));
+
+        queries.put("TaskRepository.findById", () -> taskRepository.findById(taskId));
+        queries.put("Task.collaborators", () -> taskRepository.findById(taskId).ifPresent(task -> Hibernate.initialize(task.getCollaborators())));
+        queries.put("TaskRepository.findByProjectIdAndIdGreaterThanOrderByIdAsc", () ->
+                taskRepository.findByProjectIdAndIdGreaterThanOrderByIdAsc(projectId, 0L, Limit.of(50)));
+        queries.put("TaskRepository.findByProjectIdAndStatusAndIdGreaterThanOrderByIdAsc", () ->
+                taskRepository.findByProjectIdAndStatusAndIdGreaterThanOrderByIdAsc(projectId, StatusEnum.DOING, 0L, Limit.of(50)));
+        queries.put("TaskRepository.countCollaboratorsPerTaskByProjectId", () -> taskRepository.countCollaboratorsPerTaskByProjectId(projectId));
+        queries.put("TaskRepository.findVersionById", () -> taskRepository.findVersionById(taskId));
+        queries.put("TaskRepository.patch", () -> taskRepository.patch(taskId, null, "DONE", Instant.now(), 0L));
+        queries.put("TaskRepository.findExistingIds", () -> taskRepository.findExistingIds(List.of(taskId, taskId + 1)));
+        queries.put("TaskRepository.insertCollaboratorAssignments", () ->
+                taskRepository.insertCollaboratorAssignments(new Long[]{taskId}, new Long[]{collaboratorId}));
+        queries.put("TaskRepository.updateStatusByProjectId", () ->
+                taskRepository.updateStatusByProjectId(projectId, StatusEnum.DONE, StatusEnum.DOING, null, null, Instant.now()));
+        queries.put("TaskRepository.search", () -> taskRepository.search(searchLanguage, "12345", 10_000, 21));
+
+        queries.put("CollaboratorRepository.findById", () -> collaboratorRepository.findById(collaboratorId));
+        queries.put("Collaborator.tasks", () -> collaboratorRepository.findById(collaboratorId).ifPresent(collaborator -> Hibernate.initialize(collaborator.getTasks())));
+        queries.put("CollaboratorRepository.findAll(Pageable)", () ->
+                collaboratorRepository.findAll(PageRequest.of(50, 10, Sort.by(Sort.Direction.DESC, "name"))));
+        queries.put("CollaboratorRepository.findAllByOrderByNameAscIdAsc", () -> collaboratorRepository.findAllByOrderByNameAscIdAsc(Limit.of(10)));
+        queries.put("CollaboratorRepository.findAllByOrderByNameDescIdDesc", () -> collaboratorRepository.findAllByOrderByNameDescIdDesc(Limit.of(10)));
+        queries.put("CollaboratorRepository.findAllAfterAsc", () -> collaboratorRepository.findAllAfterAsc("Plan collaborator 010000", collaboratorId, Limit.of(10)));
+        queries.put("CollaboratorRepository.findAllAfterDesc", () -> collaboratorRepository.findAllAfterDesc("Plan collaborator 010000", collaboratorId, Limit.of(10)));
+        queries.put("CollaboratorRepository.findVersionById", () -> collaboratorRepository.findVersionById(collaboratorId));
+        queries.put("CollaboratorRepository.patch", () -> collaboratorRepository.patch(collaboratorId, "Plan rename", null, null, Instant.now(), null));
+        queries.put("CollaboratorRepository.findExistingIds", () -> collaboratorRepository.findExistingIds(List.of(collaboratorId, collaboratorId + 1)));
+        queries.put("CollaboratorRepository.findExistingEmails", () -> collaboratorRepository.findExistingEmails(List.of("plan1@plan.local", "nobody@plan.local")));
+        queries.put("CollaboratorRepository.countTasksPerCollaborator", () -> collaboratorRepository.countTasksPerCollaborator(1, Limit.of(10)));
+
+        List<String> violations = new ArrayList<>();
+        queries.forEach((name, query) -> {
+            List<Executed> executed = ExecutedStatements.record(() -> {
+                query.run();
+                entityManager.flush();
+                entityManager.clear();
+            });
+            assertFalse(executed.isEmpty(), name + " ran no statement");
+            for (Executed statement : executed) {
+                if (TABLE_COUNT.matcher(statement.sql()).matches())
+                    continue;
+                JsonNode plan = explain(statement);
+                List<String> problems = new ArrayList<>();
+                collectProblems(plan, problems);
+                if (!problems.isEmpty())
+                    violations.add(name + ": " + problems + "\n  " + statement.sql() + "\n  " + plan.toPrettyString());
+            }
+        });
+
+        assertTrue(violations.isEmpty(), () -> "Plans not served by indexes:\n" + String.join("\n", violations));
+    }
+
+    /**
+     * Full-table reads by design, checked here only for running at all: the reconciliations sweep
+     * every row and the streams return the whole ranking.
+     */
+    @Test
+    void testFullTableQueriesRun() {
+        seed();
+
+        assertDoesNotThrow(() -> projectRepository.reconcileTaskCounts());
+        assertDoesNotThrow(() -> taskRepository.reconcileCollaboratorCounts());
+        assertDoesNotThrow(() -> collaboratorRepository.reconcileTaskCounts());
+        try (Stream<?> ranking = projectRepository.streamTasksPerProject(1)) {
+            assertTrue(ranking.findFirst().isPresent());
+        }
+        try (Stream<?> ranking = collaboratorRepository.streamTasksPerCollaborator(1)) {
+            assertTrue(ranking.findFirst().isPresent());
+        }
+    }
+
+    /**
+     * Bulk-inserts the seed rows after the existing ones, gives a few projects a larger share of the
+     * tasks so the count rankings have a selective range, and refreshes the planner statistics.
+     */
+    private void seed() {
+        long projects = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM tb_projects", Long.class);
+        long tasks = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM tb_tasks", Long.class);
+        long collaborators = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM tb_collaborators", Long.class);
+
+        jdbcTemplate.update("""
+                INSERT INTO tb_projects (id, name, status)
+                SELECT ? + g, 'Plan project ' || lpad(g::text, 6, '0'), (ARRAY['NOT_DONE', 'DOING', 'DONE'])[g % 3 + 1]
+                FROM generate_series(1, ?) g
+                """, projects, PROJECTS);
+        jdbcTemplate.update("""
+                INSERT INTO tb_tasks (id, name, status, project_id, updated_at)
+                SELECT ? + g, 'Plan task ' || g, (ARRAY['NOT_DONE', 'DOING', 'DONE'])[g % 3 + 1],
+                       ? + CASE WHEN g % 10 = 0 THEN g % 20 ELSE g % ? END + 1,
+                       now() - g * interval '1 second'
+                FROM generate_series(1, ?) g
+                """, tasks, projects, PROJECTS, TASKS);
+        jdbcTemplate.update("""
+                INSERT INTO tb_collaborators (id, name, email, function)
+                SELECT ? + g, 'Plan collaborator ' || lpad(g::text, 6, '0'), 'plan' || g || '@plan.local', (g % 5)::text
+                FROM generate_series(1, ?) g
+                """, collaborators, COLLABORATORS);
+        jdbcTemplate.update("""
+                INSERT INTO task_collaborator (task_id, collaborator_id)
+                SELECT ? + g, ? + (g % ?) + 1 FROM generate_series(1, ?) g
+                UNION ALL
+                SELECT ? + g, ? + ((g + ? / 2) % ?) + 1 FROM generate_series(1, ?) g
+                """, tasks, collaborators, COLLABORATORS, TASKS, tasks, collaborators, COLLABORATORS, COLLABORATORS, TASKS);
+        jdbcTemplate.execute("ANALYZE tb_projects, tb_tasks, tb_collaborators, task_collaborator");
+
+        projectId = projects + 1;
+        taskId = tasks + 1;
+        collaboratorId = collaborators + 1;
+        entityManager.clear();
+    }
+
+    private JsonNode explain(Executed statement) {
+        String json = jdbcTemplate.execute("EXPLAIN (FORMAT JSON) " + statement.sql(), (PreparedStatement explain) -> {
+            statement.bind(explain);
+            try (ResultSet result = explain.executeQuery()) {
+                result.next();
+                return result.getString(1);
+            }
+        });
+        try {
+            return objectMapper.readTree(json).get(0).get("Plan");
+        } catch (Exception e) {
+            throw new IllegalStateException("Unreadable plan for " + statement.sql(), e);
+        }
+    }
+
+    private void collectProblems(JsonNode node, List<String> problems) {
+        String type = node.path("Node Type").asText();
+        String relation = node.path("Relation Name").asText();
+        if (type.equals("Seq Scan") && SEEDED_TABLES.contains(relation))
+            problems.add("Seq Scan on " + relation);
+        if ((type.equals("Index Scan") || type.equals("Index Only Scan")) && SEEDED_TABLES.contains(relation)
+                && node.has("Filter") && !node.has("Index Cond"))
+            problems.add(type + " on " + relation + " without Index Cond, filtering " + node.path("Filter").asText());
+        if (type.equals("Sort") && node.path("Plan Rows").asLong() > MAX_SORTED_ROWS)
+            problems.add("Sort of " + node.path("Plan Rows").asLong() + " rows");
+        for (JsonNode child : node.path("Plans"))
+            collectProblems(child, problems);
+    }
+}
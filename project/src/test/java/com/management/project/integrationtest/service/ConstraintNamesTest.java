@@ -0,0 +1,60 @@
+package com.management.project.integrationtest.service;
+
+import com.management.project.model.Collaborator;
+import com.management.project.model.Project;
+import com.management.project.model.Task;
+import com.management.project.model.enums.FunctionEnum;
+import com.management.project.repository.CollaboratorRepository;
+import com.management.project.repository.ProjectRepository;
+import com.management.project.repository.TaskRepository;
+import com.management.project.service.constraints.ConstraintNames;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class ConstraintNamesTest {
+
+    @Autowired
+    private CollaboratorRepository collaboratorRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void testDuplicateEmailReportsUniqueConstraint() {
+        collaboratorRepository.saveAndFlush(new Collaborator("First collaborator", "taken@example.com", FunctionEnum.DEVELOPER));
+        Collaborator duplicate = new Collaborator("Second collaborator", "taken@example.com", FunctionEnum.TESTER);
+
+        var e = assertThrows(DataIntegrityViolationException.class, () -> collaboratorRepository.saveAndFlush(duplicate));
+
+        assertEquals(ConstraintNames.COLLABORATOR_EMAIL, ConstraintNames.of(e));
+    }
+
+    @Test
+    void testMissingProjectReportsForeignKey() {
+        Task task = new Task("Orphan task", null, projectRepository.getReferenceById(-1L));
+
+        var e = assertThrows(DataIntegrityViolationException.class, () -> taskRepository.saveAndFlush(task));
+
+        assertEquals(ConstraintNames.TASK_PROJECT, ConstraintNames.of(e));
+    }
+
+    @Test
+    void testShortNameReportsCheckConstraint() {
+        Project project = projectRepository.saveAndFlush(new Project("Constrained project", null));
+        Task task = new Task("Tk", null, project);
+
+        var e = assertThrows(DataIntegrityViolationException.class, () -> taskRepository.saveAndFlush(task));
+
+        assertEquals(ConstraintNames.TASK_NAME_LENGTH, ConstraintNames.of(e));
+    }
+}
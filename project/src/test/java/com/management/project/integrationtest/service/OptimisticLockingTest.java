@@ -0,0 +1,97 @@
+package com.management.project.integrationtest.service;
+
+import com.management.project.config.ModelMapperConfig;
+import com.management.project.data.dto.task.TaskUpdateDTO;
+import com.management.project.model.Collaborator;
+import com.management.project.model.Project;
+import com.management.project.model.Task;
+import com.management.project.model.enums.FunctionEnum;
+import com.management.project.model.enums.StatusEnum;
+import com.management.project.repository.TaskRepository;
+import com.management.project.service.TaskService;
+import com.management.project.service.cache.SecondLevelCacheEvictor;
+import com.management.project.service.exceptions.PreconditionFailedException;
+import com.management.project.service.validation.InputValidator;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TaskService.class, SecondLevelCacheEvictor.class, InputValidator.class, ModelMapperConfig.class})
+class OptimisticLockingTest {
+
+    @Autowired
+    private TaskService service;
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private PagedResourcesAssembler<?> assembler;
+
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        Project project = new Project("Versioned project", null);
+        entityManager.persist(project);
+        Task task = new Task("Versioned task", null, project);
+        entityManager.persist(task);
+        entityManager.flush();
+        entityManager.clear();
+        taskId = task.getId();
+    }
+
+    @Test
+    void testUpdateWithCurrentIfMatchBumpsVersion() {
+        String etag = service.findVersion(taskId).etag();
+
+        service.update(taskId, new TaskUpdateDTO("Renamed task", StatusEnum.DOING), etag);
+        entityManager.flush();
+
+        assertNotEquals(etag, service.findVersion(taskId).etag());
+        assertThrows(
+                PreconditionFailedException.class,
+                () -> service.update(taskId, new TaskUpdateDTO("Renamed again", null), etag)
+        );
+    }
+
+    @Test
+    void testStaleCopyIsRejected() {
+        Task stale = repository.findById(taskId).orElseThrow();
+        entityManager.detach(stale);
+
+        Task current = repository.findById(taskId).orElseThrow();
+        current.setName("Updated first");
+        entityManager.flush();
+
+        stale.setName("Updated second");
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> repository.save(stale));
+    }
+
+    @Test
+    void testAssigningCollaboratorsKeepsTaskVersion() {
+        Collaborator collaborator = new Collaborator("Versioned collaborator", "versioned@example.com", FunctionEnum.DEVELOPER);
+        entityManager.persist(collaborator);
+        String etag = service.findVersion(taskId).etag();
+
+        Task task = repository.findById(taskId).orElseThrow();
+        task.addCollaborators(collaborator);
+        entityManager.flush();
+
+        assertEquals(etag, service.findVersion(taskId).etag());
+    }
+}
@@ -0,0 +1,154 @@
+package com.management.project.integrationtest.service;
+
+import com.management.project.config.ModelMapperConfig;
+import com.management.project.config.monitoring.StatementStats;
+import com.management.project.data.dto.conditional.ResourceVersion;
+import com.management.project.data.dto.project.ProjectResponseWithTasksDTO;
+import com.management.project.data.dto.project.ProjectUpdateDTO;
+import com.management.project.model.Project;
+import com.management.project.model.Task;
+import com.management.project.service.ProjectService;
+import com.management.project.service.cache.SecondLevelCacheEvictor;
+import com.management.project.service.exceptions.PreconditionFailedException;
+import com.management.project.service.streaming.JsonArrayWriter;
+import com.management.project.service.validation.InputValidator;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.management.project.integrationtest.support.SqlStatementAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ProjectService.class, SecondLevelCacheEvictor.class, InputValidator.class, ModelMapperConfig.class})
+class ProjectServiceQueryCountTest {
+
+    private static final int TASKS = 50;
+
+    private static final int EXTRA_PROJECTS = 5;
+
+    @Autowired
+    private ProjectService service;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private PagedResourcesAssembler<?> assembler;
+
+    @MockitoBean
+    private JsonArrayWriter jsonArrayWriter;
+
+    private Statistics statistics;
+
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        Project project = new Project("Project with tasks", null);
+        entityManager.persist(project);
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setName("Task " + i);
+            project.addTask(task);
+            entityManager.persist(task);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        projectId = project.getId();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testFindByIdLoadsProjectAndTasksInOneStatement() {
+        ProjectResponseWithTasksDTO result = service.findById(projectId);
+
+        assertEquals(TASKS, result.getTasks().size());
+        assertTrue(result.getTasks().stream().allMatch(task -> projectId.equals(task.getProjectId())));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindByIdRunsNoRepeatedStatements() {
+        List<ProjectResponseWithTasksDTO> results = new ArrayList<>();
+
+        StatementStats stats = recordStatements(() -> results.add(service.findById(projectId)));
+
+        assertEquals(TASKS, results.get(0).getTasks().size());
+        assertStatementCount(1, stats);
+        assertNoRepeatedStatements(stats);
+    }
+
+    @Test
+    void testRecorderFlagsLazyCollectionPerProjectAsRepeatedStatement() {
+        for (int i = 0; i < EXTRA_PROJECTS; i++)
+            entityManager.persist(new Project("Extra project " + i, null));
+        entityManager.flush();
+        entityManager.clear();
+
+        StatementStats stats = recordStatements(() ->
+                entityManager.createQuery("select p from Project p", Project.class).getResultList()
+                        .forEach(project -> Hibernate.initialize(project.getTasks())));
+
+        StatementStats.Repeated repeated = stats.mostRepeated().orElseThrow();
+        assertEquals(EXTRA_PROJECTS + 1, repeated.count());
+        assertEquals(EXTRA_PROJECTS + 2, stats.total());
+        assertThrows(AssertionError.class, () -> assertNoRepeatedStatements(stats));
+    }
+
+    @Test
+    void testFindVersionIsOneStatementAndFollowsTaskChanges() {
+        List<ResourceVersion> versions = new ArrayList<>();
+
+        StatementStats stats = recordStatements(() -> versions.add(service.findVersion(projectId)));
+        assertStatementCount(1, stats);
+
+        Task task = entityManager.createQuery("select t from Task t where t.project.id = :id", Task.class)
+                .setParameter("id", projectId)
+                .setMaxResults(1)
+                .getSingleResult();
+        task.setUpdatedAt(Instant.now().plusSeconds(60));
+        entityManager.flush();
+        versions.add(service.findVersion(projectId));
+
+        entityManager.remove(task);
+        entityManager.flush();
+        versions.add(service.findVersion(projectId));
+
+        assertEquals(3, versions.stream().map(ResourceVersion::etag).distinct().count());
+        assertTrue(versions.get(1).lastModified() > versions.get(0).lastModified());
+    }
+
+    @Test
+    void testConditionalUpdateAcceptsTheTagOfFindVersionInOneRead() {
+        String etag = service.findVersion(projectId).etag();
+        entityManager.clear();
+
+        StatementStats stats = recordStatements(() -> {
+            service.update(projectId, new ProjectUpdateDTO("Renamed project", null), etag);
+            entityManager.flush();
+        });
+
+        // the project and its tasks in one select, then the update: no separate version aggregate
+        assertStatementCount(2, stats);
+        assertTrue(stats.counts().keySet().stream().noneMatch(sql -> sql.contains("max(")));
+        assertThrows(PreconditionFailedException.class,
+                () -> service.update(projectId, new ProjectUpdateDTO("Renamed again", null), etag));
+    }
+}
@@ -0,0 +1,103 @@
+package com.management.project.integrationtest.service;
+
+import com.management.project.data.dto.collaborator.CollaboratorTaskCount;
+import com.management.project.data.dto.project.ProjectTaskCountDTO;
+import com.management.project.data.dto.task.TaskCollaboratorCountDTO;
+import com.management.project.model.Collaborator;
+import com.management.project.model.Project;
+import com.management.project.model.Task;
+import com.management.project.model.enums.FunctionEnum;
+import com.management.project.repository.CollaboratorRepository;
+import com.management.project.repository.ProjectRepository;
+import com.management.project.repository.TaskRepository;
+import com.management.project.service.counters.TaskCountReconciliationService;
+import com.management.project.service.counters.TaskCountReconciliationService.Drift;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * H2 has none of the PostgreSQL counter triggers, so every counter starts out drifted at zero
+ * and the reconciliation has to find and repair all of them.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TaskCountReconciliationService.class)
+class TaskCountReconciliationServiceTest {
+
+    @Autowired
+    private TaskCountReconciliationService service;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private CollaboratorRepository collaboratorRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Project busy;
+    private Project idle;
+    private Collaborator collaborator;
+
+    @BeforeEach
+    void setUp() {
+        busy = new Project("Busy", null);
+        idle = new Project("Idle", null);
+        entityManager.persist(busy);
+        entityManager.persist(idle);
+
+        collaborator = new Collaborator("Collaborator", "collaborator@email.com", FunctionEnum.DEVELOPER);
+        entityManager.persist(collaborator);
+
+        for (int i = 0; i < 3; i++) {
+            Task task = new Task();
+            task.setName("Task " + i);
+            busy.addTask(task);
+            if (i == 0)
+                task.addCollaborators(collaborator);
+            entityManager.persist(task);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testReconcileRepairsDriftedCounters() {
+        Drift drift = service.reconcile();
+
+        assertEquals(new Drift(1, 1, 1), drift);
+
+        List<ProjectTaskCountDTO> projects = projectRepository.countTasksPerProject(0, Limit.unlimited());
+        assertEquals(busy.getId(), projects.get(0).projectId());
+        assertEquals(3L, projects.get(0).taskCount());
+        assertEquals(idle.getId(), projects.get(1).projectId());
+        assertEquals(0L, projects.get(1).taskCount());
+
+        List<CollaboratorTaskCount> collaborators = collaboratorRepository.countTasksPerCollaborator(0, Limit.unlimited());
+        assertEquals(1L, collaborators.get(0).taskCount());
+
+        List<TaskCollaboratorCountDTO> tasks = taskRepository.countCollaboratorsPerTaskByProjectId(busy.getId());
+        assertEquals(List.of(1L, 0L, 0L), tasks.stream().map(TaskCollaboratorCountDTO::collaboratorCount).toList());
+    }
+
+    @Test
+    void testReconcileIsNoOpWithoutDrift() {
+        service.reconcile();
+
+        assertEquals(0, service.reconcile().total());
+    }
+}
@@ -0,0 +1,111 @@
+package com.management.project.integrationtest.service;
+
+import com.management.project.config.ModelMapperConfig;
+import com.management.project.config.monitoring.StatementStats;
+import com.management.project.data.dto.task.TaskStatusTransitionDTO;
+import com.management.project.model.Project;
+import com.management.project.model.Task;
+import com.management.project.model.enums.StatusEnum;
+import com.management.project.service.TaskService;
+import com.management.project.service.cache.SecondLevelCacheEvictor;
+import com.management.project.service.validation.InputValidator;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.management.project.integrationtest.support.SqlStatementAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TaskService.class, SecondLevelCacheEvictor.class, InputValidator.class, ModelMapperConfig.class})
+class TaskStatusTransitionTest {
+
+    @Autowired
+    private TaskService service;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private PagedResourcesAssembler<?> assembler;
+
+    private Long projectId;
+
+    private final List<Long> taskIds = new ArrayList<>();
+
+    private Long otherTaskId;
+
+    @BeforeEach
+    void setUp() {
+        Project project = new Project("Sprint project", null);
+        Project other = new Project("Other project", null);
+        entityManager.persist(project);
+        entityManager.persist(other);
+        for (int i = 0; i < 4; i++) {
+            Task task = new Task("Task " + i, null, project);
+            entityManager.persist(task);
+            task.setStatus(i < 3 ? StatusEnum.DOING : StatusEnum.NOT_DONE);
+            taskIds.add(task.getId());
+        }
+        Task otherTask = new Task("Other task", null, other);
+        entityManager.persist(otherTask);
+        otherTask.setStatus(StatusEnum.DOING);
+        entityManager.flush();
+        entityManager.clear();
+        projectId = project.getId();
+        otherTaskId = otherTask.getId();
+    }
+
+    @Test
+    void testMovesMatchingTasksInOneStatement() {
+        Instant before = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        List<Long> versions = taskIds.stream().map(id -> entityManager.find(Task.class, id).getVersion()).toList();
+        entityManager.clear();
+        List<Integer> updated = new ArrayList<>();
+
+        StatementStats stats = recordStatements(() -> updated.add(service.updateStatusByProjectId(
+                projectId, new TaskStatusTransitionDTO(StatusEnum.DONE, StatusEnum.DOING, null, null))));
+
+        assertEquals(3, updated.get(0));
+        // the project existence check and the update
+        assertStatementCount(2, stats);
+        for (int i = 0; i < 3; i++) {
+            Task task = entityManager.find(Task.class, taskIds.get(i));
+            assertEquals(StatusEnum.DONE, task.getStatus());
+            assertEquals(versions.get(i) + 1, task.getVersion());
+            assertFalse(task.getUpdatedAt().isBefore(before));
+        }
+        assertEquals(StatusEnum.NOT_DONE, entityManager.find(Task.class, taskIds.get(3)).getStatus());
+        assertEquals(StatusEnum.DOING, entityManager.find(Task.class, otherTaskId).getStatus());
+    }
+
+    @Test
+    void testCombinesFiltersAndSkipsTasksAlreadyInTheTargetStatus() {
+        List<Long> ids = List.of(taskIds.get(0), taskIds.get(3), otherTaskId);
+        Long version = entityManager.find(Task.class, taskIds.get(3)).getVersion();
+        entityManager.clear();
+
+        int updated = service.updateStatusByProjectId(projectId,
+                new TaskStatusTransitionDTO(StatusEnum.NOT_DONE, null, ids, Instant.now().plusSeconds(60)));
+
+        assertEquals(1, updated);
+        assertEquals(StatusEnum.NOT_DONE, entityManager.find(Task.class, taskIds.get(0)).getStatus());
+        assertEquals(version, entityManager.find(Task.class, taskIds.get(3)).getVersion());
+        assertEquals(StatusEnum.DOING, entityManager.find(Task.class, otherTaskId).getStatus());
+
+        assertEquals(0, service.updateStatusByProjectId(projectId,
+                new TaskStatusTransitionDTO(StatusEnum.DONE, null, null, Instant.now().minusSeconds(60))));
+    }
+}
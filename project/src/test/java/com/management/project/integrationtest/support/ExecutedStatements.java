@@ -0,0 +1,96 @@
+package com.management.project.integrationtest.support;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the prepared statements executed on the current thread together with the calls that bound
+ * their parameters, so they can be replayed with the same values, e.g. under {@code EXPLAIN}.
+ * Statements only go through the recorder when the {@link DataSource} was {@link #wrap wrapped}.
+ */
+public final class ExecutedStatements {
+
+    private static final ThreadLocal<List<Executed>> CURRENT = new ThreadLocal<>();
+
+    private static final Set<String> EXECUTIONS = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "addBatch");
+
+    private ExecutedStatements() {
+    }
+
+    public static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (method, result, args) ->
+                method.getName().equals("getConnection") ? proxy(Connection.class, (Connection) result, ExecutedStatements::statement) : result);
+    }
+
+    public static List<Executed> record(Runnable action) {
+        List<Executed> executed = new ArrayList<>();
+        CURRENT.set(executed);
+        try {
+            action.run();
+        } finally {
+            CURRENT.remove();
+        }
+        return executed;
+    }
+
+    private static Object statement(Method method, Object result, Object[] args) {
+        if (!method.getName().equals("prepareStatement"))
+            return result;
+        String sql = (String) args[0];
+        List<Binding> bindings = new ArrayList<>();
+        return proxy(PreparedStatement.class, (PreparedStatement) result, (call, value, callArgs) -> {
+            if (call.getName().startsWith("set") && callArgs != null && callArgs.length >= 2 && callArgs[0] instanceof Integer)
+                bindings.add(new Binding(call, callArgs.clone()));
+            else if (call.getName().equals("clearParameters"))
+                bindings.clear();
+            else if (EXECUTIONS.contains(call.getName()) && (callArgs == null || callArgs.length == 0) && CURRENT.get() != null)
+                CURRENT.get().add(new Executed(sql, List.copyOf(bindings)));
+            return value;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, ResultHandler handler) {
+        InvocationHandler invocation = (proxy, method, args) -> {
+            try {
+                return handler.handle(method, method.invoke(target, args), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(ExecutedStatements.class.getClassLoader(), new Class<?>[]{type}, invocation);
+    }
+
+    @FunctionalInterface
+    private interface ResultHandler {
+        Object handle(Method method, Object result, Object[] args) throws Throwable;
+    }
+
+    public record Executed(String sql, List<Binding> bindings) {
+
+        /**
+         * Binds the recorded parameters to a statement whose placeholders are in the same positions.
+         */
+        public void bind(PreparedStatement statement) throws SQLException {
+            for (Binding binding : bindings) {
+                try {
+                    binding.method().invoke(statement, binding.args());
+                } catch (ReflectiveOperationException e) {
+                    throw new SQLException("Could not replay " + binding.method().getName(), e);
+                }
+            }
+        }
+    }
+
+    public record Binding(Method method, Object[] args) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.management.project.integrationtest.support;
+
+import com.management.project.config.monitoring.StatementRecorder;
+import com.management.project.config.monitoring.StatementStats;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statement-count assertions over the same recorder the per-request SQL budget uses. Relies on the
+ * {@code CountingStatementInspector} configured in {@code application.yml}.
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    public static StatementStats recordStatements(Runnable action) {
+        StatementStats stats;
+        StatementRecorder.start();
+        try {
+            action.run();
+        } finally {
+            stats = StatementRecorder.stop();
+        }
+        return stats;
+    }
+
+    public static void assertStatementCount(int expected, StatementStats stats) {
+        assertEquals(expected, stats.total(), () -> "SQL statements: " + stats.counts());
+    }
+
+    public static void assertNoRepeatedStatements(StatementStats stats) {
+        stats.mostRepeated().ifPresent(repeated ->
+                fail("Statement ran " + repeated.count() + " times, likely N+1: " + repeated.sql()));
+    }
+}
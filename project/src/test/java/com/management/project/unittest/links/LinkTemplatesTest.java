@@ -0,0 +1,89 @@
+package com.management.project.unittest.links;
+
+import com.management.project.controller.CollaboratorController;
+import com.management.project.controller.ProjectController;
+import com.management.project.controller.TaskController;
+import com.management.project.data.dto.project.ProjectCreateDTO;
+import com.management.project.data.dto.project.ProjectUpdateDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static com.management.project.controller.links.LinkTemplates.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+class LinkTemplatesTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void matchesMethodOnWithoutRequest() {
+        assertAllRoutesMatchMethodOn(42L);
+    }
+
+    @Test
+    void matchesMethodOnInsideRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/projects/42");
+        request.setContextPath("/api");
+        request.setServerName("example.com");
+        request.setServerPort(8443);
+        request.setScheme("https");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        assertAllRoutesMatchMethodOn(42L);
+        assertEquals("https://example.com:8443/api/v1/projects/42", PROJECT_SELF.expand(42L).getHref());
+    }
+
+    @Test
+    void nullIdProducesTemplatedLink() {
+        Link link = TASK_SELF.expand(null);
+
+        assertEquals(linkTo(methodOn(TaskController.class).findById(null, null)).withSelfRel().getHref(), link.getHref());
+        assertTrue(link.isTemplated());
+    }
+
+    private void assertAllRoutesMatchMethodOn(Long id) {
+        assertSameLink(linkTo(methodOn(ProjectController.class).findAll(0, 10, "desc")).withRel("findAll").withType("GET"),
+                PROJECT_FIND_ALL.toLink());
+        assertSameLink(linkTo(methodOn(ProjectController.class).findById(id, null)).withSelfRel().withType("GET"),
+                PROJECT_SELF.expand(id));
+        assertSameLink(linkTo(methodOn(ProjectController.class).create(new ProjectCreateDTO())).withRel("create").withType("POST"),
+                PROJECT_CREATE.toLink());
+        assertSameLink(linkTo(methodOn(ProjectController.class).update(id, new ProjectUpdateDTO(), null)).withRel("update").withType("PUT"),
+                PROJECT_UPDATE.expand(id));
+        assertSameLink(linkTo(methodOn(ProjectController.class).delete(id)).withRel("delete").withType("DELETE"),
+                PROJECT_DELETE.expand(id));
+
+        assertSameLink(linkTo(methodOn(TaskController.class).findById(id, null)).withSelfRel().withType("GET"),
+                TASK_SELF.expand(id));
+        assertSameLink(linkTo(methodOn(TaskController.class).create(null)).withRel("create").withType("POST"),
+                TASK_CREATE.toLink());
+        assertSameLink(linkTo(methodOn(TaskController.class).update(id, null, null)).withRel("update").withType("PUT"),
+                TASK_UPDATE.expand(id));
+
+        assertSameLink(linkTo(methodOn(CollaboratorController.class).findAll(0, 10, "desc")).withRel("findAll").withType("GET"),
+                COLLABORATOR_FIND_ALL.toLink());
+        assertSameLink(linkTo(methodOn(CollaboratorController.class).findById(id, null)).withSelfRel().withType("GET"),
+                COLLABORATOR_SELF.expand(id));
+        assertSameLink(linkTo(methodOn(CollaboratorController.class).create(null)).withRel("create").withType("POST"),
+                COLLABORATOR_CREATE.toLink());
+        assertSameLink(linkTo(methodOn(CollaboratorController.class).update(id, null, null)).withRel("update").withType("PUT"),
+                COLLABORATOR_UPDATE.expand(id));
+        assertSameLink(linkTo(methodOn(CollaboratorController.class).delete(id)).withRel("delete").withType("DELETE"),
+                COLLABORATOR_DELETE.expand(id));
+    }
+
+    private void assertSameLink(Link expected, Link actual) {
+        assertEquals(expected.getHref(), actual.getHref());
+        assertEquals(expected.getRel(), actual.getRel());
+        assertEquals(expected.getType(), actual.getType());
+    }
+}
@@ -0,0 +1,108 @@
+package com.management.project.unittest.mapper;
+
+import com.management.project.data.dto.collaborator.CollaboratorCreateDTO;
+import com.management.project.data.dto.project.ProjectCreateDTO;
+import com.management.project.data.dto.project.ProjectResponseWithTasksDTO;
+import com.management.project.data.dto.task.TaskResponseDTO;
+import com.management.project.data.mapper.EntityMapper;
+import com.management.project.data.mapper.GeneratedEntityMapper;
+import com.management.project.data.mapper.ModelMapperEntityMapper;
+import com.management.project.data.mapper.TimedEntityMapper;
+import com.management.project.model.Collaborator;
+import com.management.project.model.Project;
+import com.management.project.model.Task;
+import com.management.project.model.enums.FunctionEnum;
+import com.management.project.model.enums.StatusEnum;
+import com.management.project.unittest.mocks.MockCollaborator;
+import com.management.project.unittest.mocks.MockProject;
+import com.management.project.unittest.mocks.MockTask;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityMapperTest {
+
+    private final EntityMapper generated = Mappers.getMapper(GeneratedEntityMapper.class);
+    private final EntityMapper reflective = new ModelMapperEntityMapper(new ModelMapper());
+
+    @Test
+    void projectResponseMatchesModelMapper() {
+        Project entity = new MockProject().mockEntity(1);
+
+        assertEquals(reflective.toResponse(entity), generated.toResponse(entity));
+    }
+
+    @Test
+    void projectResponseWithTasksMatchesModelMapper() {
+        Project entity = new MockProject().mockEntity(1);
+        new MockTask().mockListEntity(3).forEach(entity::addTask);
+
+        ProjectResponseWithTasksDTO expected = reflective.toResponseWithTasks(entity);
+        ProjectResponseWithTasksDTO result = generated.toResponseWithTasks(entity);
+
+        assertEquals(expected, result);
+        assertEquals(3, result.getTasks().size());
+        result.getTasks().forEach(task -> assertEquals(entity.getId(), task.getProjectId()));
+    }
+
+    @Test
+    void taskResponseMatchesModelMapper() {
+        Task entity = new MockTask().mockEntity(1);
+        entity.setProject(new MockProject().mockEntity(7));
+
+        TaskResponseDTO result = generated.toResponse(entity);
+
+        assertEquals(reflective.toResponse(entity), result);
+        assertEquals(7L, result.getProjectId());
+    }
+
+    @Test
+    void taskResponseWithoutProject() {
+        Task entity = new MockTask().mockEntity(1);
+
+        assertNull(generated.toResponse(entity).getProjectId());
+    }
+
+    @Test
+    void collaboratorResponseMatchesModelMapper() {
+        Collaborator entity = new MockCollaborator().mockEntity(1);
+
+        assertEquals(reflective.toResponse(entity), generated.toResponse(entity));
+    }
+
+    @Test
+    void createDTOsToEntity() {
+        Project project = generated.toEntity(new ProjectCreateDTO("Project", StatusEnum.DOING));
+        assertNull(project.getId());
+        assertEquals("Project", project.getName());
+        assertEquals(StatusEnum.DOING, project.getStatus());
+
+        Collaborator collaborator = generated.toEntity(
+                new CollaboratorCreateDTO("Collaborator", "test@test.com", FunctionEnum.TESTER)
+        );
+        assertNull(collaborator.getId());
+        assertEquals("Collaborator", collaborator.getName());
+        assertEquals("test@test.com", collaborator.getEmail());
+        assertEquals(FunctionEnum.TESTER, collaborator.getFunction());
+    }
+
+    @Test
+    void timedMapperDelegatesAndRecordsEachConversion() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        EntityMapper timed = new TimedEntityMapper(generated, registry);
+        Project entity = new MockProject().mockEntity(1);
+
+        assertEquals(generated.toResponse(entity), timed.toResponse(entity));
+        timed.toResponse(entity);
+
+        Timer timer = registry.get("app.mapping")
+                .tag("engine", "generated")
+                .tag("conversion", "project.toResponse")
+                .timer();
+        assertEquals(2, timer.count());
+    }
+}
@@ -98,11 +98,11 @@ public class MockCollaborator {
     private void addHateoasLinks(CollaboratorResponseDTO dto) {
         dto.add(linkTo(methodOn(CollaboratorController.class).findAll(0, 10, "desc"))
                 .withRel("findAll").withType("GET"));
-        dto.add(linkTo(methodOn(CollaboratorController.class).findById(dto.getId()))
+        dto.add(linkTo(methodOn(CollaboratorController.class).findById(dto.getId(), null))
                 .withSelfRel().withType("GET"));
         dto.add(linkTo(methodOn(CollaboratorController.class).create(new CollaboratorCreateDTO(dto.getName(), dto.getEmail(), dto.getFunction())))
                 .withRel("create").withType("POST"));
-        dto.add(linkTo(methodOn(CollaboratorController.class).update(dto.getId(), new CollaboratorUpdateDTO(dto.getName(), dto.getEmail(), dto.getFunction())))
+        dto.add(linkTo(methodOn(CollaboratorController.class).update(dto.getId(), new CollaboratorUpdateDTO(dto.getName(), dto.getEmail(), dto.getFunction()), null))
                 .withRel("update").withType("PUT"));
         dto.add(linkTo(methodOn(CollaboratorController.class).delete(dto.getId()))
                 .withRel("delete").withType("DELETE"));
@@ -0,0 +1,20 @@
+package com.management.project.unittest.mocks;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.Locale;
+
+public class MockConstraintViolation {
+
+    /**
+     * The exception a repository throws when {@code constraint} is violated, with the name decorated
+     * the way H2 reports it (schema prefix, backing index suffix).
+     */
+    public DataIntegrityViolationException mockException(String constraint) {
+        String reported = "PUBLIC." + constraint.toUpperCase(Locale.ROOT) + "_INDEX_5";
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", new SQLException(), reported));
+    }
+}
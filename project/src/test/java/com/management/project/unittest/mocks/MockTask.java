@@ -103,11 +103,11 @@ public class MockTask {
     }
 
     private void addHateoasLinks(TaskResponseDTO dto) {
-        dto.add(linkTo(methodOn(TaskController.class).findById(dto.getId()))
+        dto.add(linkTo(methodOn(TaskController.class).findById(dto.getId(), null))
                 .withSelfRel().withType("GET"));
         dto.add(linkTo(methodOn(TaskController.class).create(new TaskCreateDTO(dto.getName(), dto.getStatus(), dto.getProjectId())))
                 .withRel("create").withType("POST"));
-        dto.add(linkTo(methodOn(TaskController.class).update(dto.getId(), new TaskUpdateDTO(dto.getName(), dto.getStatus())))
+        dto.add(linkTo(methodOn(TaskController.class).update(dto.getId(), new TaskUpdateDTO(dto.getName(), dto.getStatus()), null))
                 .withRel("update").withType("PUT"));
     }
 }
@@ -0,0 +1,80 @@
+package com.management.project.unittest.monitoring;
+
+import com.management.project.config.monitoring.CountingStatementInspector;
+import com.management.project.config.monitoring.StatementBudgetFilter;
+import com.management.project.config.monitoring.StatementBudgetProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementBudgetFilterTest {
+
+    private static final String URI = "/v1/projects/{id}";
+
+    private final CountingStatementInspector inspector = new CountingStatementInspector();
+
+    private SimpleMeterRegistry registry;
+
+    private StatementBudgetFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        StatementBudgetProperties properties = new StatementBudgetProperties();
+        properties.setMaxStatements(5);
+        properties.setRepeatedStatementThreshold(3);
+        registry = new SimpleMeterRegistry();
+        filter = new StatementBudgetFilter(properties, registry);
+    }
+
+    @Test
+    void testRecordsStatementsPerRequestWithinBudget() throws Exception {
+        run(chain("select p from tb_projects p where p.id=?", "select t from tb_tasks t where t.project_id=?"));
+
+        DistributionSummary summary = registry.get("app.sql.statements").tag("uri", URI).tag("method", "GET").summary();
+        assertEquals(1, summary.count());
+        assertEquals(2, summary.totalAmount());
+        assertNull(registry.find("app.sql.budget.exceeded").counter());
+        assertNull(registry.find("app.sql.repeated").counter());
+    }
+
+    @Test
+    void testFlagsRequestsOverBudgetAndRepeatedStatements() throws Exception {
+        String perTask = "select c from tb_collaborators c where c.task_id=?";
+        run(chain("select t from tb_tasks t", perTask, perTask, perTask, perTask, perTask));
+
+        Counter exceeded = registry.get("app.sql.budget.exceeded").tag("uri", URI).counter();
+        Counter repeated = registry.get("app.sql.repeated").tag("uri", URI).counter();
+        assertEquals(1, exceeded.count());
+        assertEquals(1, repeated.count());
+        assertEquals(6, registry.get("app.sql.statements").summary().totalAmount());
+    }
+
+    @Test
+    void testIgnoresStatementsOutsideRequests() throws Exception {
+        inspector.inspect("select 1");
+        run(chain());
+
+        assertEquals(0, registry.get("app.sql.statements").summary().totalAmount());
+    }
+
+    private void run(FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/projects/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, URI);
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+    }
+
+    private FilterChain chain(String... statements) {
+        return (request, response) -> {
+            for (String sql : statements)
+                inspector.inspect(sql);
+        };
+    }
+}
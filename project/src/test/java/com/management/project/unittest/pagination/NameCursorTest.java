@@ -0,0 +1,33 @@
+package com.management.project.unittest.pagination;
+
+import com.management.project.service.exceptions.InvalidCursorException;
+import com.management.project.service.pagination.NameCursor;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameCursorTest {
+
+    @Test
+    void testEncodeAndDecode() {
+        NameCursor cursor = new NameCursor("Migração: fase 2", 42L);
+
+        String token = cursor.encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+        assertEquals(cursor, NameCursor.decode(token));
+    }
+
+    @Test
+    void testDecodeWithInvalidToken() {
+        String withoutSeparator = Base64.getUrlEncoder().encodeToString("42".getBytes(StandardCharsets.UTF_8));
+        String withoutId = Base64.getUrlEncoder().encodeToString("abc:name".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(InvalidCursorException.class, () -> NameCursor.decode("%%%"));
+        assertThrows(InvalidCursorException.class, () -> NameCursor.decode(withoutSeparator));
+        assertThrows(InvalidCursorException.class, () -> NameCursor.decode(withoutId));
+    }
+}
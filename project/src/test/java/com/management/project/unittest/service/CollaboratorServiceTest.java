@@ -1,14 +1,27 @@
 package com.management.project.unittest.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.management.project.data.dto.bulk.BulkItemResultDTO;
 import com.management.project.data.dto.collaborator.CollaboratorCreateDTO;
 import com.management.project.data.dto.collaborator.CollaboratorResponseDTO;
+import com.management.project.data.dto.collaborator.CollaboratorTaskCount;
 import com.management.project.data.dto.collaborator.CollaboratorUpdateDTO;
+import com.management.project.data.dto.conditional.ResourceVersion;
+import com.management.project.data.dto.pagination.CursorPageDTO;
+import com.management.project.data.mapper.EntityMapper;
 import com.management.project.model.Collaborator;
 import com.management.project.model.enums.FunctionEnum;
 import com.management.project.repository.CollaboratorRepository;
 import com.management.project.service.CollaboratorService;
+import com.management.project.service.cache.SecondLevelCacheEvictor;
+import com.management.project.service.constraints.ConstraintNames;
 import com.management.project.service.exceptions.*;
+import com.management.project.service.pagination.NameCursor;
+import com.management.project.service.streaming.JsonArrayWriter;
+import com.management.project.service.suggest.CollaboratorSuggestService;
+import com.management.project.service.validation.InputValidator;
 import com.management.project.unittest.mocks.MockCollaborator;
+import com.management.project.unittest.mocks.MockConstraintViolation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -16,21 +29,30 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -48,11 +70,23 @@ class CollaboratorServiceTest {
     private CollaboratorRepository repository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private EntityMapper mapper;
+
+    @Mock
+    private SecondLevelCacheEvictor cacheEvictor;
+
+    @Spy
+    private JsonArrayWriter jsonArrayWriter = new JsonArrayWriter(new ObjectMapper());
 
     @Mock
     private PagedResourcesAssembler<CollaboratorResponseDTO> assembler;
 
+    @Mock
+    private CollaboratorSuggestService suggestService;
+
+    @Spy
+    private InputValidator validator;
+
 
     @BeforeEach
     void setUp() throws Exception {
@@ -69,7 +103,7 @@ class CollaboratorServiceTest {
 
         when(repository.findAll(any(PageRequest.class))).thenReturn(page);
         for (int i = 0; i < entities.size(); i++) {
-            when(modelMapper.map(entities.get(i), CollaboratorResponseDTO.class)).thenReturn(dtoResponse.get(i));
+            when(mapper.toResponse(entities.get(i))).thenReturn(dtoResponse.get(i));
         }
 
         List<EntityModel<CollaboratorResponseDTO>> entityModels = dtoResponse.stream()
@@ -118,10 +152,53 @@ class CollaboratorServiceTest {
         });
 
         verify(repository, times(1)).findAll(any(PageRequest.class));
-        verify(modelMapper, times(5)).map(any(Collaborator.class), eq(CollaboratorResponseDTO.class));
+        verify(mapper, times(5)).toResponse(any(Collaborator.class));
         verify(assembler, times(1)).toModel(any(Page.class), any(Link.class));
     }
 
+    @Test
+    void findAllByCursor() {
+        List<Collaborator> entities = List.of(input.mockEntity(1), input.mockEntity(2), input.mockEntity(3));
+        entities.forEach(entity -> lenient().when(mapper.toResponse(entity)).thenReturn(input.mockDTO(entity.getId().intValue())));
+
+        NameCursor after = new NameCursor("Collaborator 0", 7L);
+        when(repository.findAllAfterAsc("Collaborator 0", 7L, Limit.of(3))).thenReturn(entities);
+
+        CursorPageDTO<CollaboratorResponseDTO> result = service.findAllByCursor(after.encode(), 2, Direction.ASC);
+
+        assertEquals(2, result.getContent().size());
+        assertEquals(new NameCursor("Collaborator 2", 2L), NameCursor.decode(result.getNextCursor()));
+        assertTrue(result.getLink("self").orElseThrow().getHref().endsWith("/v1/collaborators?after=" + after.encode() + "&size=2&direction=asc"));
+        assertTrue(result.getLink("next").orElseThrow().getHref().endsWith("/v1/collaborators?after=" + result.getNextCursor() + "&size=2&direction=asc"));
+
+        verify(repository, never()).findAll(any(Pageable.class));
+        verify(repository, never()).count();
+    }
+
+    @Test
+    void testFindAllByCursorFirstPageDescending() {
+        Collaborator entity = input.mockEntity(1);
+        when(mapper.toResponse(entity)).thenReturn(input.mockDTO(1));
+        when(repository.findAllByOrderByNameDescIdDesc(Limit.of(11))).thenReturn(List.of(entity));
+
+        CursorPageDTO<CollaboratorResponseDTO> result = service.findAllByCursor("", 10, Direction.DESC);
+
+        assertEquals(1, result.getContent().size());
+        assertNull(result.getNextCursor());
+        assertTrue(result.getLink("next").isEmpty());
+    }
+
+    @Test
+    void testFindAllByCursorWithInvalidCursor() {
+        Exception exception = assertThrows(
+                InvalidCursorException.class,
+                () -> service.findAllByCursor("not a cursor", 10, Direction.ASC)
+        );
+
+        assertTrue(exception.getMessage().contains("Invalid pagination cursor."));
+        verifyNoInteractions(repository, mapper);
+    }
+
     @Test
     void findById() {
         Collaborator entity = input.mockEntity(1);
@@ -129,7 +206,7 @@ class CollaboratorServiceTest {
         CollaboratorResponseDTO dtoResponse = input.mockDTO(1);
 
         when(repository.findById(1L)).thenReturn(Optional.of(entity));
-        when(modelMapper.map(entity, CollaboratorResponseDTO.class)).thenReturn(dtoResponse);
+        when(mapper.toResponse(entity)).thenReturn(dtoResponse);
 
         var result = service.findById((1L));
 
@@ -148,7 +225,7 @@ class CollaboratorServiceTest {
         assertLinkExists(result, "delete", "/v1/collaborators/" + dtoResponse.getId(), "DELETE");
 
         verify(repository, times(1)).findById(1L);
-        verify(modelMapper, times(1)).map(entity, CollaboratorResponseDTO.class);
+        verify(mapper, times(1)).toResponse(entity);
     }
 
     @Test
@@ -165,7 +242,20 @@ class CollaboratorServiceTest {
 
         assertTrue(actualMessage.contains(expectedMessage));
         verify(repository, times(1)).findById(1L);
-        verifyNoInteractions(modelMapper);
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void testFindVersionWithIdDoesNotExist() {
+        when(repository.findVersionById(1L)).thenReturn(Optional.empty());
+
+        Exception exception = assertThrows(
+                ResourceNotFoundException.class,
+                () -> service.findVersion(1L)
+        );
+
+        assertTrue(exception.getMessage().contains("Collaborator not found"));
+        verify(repository, never()).findById(1L);
     }
 
     @Test
@@ -178,9 +268,9 @@ class CollaboratorServiceTest {
                 dtoResponse.getFunction()
         );
 
-        when(modelMapper.map(dtoCreate, Collaborator.class)).thenReturn(persisted);
-        when(repository.save(persisted)).thenReturn(persisted);
-        when(modelMapper.map(persisted, CollaboratorResponseDTO.class)).thenReturn(dtoResponse);
+        when(mapper.toEntity(dtoCreate)).thenReturn(persisted);
+        when(repository.saveAndFlush(persisted)).thenReturn(persisted);
+        when(mapper.toResponse(persisted)).thenReturn(dtoResponse);
 
         var result = service.create(dtoCreate);
 
@@ -197,9 +287,49 @@ class CollaboratorServiceTest {
         assertLinkExists(result, "update", "/v1/collaborators/" + dtoResponse.getId(), "PUT");
         assertLinkExists(result, "delete", "/v1/collaborators/" + dtoResponse.getId(), "DELETE");
 
-        verify(modelMapper, times(1)).map(dtoCreate, Collaborator.class);
-        verify(repository, times(1)).save(persisted);
-        verify(modelMapper, times(1)).map(persisted, CollaboratorResponseDTO.class);
+        verify(mapper, times(1)).toEntity(dtoCreate);
+        verify(repository, times(1)).saveAndFlush(persisted);
+        verify(mapper, times(1)).toResponse(persisted);
+        verify(suggestService, times(1)).put(persisted);
+    }
+
+    @Test
+    void bulkCreate() {
+        CollaboratorCreateDTO valid = new CollaboratorCreateDTO("Ana Souza", "ana@empresa.com", FunctionEnum.DEVELOPER);
+        CollaboratorCreateDTO invalidEmail = new CollaboratorCreateDTO("Bruno Lima", "bruno.empresa.com", FunctionEnum.DEVELOPER);
+        CollaboratorCreateDTO repeated = new CollaboratorCreateDTO("Ana Duplicada", "ana@empresa.com", FunctionEnum.MANAGER);
+        CollaboratorCreateDTO existing = new CollaboratorCreateDTO("Carla Dias", "carla@empresa.com", FunctionEnum.MANAGER);
+        Collaborator persisted = input.mockEntity(1);
+        CollaboratorResponseDTO dtoResponse = input.mockDTO(1);
+
+        when(repository.findExistingEmails(Set.of("ana@empresa.com", "carla@empresa.com")))
+                .thenReturn(Set.of("carla@empresa.com"));
+        when(mapper.toEntity(valid)).thenReturn(persisted);
+        when(mapper.toResponse(persisted)).thenReturn(dtoResponse);
+
+        var result = service.bulkCreate(List.of(valid, invalidEmail, repeated, existing));
+
+        assertEquals(1, result.created());
+        assertEquals(3, result.failed());
+        assertEquals(List.of(201, 400, 409, 409), result.results().stream().map(BulkItemResultDTO::status).toList());
+        assertEquals(dtoResponse, result.results().get(0).data());
+        assertLinkExists(result.results().get(0).data(), "self", "/v1/collaborators/" + dtoResponse.getId(), "GET");
+        assertEquals("The email provided is invalid.", result.results().get(1).error());
+        assertEquals("The email carla@empresa.com is already in use.", result.results().get(3).error());
+
+        verify(repository, times(1)).saveAll(List.of(persisted));
+        verify(suggestService, times(1)).putAll(List.of(persisted));
+        verify(repository, never()).saveAndFlush(any());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void testBulkCreateWithTooManyItems() {
+        List<CollaboratorCreateDTO> dtos = Collections.nCopies(CollaboratorService.MAX_BULK_SIZE + 1,
+                new CollaboratorCreateDTO("Ana Souza", "ana@empresa.com", FunctionEnum.DEVELOPER));
+
+        assertThrows(BulkSizeExceededException.class, () -> service.bulkCreate(dtos));
+        verifyNoInteractions(repository, mapper);
     }
 
     @Test
@@ -213,7 +343,7 @@ class CollaboratorServiceTest {
         String actualMessage = exception.getMessage();
 
         assertTrue(actualMessage.contains(expectedMessage));
-        verifyNoMoreInteractions(repository, modelMapper);
+        verifyNoMoreInteractions(repository, mapper);
     }
 
     @Test
@@ -232,7 +362,7 @@ class CollaboratorServiceTest {
         String actualMessage = exception.getMessage();
 
         assertTrue(actualMessage.contains(expectedMessage));
-        verifyNoMoreInteractions(repository, modelMapper);
+        verifyNoMoreInteractions(repository, mapper);
     }
 
     @Test
@@ -251,7 +381,7 @@ class CollaboratorServiceTest {
         String actualMessage = exception.getMessage();
 
         assertTrue(actualMessage.contains(expectedMessage));
-        verifyNoMoreInteractions(repository, modelMapper);
+        verifyNoMoreInteractions(repository, mapper);
     }
 
     @Test
@@ -278,7 +408,9 @@ class CollaboratorServiceTest {
                 FunctionEnum.DEVELOPER
         );
 
-        when(repository.existsByEmail(dtoCreate.getEmail())).thenReturn(true);
+        Collaborator entity = new Collaborator(dtoCreate.getName(), dtoCreate.getEmail(), dtoCreate.getFunction());
+        when(mapper.toEntity(dtoCreate)).thenReturn(entity);
+        when(repository.saveAndFlush(entity)).thenThrow(new MockConstraintViolation().mockException(ConstraintNames.COLLABORATOR_EMAIL));
 
         EmailAlreadyExistsException exception = assertThrows(
                 EmailAlreadyExistsException.class,
@@ -286,6 +418,18 @@ class CollaboratorServiceTest {
         );
 
         assertEquals("The email existing@example.com is already in use.", exception.getMessage());
+        verify(repository, times(1)).saveAndFlush(entity);
+        verifyNoInteractions(suggestService);
+    }
+
+    @Test
+    void testCreateWithUnknownConstraintViolation() {
+        CollaboratorCreateDTO dtoCreate = new CollaboratorCreateDTO("John Doe", "john@example.com", FunctionEnum.DEVELOPER);
+        Collaborator entity = new Collaborator(dtoCreate.getName(), dtoCreate.getEmail(), dtoCreate.getFunction());
+        when(mapper.toEntity(dtoCreate)).thenReturn(entity);
+        when(repository.saveAndFlush(entity)).thenThrow(new DataIntegrityViolationException("not null"));
+
+        assertThrows(DatabaseException.class, () -> service.create(dtoCreate));
     }
 
     @Test
@@ -300,7 +444,7 @@ class CollaboratorServiceTest {
 
         when(repository.findById(1L)).thenReturn(Optional.of(entity));
         when(repository.save(entity)).thenReturn(entity);
-        when(modelMapper.map(entity, CollaboratorResponseDTO.class)).thenReturn(dtoResponse);
+        when(mapper.toResponse(entity)).thenReturn(dtoResponse);
 
         var result = service.update(1L, dtoUpdate);
 
@@ -320,7 +464,7 @@ class CollaboratorServiceTest {
 
         verify(repository, times(1)).findById(1L);
         verify(repository, times(1)).save(entity);
-        verify(modelMapper, times(1)).map(entity, CollaboratorResponseDTO.class);
+        verify(mapper, times(1)).toResponse(entity);
     }
 
     @Test
@@ -342,7 +486,80 @@ class CollaboratorServiceTest {
 
         assertTrue(actualMessage.contains(expectedMessage));
         verify(repository, times(1)).findById(1L);
-        verifyNoMoreInteractions(repository, modelMapper);
+        verifyNoMoreInteractions(repository, mapper);
+    }
+
+    @Test
+    void testUpdateWithConcurrentModification() {
+        CollaboratorUpdateDTO dtoUpdate = new CollaboratorUpdateDTO("Updated Name", null, null);
+        when(repository.findById(1L)).thenReturn(Optional.of(input.mockEntity(1)));
+        when(repository.save(any(Collaborator.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Collaborator.class, 1L));
+
+        assertThrows(
+                ConcurrentUpdateException.class,
+                () -> service.update(1L, dtoUpdate)
+        );
+
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void testPatchWritesFunctionOrdinalWithoutLoading() {
+        CollaboratorUpdateDTO dtoUpdate = new CollaboratorUpdateDTO(null, null, FunctionEnum.MANAGER);
+        String function = String.valueOf(FunctionEnum.MANAGER.ordinal());
+        when(repository.patch(eq(1L), isNull(), isNull(), eq(function), any(Instant.class), isNull()))
+                .thenReturn(Optional.of(2L));
+
+        ResourceVersion result = service.patch(1L, dtoUpdate, "*");
+
+        assertEquals("\"2\"", result.etag());
+        verify(repository, never()).findById(any());
+        verify(cacheEvictor).evictEntity(Collaborator.class, 1L);
+        verify(suggestService).merge(1L, dtoUpdate);
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void testPatchWithInvalidEmail() {
+        CollaboratorUpdateDTO dtoUpdate = new CollaboratorUpdateDTO(null, "invalid-email", null);
+
+        assertThrows(
+                InvalidEmailException.class,
+                () -> service.patch(1L, dtoUpdate, null)
+        );
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void testPatchWithEmailAlreadyInUse() {
+        CollaboratorUpdateDTO dtoUpdate = new CollaboratorUpdateDTO(null, "taken@example.com", null);
+        when(repository.patch(eq(1L), isNull(), eq("taken@example.com"), isNull(), any(Instant.class), isNull()))
+                .thenThrow(new MockConstraintViolation().mockException(ConstraintNames.COLLABORATOR_EMAIL));
+
+        EmailAlreadyExistsException exception = assertThrows(
+                EmailAlreadyExistsException.class,
+                () -> service.patch(1L, dtoUpdate, null)
+        );
+
+        assertEquals("The email taken@example.com is already in use.", exception.getMessage());
+        verifyNoInteractions(cacheEvictor, suggestService);
+    }
+
+    @Test
+    void testUpdateWithEmailAlreadyInUse() {
+        CollaboratorUpdateDTO dtoUpdate = new CollaboratorUpdateDTO(null, "taken@example.com", null);
+        when(repository.findById(1L)).thenReturn(Optional.of(input.mockEntity(1)));
+        when(repository.save(any(Collaborator.class)))
+                .thenThrow(new MockConstraintViolation().mockException(ConstraintNames.COLLABORATOR_EMAIL));
+
+        assertThrows(
+                EmailAlreadyExistsException.class,
+                () -> service.update(1L, dtoUpdate)
+        );
+
+        verifyNoInteractions(mapper, suggestService);
     }
 
     @Test
@@ -356,7 +573,7 @@ class CollaboratorServiceTest {
         String actualMessage = exception.getMessage();
 
         assertTrue(actualMessage.contains(expectedMessage));
-        verifyNoMoreInteractions(repository, modelMapper);
+        verifyNoMoreInteractions(repository, mapper);
     }
 
     @Test
@@ -401,6 +618,28 @@ class CollaboratorServiceTest {
     }
 
 
+    @Test
+    void testCountTasksPerCollaboratorPushesLimitAndMinCountDown() {
+        List<CollaboratorTaskCount> ranking = List.of(new CollaboratorTaskCount(1L, "Collaborator 1", 5L));
+        when(repository.countTasksPerCollaborator(3L, Limit.of(CollaboratorService.MAX_RANKING_SIZE))).thenReturn(ranking);
+
+        assertEquals(ranking, service.countTasksPerCollaborator(1_000_000, 3L));
+        verify(repository, times(1)).countTasksPerCollaborator(3L, Limit.of(CollaboratorService.MAX_RANKING_SIZE));
+    }
+
+    @Test
+    void testWriteTasksPerCollaboratorAsJsonArray() throws Exception {
+        when(repository.streamTasksPerCollaborator(0L)).thenReturn(Stream.of(new CollaboratorTaskCount(1L, "Collaborator 1", 5L)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.writeTasksPerCollaborator(-1L, out);
+
+        String json = out.toString();
+        assertTrue(json.startsWith("[{"));
+        assertTrue(json.contains("\"taskCount\":5"));
+        assertTrue(json.endsWith("}]"));
+    }
+
     @Test
     void deleteById() {
 
@@ -408,6 +647,8 @@ class CollaboratorServiceTest {
 
         assertDoesNotThrow(() -> service.deleteById(1L));
         verify(repository, times(1)).deleteById(1L);
+        verify(cacheEvictor, times(1)).evictCollaboratorCascade();
+        verify(suggestService, times(1)).remove(1L);
     }
 
     @Test
@@ -424,6 +665,7 @@ class CollaboratorServiceTest {
 
         assertTrue(actualMessage.contains(expectedMessage));
         verify(repository, times(1)).deleteById(1L);
+        verifyNoInteractions(cacheEvictor);
     }
 
     @Test
@@ -1,16 +1,26 @@
 package com.management.project.unittest.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.management.project.data.dto.conditional.ProjectVersionRow;
+import com.management.project.data.dto.conditional.ResourceVersion;
 import com.management.project.data.dto.project.ProjectCreateDTO;
 import com.management.project.data.dto.project.ProjectResponseDTO;
 import com.management.project.data.dto.project.ProjectResponseWithTasksDTO;
+import com.management.project.data.dto.project.ProjectTaskCountDTO;
 import com.management.project.data.dto.project.ProjectUpdateDTO;
+import com.management.project.data.dto.pagination.CursorPageDTO;
+import com.management.project.data.mapper.EntityMapper;
 import com.management.project.service.ProjectService;
 import com.management.project.unittest.mocks.MockProject;
 import com.management.project.model.Project;
 import com.management.project.model.Task;
 import com.management.project.model.enums.StatusEnum;
 import com.management.project.repository.ProjectRepository;
+import com.management.project.service.cache.SecondLevelCacheEvictor;
 import com.management.project.service.exceptions.*;
+import com.management.project.service.pagination.NameCursor;
+import com.management.project.service.streaming.JsonArrayWriter;
+import com.management.project.service.validation.InputValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -18,23 +28,28 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.PagedModel;
 
 
+import java.io.ByteArrayOutputStream;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -52,11 +67,20 @@ class ProjectServiceTest {
     private ProjectRepository repository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private EntityMapper mapper;
+
+    @Mock
+    private SecondLevelCacheEvictor cacheEvictor;
+
+    @Spy
+    private JsonArrayWriter jsonArrayWriter = new JsonArrayWriter(new ObjectMapper());
 
     @Mock
     private PagedResourcesAssembler<ProjectResponseDTO> assembler;
 
+    @Spy
+    private InputValidator validator;
+
     @BeforeEach
     void setUp() throws Exception {
         input = new MockProject();
@@ -72,7 +96,7 @@ class ProjectServiceTest {
 
         when(repository.findAll(any(PageRequest.class))).thenReturn(page);
         for (int i = 0; i < entities.size(); i++) {
-            when(modelMapper.map(entities.get(i), ProjectResponseDTO.class)).thenReturn(dtoResponse.get(i));
+            when(mapper.toResponse(entities.get(i))).thenReturn(dtoResponse.get(i));
         }
 
         List<EntityModel<ProjectResponseDTO>> entityModels = dtoResponse.stream()
@@ -123,10 +147,53 @@ class ProjectServiceTest {
         });
 
         verify(repository, times(1)).findAll(any(PageRequest.class));
-        verify(modelMapper, times(5)).map(any(Project.class), eq(ProjectResponseDTO.class));
+        verify(mapper, times(5)).toResponse(any(Project.class));
         verify(assembler, times(1)).toModel(any(Page.class), any(Link.class));
     }
 
+    @Test
+    void findAllByCursor() {
+        List<Project> entities = List.of(input.mockEntity(1), input.mockEntity(2), input.mockEntity(3));
+        entities.forEach(entity -> lenient().when(mapper.toResponse(entity)).thenReturn(input.mockDTO(entity.getId().intValue())));
+
+        NameCursor after = new NameCursor("Project 0", 7L);
+        when(repository.findAllAfterAsc("Project 0", 7L, Limit.of(3))).thenReturn(entities);
+
+        CursorPageDTO<ProjectResponseDTO> result = service.findAllByCursor(after.encode(), 2, Direction.ASC);
+
+        assertEquals(2, result.getContent().size());
+        assertEquals(new NameCursor("Project 2", 2L), NameCursor.decode(result.getNextCursor()));
+        assertTrue(result.getLink("self").orElseThrow().getHref().endsWith("/v1/projects?after=" + after.encode() + "&size=2&direction=asc"));
+        assertTrue(result.getLink("next").orElseThrow().getHref().endsWith("/v1/projects?after=" + result.getNextCursor() + "&size=2&direction=asc"));
+
+        verify(repository, never()).findAll(any(Pageable.class));
+        verify(repository, never()).count();
+    }
+
+    @Test
+    void testFindAllByCursorFirstPageDescending() {
+        Project entity = input.mockEntity(1);
+        when(mapper.toResponse(entity)).thenReturn(input.mockDTO(1));
+        when(repository.findAllByOrderByNameDescIdDesc(Limit.of(11))).thenReturn(List.of(entity));
+
+        CursorPageDTO<ProjectResponseDTO> result = service.findAllByCursor("", 10, Direction.DESC);
+
+        assertEquals(1, result.getContent().size());
+        assertNull(result.getNextCursor());
+        assertTrue(result.getLink("next").isEmpty());
+    }
+
+    @Test
+    void testFindAllByCursorWithInvalidCursor() {
+        Exception exception = assertThrows(
+                InvalidCursorException.class,
+                () -> service.findAllByCursor("not a cursor", 10, Direction.ASC)
+        );
+
+        assertTrue(exception.getMessage().contains("Invalid pagination cursor."));
+        verifyNoInteractions(repository, mapper);
+    }
+
     @Test
     void findById() {
         Project entity = input.mockEntity(1);
@@ -145,8 +212,8 @@ class ProjectServiceTest {
         dtoResponse.setCreatedAt(entity.getCreatedAt());
         dtoResponse.setUpdatedAt(entity.getUpdatedAt());
 
-        when(repository.findById(1L)).thenReturn(Optional.of(entity));
-        when(modelMapper.map(entity, ProjectResponseWithTasksDTO.class)).thenReturn(dtoResponse);
+        when(repository.findWithTasksById(1L)).thenReturn(Optional.of(entity));
+        when(mapper.toResponseWithTasks(entity)).thenReturn(dtoResponse);
 
         var result = service.findById(1L);
 
@@ -165,13 +232,13 @@ class ProjectServiceTest {
         assertLinkExists(result, "update", "/v1/projects/" + dtoResponse.getId(), "PUT");
         assertLinkExists(result, "delete", "/v1/projects/" + dtoResponse.getId(), "DELETE");
 
-        verify(repository, times(1)).findById(1L);
-        verify(modelMapper, times(1)).map(entity, ProjectResponseWithTasksDTO.class);
+        verify(repository, times(1)).findWithTasksById(1L);
+        verify(mapper, times(1)).toResponseWithTasks(entity);
     }
 
     @Test
     void testFindByIdWithIdDoesNotExist() {
-        when(repository.findById(1L)).thenReturn(Optional.empty());
+        when(repository.findWithTasksById(1L)).thenReturn(Optional.empty());
 
         Exception exception = assertThrows(
                 ResourceNotFoundException.class,
@@ -182,20 +249,49 @@ class ProjectServiceTest {
         String actualMessage = exception.getMessage();
 
         assertTrue(actualMessage.contains(expectedMessage));
-        verify(repository, times(1)).findById(1L);
-        verifyNoInteractions(modelMapper);
+        verify(repository, times(1)).findWithTasksById(1L);
+        verifyNoInteractions(mapper);
     }
 
 
+    @Test
+    void testFindVersionDoesNotLoadTasks() {
+        Instant updatedAt = Instant.parse("2026-01-01T10:00:00Z");
+        Instant lastTaskUpdatedAt = Instant.parse("2026-01-02T10:00:00Z");
+        ResourceVersion version = new ResourceVersion(4L, updatedAt, lastTaskUpdatedAt, 3L);
+        when(repository.findVersionById(1L)).thenReturn(Optional.of(version));
+
+        ResourceVersion result = service.findVersion(1L);
+
+        assertEquals(lastTaskUpdatedAt.toEpochMilli(), result.lastModified());
+        assertTrue(result.etag().startsWith("\"4-"));
+        assertNotEquals(new ResourceVersion(4L, updatedAt, lastTaskUpdatedAt, 2L).etag(), result.etag());
+        verify(repository, never()).findWithTasksById(1L);
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void testFindVersionWithIdDoesNotExist() {
+        when(repository.findVersionById(1L)).thenReturn(Optional.empty());
+
+        Exception exception = assertThrows(
+                ResourceNotFoundException.class,
+                () -> service.findVersion(1L)
+        );
+
+        assertTrue(exception.getMessage().contains("Project not found"));
+        verify(repository, never()).findWithTasksById(1L);
+    }
+
     @Test
     void create() {
         ProjectResponseDTO dtoResponse = input.mockDTO(1);
         Project persisted = input.mockEntity(1);
         ProjectCreateDTO dtoCreate = new ProjectCreateDTO(dtoResponse.getName(), dtoResponse.getStatus());
 
-        when(modelMapper.map(dtoCreate, Project.class)).thenReturn(persisted);
+        when(mapper.toEntity(dtoCreate)).thenReturn(persisted);
         when(repository.save(persisted)).thenReturn(persisted);
-        when(modelMapper.map(persisted, ProjectResponseDTO.class)).thenReturn(dtoResponse);
+        when(mapper.toResponse(persisted)).thenReturn(dtoResponse);
 
         var result = service.create(dtoCreate);
 
@@ -215,9 +311,9 @@ class ProjectServiceTest {
         assertLinkExists(result, "update", "/v1/projects/" + dtoResponse.getId(), "PUT");
         assertLinkExists(result, "delete", "/v1/projects/" + dtoResponse.getId(), "DELETE");
 
-        verify(modelMapper, times(1)).map(dtoCreate, Project.class);
+        verify(mapper, times(1)).toEntity(dtoCreate);
         verify(repository, times(1)).save(persisted);
-        verify(modelMapper, times(1)).map(persisted, ProjectResponseDTO.class);
+        verify(mapper, times(1)).toResponse(persisted);
     }
 
     @Test
@@ -231,7 +327,7 @@ class ProjectServiceTest {
         String actualMessage = exception.getMessage();
 
         assertTrue(actualMessage.contains(expectedMessage));
-        verifyNoMoreInteractions(repository, modelMapper);
+        verifyNoMoreInteractions(repository, mapper);
     }
 
     @Test
@@ -246,7 +342,7 @@ class ProjectServiceTest {
         String actualMessage = exception.getMessage();
 
         assertTrue(actualMessage.contains(expectedMessage));
-        verifyNoMoreInteractions(repository, modelMapper);
+        verifyNoMoreInteractions(repository, mapper);
     }
 
     @Test
@@ -261,7 +357,7 @@ class ProjectServiceTest {
         String actualMessage = exception.getMessage();
 
         assertTrue(actualMessage.contains(expectedMessage));
-        verifyNoMoreInteractions(repository, modelMapper);
+        verifyNoMoreInteractions(repository, mapper);
     }
 
     @Test
@@ -272,7 +368,7 @@ class ProjectServiceTest {
 
         when(repository.findById(1L)).thenReturn(Optional.of(project));
         when(repository.save(project)).thenReturn(project);
-        when(modelMapper.map(project, ProjectResponseDTO.class)).thenReturn(dtoResponse);
+        when(mapper.toResponse(project)).thenReturn(dtoResponse);
 
         var result = service.update(1L, dtoUpdate);
 
@@ -294,7 +390,7 @@ class ProjectServiceTest {
 
         verify(repository, times(1)).findById(1L);
         verify(repository, times(1)).save(project);
-        verify(modelMapper, times(1)).map(project, ProjectResponseDTO.class);
+        verify(mapper, times(1)).toResponse(project);
     }
 
     @Test
@@ -313,7 +409,74 @@ class ProjectServiceTest {
 
         assertTrue(actualMessage.contains(expectedMessage));
         verify(repository, times(1)).findById(1L);
-        verifyNoMoreInteractions(repository, modelMapper);
+        verifyNoMoreInteractions(repository, mapper);
+    }
+
+    @Test
+    void testUpdateWithStaleIfMatch() {
+        ProjectUpdateDTO dtoUpdate = new ProjectUpdateDTO("Updated Project", StatusEnum.NOT_DONE);
+        Project entity = input.mockEntity(1);
+
+        when(repository.findWithTasksById(1L)).thenReturn(Optional.of(entity));
+
+        assertThrows(
+                PreconditionFailedException.class,
+                () -> service.update(1L, dtoUpdate, "\"1-0-0\"")
+        );
+
+        assertEquals("Project 1", entity.getName());
+        verify(repository, never()).save(any());
+        verify(repository, never()).findVersionById(any());
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void testUpdateWithIfMatchComparesLoadedProjectAndTasks() {
+        ProjectUpdateDTO dtoUpdate = new ProjectUpdateDTO("Updated Project", null);
+        Project entity = input.mockEntity(1);
+        Task task = new Task("Task 1", null, entity);
+        task.setUpdatedAt(Instant.now());
+        entity.addTask(task);
+        String etag = new ResourceVersion(entity.getVersion(), entity.getUpdatedAt(), task.getUpdatedAt(), 1L).etag();
+
+        when(repository.findWithTasksById(1L)).thenReturn(Optional.of(entity));
+        when(mapper.toResponse(entity)).thenReturn(input.mockDTO(1));
+
+        service.update(1L, dtoUpdate, etag);
+
+        assertEquals("Updated Project", entity.getName());
+        verify(repository).save(entity);
+        verify(repository, never()).findById(any());
+        verify(repository, never()).findVersionById(any());
+    }
+
+    @Test
+    void testPatchWritesStatusWithoutLoading() {
+        ProjectUpdateDTO dtoUpdate = new ProjectUpdateDTO(null, StatusEnum.DONE);
+        Instant updatedAt = Instant.ofEpochMilli(System.currentTimeMillis());
+        Instant tasksUpdatedAt = updatedAt.minusSeconds(60);
+        when(repository.patch(eq(1L), isNull(), eq("DONE"), any(Instant.class), isNull()))
+                .thenReturn(Optional.of(versionRow(2L, updatedAt.toEpochMilli(), tasksUpdatedAt.toEpochMilli(), 3L)));
+
+        assertEquals(new ResourceVersion(2L, updatedAt, tasksUpdatedAt, 3L), service.patch(1L, dtoUpdate, null));
+
+        verify(repository, never()).findById(any());
+        verify(repository, never()).findVersionById(any());
+        verify(repository, never()).save(any());
+        verify(cacheEvictor).evictEntity(Project.class, 1L);
+    }
+
+    @Test
+    void testPatchWithIfMatchTakesUpdatePath() {
+        ProjectUpdateDTO dtoUpdate = new ProjectUpdateDTO(null, StatusEnum.DONE);
+        when(repository.findWithTasksById(1L)).thenReturn(Optional.of(input.mockEntity(1)));
+
+        assertThrows(
+                PreconditionFailedException.class,
+                () -> service.patch(1L, dtoUpdate, "\"1-0-0\"")
+        );
+
+        verify(repository, never()).patch(any(), any(), any(), any(), any());
     }
 
     @Test
@@ -327,7 +490,7 @@ class ProjectServiceTest {
         String actualMessage = exception.getMessage();
 
         assertTrue(actualMessage.contains(expectedMessage));
-        verifyNoMoreInteractions(repository, modelMapper);
+        verifyNoMoreInteractions(repository, mapper);
     }
 
     @Test
@@ -346,7 +509,29 @@ class ProjectServiceTest {
         String actualMessage = exception.getMessage();
 
         assertTrue(actualMessage.contains(expectedMessage));
-        verifyNoMoreInteractions(repository, modelMapper);
+        verifyNoMoreInteractions(repository, mapper);
+    }
+
+    @Test
+    void testCountTasksPerProjectPushesLimitAndMinCountDown() {
+        List<ProjectTaskCountDTO> ranking = List.of(new ProjectTaskCountDTO(1L, "Project 1", 5L));
+        when(repository.countTasksPerProject(3L, Limit.of(ProjectService.MAX_RANKING_SIZE))).thenReturn(ranking);
+
+        assertEquals(ranking, service.countTasksPerProject(1_000_000, 3L));
+        verify(repository, times(1)).countTasksPerProject(3L, Limit.of(ProjectService.MAX_RANKING_SIZE));
+    }
+
+    @Test
+    void testWriteTasksPerProjectAsJsonArray() throws Exception {
+        when(repository.streamTasksPerProject(0L)).thenReturn(Stream.of(new ProjectTaskCountDTO(1L, "Project 1", 5L)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.writeTasksPerProject(-1L, out);
+
+        String json = out.toString();
+        assertTrue(json.startsWith("[{"));
+        assertTrue(json.contains("\"taskCount\":5"));
+        assertTrue(json.endsWith("}]"));
     }
 
     @Test
@@ -356,6 +541,7 @@ class ProjectServiceTest {
 
         assertDoesNotThrow(() -> service.deleteById(1L));
         verify(repository, times(1)).deleteById(1L);
+        verify(cacheEvictor, times(1)).evictProjectCascade();
     }
 
     @Test
@@ -372,6 +558,7 @@ class ProjectServiceTest {
 
         assertTrue(actualMessage.contains(expectedMessage));
         verify(repository, times(1)).deleteById(1L);
+        verifyNoInteractions(cacheEvictor);
     }
 
     @Test
@@ -405,4 +592,28 @@ class ProjectServiceTest {
                         && link.getType().equals(type)
                 );
     }
+
+    private static ProjectVersionRow versionRow(Long version, Long updatedAtMillis, Long tasksUpdatedAtMillis, Long tasks) {
+        return new ProjectVersionRow() {
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+
+            @Override
+            public Long getUpdatedAtMillis() {
+                return updatedAtMillis;
+            }
+
+            @Override
+            public Long getTasksUpdatedAtMillis() {
+                return tasksUpdatedAtMillis;
+            }
+
+            @Override
+            public Long getTasks() {
+                return tasks;
+            }
+        };
+    }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.management.project.unittest.service;
+
+import com.management.project.data.dto.project.ProjectSummaryDTO;
+import com.management.project.data.dto.project.ProjectTaskCountDTO;
+import com.management.project.data.dto.task.TaskSummaryDTO;
+import com.management.project.model.enums.StatusEnum;
+import com.management.project.repository.reactive.ReactiveReadRepository;
+import com.management.project.service.exceptions.ResourceNotFoundException;
+import com.management.project.service.reactive.ReactiveReadService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveReadServiceTest {
+
+    @InjectMocks
+    private ReactiveReadService service;
+
+    @Mock
+    private ReactiveReadRepository repository;
+
+    @Test
+    void testFindProjectById() {
+        ProjectSummaryDTO project = new ProjectSummaryDTO(1L, "Project 1", StatusEnum.NOT_DONE, Instant.now(), Instant.now());
+        when(repository.findProjectById(1L)).thenReturn(Mono.just(project));
+
+        assertEquals(project, service.findProjectById(1L).block());
+    }
+
+    @Test
+    void testFindProjectByIdNotFound() {
+        when(repository.findProjectById(1L)).thenReturn(Mono.empty());
+
+        Exception exception = assertThrows(ResourceNotFoundException.class, () -> service.findProjectById(1L).block());
+        assertEquals("Project not found", exception.getMessage());
+    }
+
+    @Test
+    void testFindTasksByProjectIdReadsOnlyWhenTheProjectExists() {
+        TaskSummaryDTO task = new TaskSummaryDTO(7L, "Task 7", StatusEnum.NOT_DONE, Instant.now(), Instant.now(), 1L);
+        when(repository.existsProjectById(1L)).thenReturn(Mono.just(true));
+        when(repository.findTasksByProjectId(1L, 0L, null)).thenReturn(Flux.just(task));
+
+        assertEquals(List.of(task), service.findTasksByProjectId(1L, null, null).collectList().block());
+    }
+
+    @Test
+    void testFindTasksByProjectIdWithProjectNotFound() {
+        when(repository.existsProjectById(1L)).thenReturn(Mono.just(false));
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> service.findTasksByProjectId(1L, null, null).collectList().block());
+        verify(repository, never()).findTasksByProjectId(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void testCountTasksPerProjectNormalisesBounds() {
+        ProjectTaskCountDTO count = new ProjectTaskCountDTO(1L, "Project 1", 5L);
+        when(repository.countTasksPerProject(0L, 1)).thenReturn(Flux.just(count));
+
+        assertEquals(List.of(count), service.countTasksPerProject(-3L, 0).collectList().block());
+    }
+}
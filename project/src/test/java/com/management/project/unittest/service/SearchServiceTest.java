@@ -0,0 +1,111 @@
+package com.management.project.unittest.service;
+
+import com.management.project.config.search.SearchProperties;
+import com.management.project.data.dto.pagination.CursorPageDTO;
+import com.management.project.data.dto.search.SearchHit;
+import com.management.project.data.dto.search.SearchResultDTO;
+import com.management.project.repository.ProjectRepository;
+import com.management.project.repository.TaskRepository;
+import com.management.project.service.exceptions.InvalidCursorException;
+import com.management.project.service.exceptions.RequiredObjectIsNullException;
+import com.management.project.service.search.SearchService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    @InjectMocks
+    private SearchService service;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Spy
+    private SearchProperties properties = new SearchProperties();
+
+    @Test
+    void testSearchMergesProjectsAndTasksByRank() {
+        when(projectRepository.search("portuguese", "sprint", 10_000, 3))
+                .thenReturn(List.of(hit(1L, "Sprint 1", 1L, 0.5f)));
+        when(taskRepository.search("portuguese", "sprint", 10_000, 3))
+                .thenReturn(List.of(hit(7L, "Plan sprint", 1L, 0.9f), hit(8L, "Close sprint", 1L, 0.1f)));
+
+        CursorPageDTO<SearchResultDTO> page = service.search("sprint", null, 2);
+
+        assertEquals(List.of(SearchResultDTO.Type.TASK, SearchResultDTO.Type.PROJECT),
+                page.getContent().stream().map(SearchResultDTO::type).toList());
+        assertEquals(List.of(7L, 1L), page.getContent().stream().map(SearchResultDTO::id).toList());
+        assertEquals("2", page.getNextCursor());
+        assertTrue(page.getLink("next").isPresent());
+    }
+
+    @Test
+    void testSearchSkipsToTheCursorAndEndsOnTheLastPage() {
+        when(projectRepository.search("portuguese", "sprint", 10_000, 5)).thenReturn(List.of(hit(1L, "Sprint 1", 1L, 0.5f)));
+        when(taskRepository.search("portuguese", "sprint", 10_000, 5))
+                .thenReturn(List.of(hit(7L, "Plan sprint", 1L, 0.9f), hit(8L, "Close sprint", 1L, 0.1f)));
+
+        CursorPageDTO<SearchResultDTO> page = service.search("sprint", "2", 2);
+
+        assertEquals(List.of(8L), page.getContent().stream().map(SearchResultDTO::id).toList());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testSearchEscapesTheHighlight() {
+        SearchHit hit = new Hit(1L, "<b>Sprint</b>", 1L, 0.5f, "<b>" + SearchHit.MATCH_START + "Sprint" + SearchHit.MATCH_END + "</b>");
+        when(projectRepository.search("portuguese", "sprint", 10_000, 21)).thenReturn(List.of(hit));
+
+        SearchResultDTO result = service.search("sprint", null, 20).getContent().get(0);
+
+        assertEquals("&lt;b&gt;<mark>Sprint</mark>&lt;/b&gt;", result.highlight());
+        assertEquals("<b>Sprint</b>", result.name());
+    }
+
+    @Test
+    void testSearchStopsAtMaxCandidates() {
+        properties.setMaxCandidates(4);
+        when(projectRepository.search("portuguese", "sprint", 4, 4)).thenReturn(List.of(hit(1L, "Sprint 1", 1L, 0.5f)));
+        when(taskRepository.search("portuguese", "sprint", 4, 4)).thenReturn(List.of(
+                hit(7L, "Sprint 7", 1L, 0.9f), hit(8L, "Sprint 8", 1L, 0.8f), hit(9L, "Sprint 9", 1L, 0.7f)));
+
+        CursorPageDTO<SearchResultDTO> page = service.search("sprint", "2", 2);
+
+        assertEquals(2, page.getContent().size());
+        assertNull(page.getNextCursor());
+        assertTrue(service.search("sprint", "4", 2).getContent().isEmpty());
+    }
+
+    @Test
+    void testSearchWithBlankQuery() {
+        assertThrows(RequiredObjectIsNullException.class, () -> service.search(" ", null, 20));
+        verifyNoInteractions(projectRepository, taskRepository);
+    }
+
+    @Test
+    void testSearchWithInvalidCursor() {
+        assertThrows(InvalidCursorException.class, () -> service.search("sprint", "-1", 20));
+        assertThrows(InvalidCursorException.class, () -> service.search("sprint", "abc", 20));
+        verifyNoInteractions(projectRepository, taskRepository);
+    }
+
+    private static SearchHit hit(Long id, String name, Long projectId, float rank) {
+        return new Hit(id, name, projectId, rank, name);
+    }
+
+    private record Hit(Long getId, String getName, Long getProjectId, Float getRank, String getHighlight) implements SearchHit {
+    }
+}
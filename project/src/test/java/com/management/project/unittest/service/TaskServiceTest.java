@@ -2,10 +2,16 @@ package com.management.project.unittest.service;
 
 import com.management.project.data.dto.collaborator.CollaboratorCreateDTO;
 import com.management.project.data.dto.collaborator.CollaboratorResponseDTO;
+import com.management.project.data.dto.bulk.BulkItemResultDTO;
 import com.management.project.data.dto.collaborator_task.CollaboratorTaskDTO;
+import com.management.project.data.dto.collaborator_task.TaskCollaboratorPair;
+import com.management.project.data.dto.conditional.ResourceVersion;
+import com.management.project.data.dto.pagination.CursorPageDTO;
 import com.management.project.data.dto.task.TaskCreateDTO;
 import com.management.project.data.dto.task.TaskResponseDTO;
+import com.management.project.data.dto.task.TaskStatusTransitionDTO;
 import com.management.project.data.dto.task.TaskUpdateDTO;
+import com.management.project.data.mapper.EntityMapper;
 import com.management.project.model.Collaborator;
 import com.management.project.model.Project;
 import com.management.project.model.Task;
@@ -15,7 +21,11 @@ import com.management.project.repository.CollaboratorRepository;
 import com.management.project.repository.ProjectRepository;
 import com.management.project.repository.TaskRepository;
 import com.management.project.service.TaskService;
+import com.management.project.service.cache.SecondLevelCacheEvictor;
+import com.management.project.service.constraints.ConstraintNames;
 import com.management.project.service.exceptions.*;
+import com.management.project.service.validation.InputValidator;
+import com.management.project.unittest.mocks.MockConstraintViolation;
 import com.management.project.unittest.mocks.MockTask;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,12 +34,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -55,7 +69,13 @@ class TaskServiceTest {
     private CollaboratorRepository collaboratorRepository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private EntityMapper mapper;
+
+    @Mock
+    private SecondLevelCacheEvictor cacheEvictor;
+
+    @Spy
+    private InputValidator validator;
 
     @BeforeEach
     void setUp() {
@@ -69,7 +89,7 @@ class TaskServiceTest {
         TaskResponseDTO dtoResponse = input.mockDTO(1);
 
         when(taskRepository.findById(1L)).thenReturn(Optional.of(entity));
-        when(modelMapper.map(entity, TaskResponseDTO.class)).thenReturn(dtoResponse);
+        when(mapper.toResponse(entity)).thenReturn(dtoResponse);
 
         TaskResponseDTO result = taskService.findById(1L);
 
@@ -87,7 +107,7 @@ class TaskServiceTest {
         assertLinkExists(result, "update", "/v1/tasks/" + dtoResponse.getId(), "PUT");
 
         verify(taskRepository, times(1)).findById(1L);
-        verify(modelMapper, times(1)).map(entity, TaskResponseDTO.class);
+        verify(mapper, times(1)).toResponse(entity);
     }
 
     @Test
@@ -104,7 +124,74 @@ class TaskServiceTest {
 
         assertTrue(actualMessage.contains(expectedMessage));
         verify(taskRepository, times(1)).findById(1L);
-        verifyNoInteractions(modelMapper);
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void testFindVersionWithIdDoesNotExist() {
+        when(taskRepository.findVersionById(1L)).thenReturn(Optional.empty());
+
+        Exception exception = assertThrows(
+                ResourceNotFoundException.class,
+                () -> taskService.findVersion(1L)
+        );
+
+        assertTrue(exception.getMessage().contains("Task not found"));
+        verify(taskRepository, never()).findById(1L);
+    }
+
+    @Test
+    void findAllByProjectId() {
+        List<Task> entities = List.of(input.mockEntity(11), input.mockEntity(12), input.mockEntity(13));
+        entities.forEach(entity -> lenient().when(mapper.toResponse(entity)).thenReturn(input.mockDTO(entity.getId().intValue())));
+
+        when(projectRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.findByProjectIdAndIdGreaterThanOrderByIdAsc(1L, 10L, Limit.of(3)))
+                .thenReturn(entities);
+
+        CursorPageDTO<TaskResponseDTO> result = taskService.findAllByProjectId(1L, 10L, 2, null);
+
+        assertEquals(2, result.getContent().size());
+        assertEquals(2, result.getSize());
+        assertEquals("12", result.getNextCursor());
+        assertEquals(11L, result.getContent().get(0).getId());
+        assertLinkExists(result.getContent().get(0), "self", "/v1/tasks/11", "GET");
+        assertTrue(result.getLink("self").orElseThrow().getHref().endsWith("/v1/projects/1/tasks?after=10&size=2"));
+        assertTrue(result.getLink("next").orElseThrow().getHref().endsWith("/v1/projects/1/tasks?after=12&size=2"));
+
+        verify(mapper, never()).toResponse(entities.get(2));
+    }
+
+    @Test
+    void testFindAllByProjectIdLastPageWithStatus() {
+        Task entity = input.mockEntity(5);
+        when(mapper.toResponse(entity)).thenReturn(input.mockDTO(5));
+
+        when(projectRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.findByProjectIdAndStatusAndIdGreaterThanOrderByIdAsc(
+                1L, StatusEnum.DONE, 0L, Limit.of(CursorPageDTO.MAX_SIZE + 1)))
+                .thenReturn(List.of(entity));
+
+        CursorPageDTO<TaskResponseDTO> result = taskService.findAllByProjectId(1L, null, 1000, StatusEnum.DONE);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(CursorPageDTO.MAX_SIZE, result.getSize());
+        assertNull(result.getNextCursor());
+        assertTrue(result.getLink("next").isEmpty());
+        verify(taskRepository, never()).findByProjectIdAndIdGreaterThanOrderByIdAsc(any(), any(), any());
+    }
+
+    @Test
+    void testFindAllByProjectIdWithProjectDoesNotExist() {
+        when(projectRepository.existsById(1L)).thenReturn(false);
+
+        Exception exception = assertThrows(
+                ResourceNotFoundException.class,
+                () -> taskService.findAllByProjectId(1L, null, 10, null)
+        );
+
+        assertTrue(exception.getMessage().contains("Project not found"));
+        verifyNoInteractions(taskRepository, mapper);
     }
 
     @Test
@@ -119,9 +206,9 @@ class TaskServiceTest {
         dtoResponse.setUpdatedAt(Instant.now());
 
 
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(new Project()));
-        when(taskRepository.save(any(Task.class))).thenReturn(entity);
-        when(modelMapper.map(entity, TaskResponseDTO.class)).thenReturn(dtoResponse);
+        when(projectRepository.getReferenceById(1L)).thenReturn(new Project());
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(entity);
+        when(mapper.toResponse(entity)).thenReturn(dtoResponse);
 
         TaskResponseDTO result = taskService.create(dtoCreate);
 
@@ -138,9 +225,49 @@ class TaskServiceTest {
         assertLinkExists(result, "create", "/v1/tasks", "POST");
         assertLinkExists(result, "update", "/v1/tasks/" + dtoResponse.getId(), "PUT");
 
-        verify(projectRepository, times(1)).findById(1L);
-        verify(taskRepository, times(1)).save(entity);
-        verify(modelMapper, times(1)).map(entity, TaskResponseDTO.class);
+        verify(projectRepository, times(1)).getReferenceById(1L);
+        verify(projectRepository, never()).findById(any());
+        verify(taskRepository, times(1)).saveAndFlush(entity);
+        verify(mapper, times(1)).toResponse(entity);
+    }
+
+    @Test
+    void bulkCreate() {
+        TaskCreateDTO first = new TaskCreateDTO("Task 01", StatusEnum.DOING, 1L);
+        TaskCreateDTO invalidName = new TaskCreateDTO("Tk", StatusEnum.DOING, 1L);
+        TaskCreateDTO missingProject = new TaskCreateDTO("Task 03", StatusEnum.DOING, 2L);
+        TaskCreateDTO second = new TaskCreateDTO("Task 04", StatusEnum.DONE, 1L);
+        Project project = new Project();
+        project.setId(1L);
+
+        when(projectRepository.findExistingIds(Set.of(1L, 2L))).thenReturn(Set.of(1L));
+        when(projectRepository.getReferenceById(1L)).thenReturn(project);
+        when(mapper.toResponse(any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            TaskResponseDTO dto = input.mockDTO(1);
+            dto.setName(task.getName());
+            return dto;
+        });
+
+        var result = taskService.bulkCreate(List.of(first, invalidName, missingProject, second));
+
+        assertEquals(2, result.created());
+        assertEquals(2, result.failed());
+        assertEquals(List.of(201, 400, 404, 201), result.results().stream().map(BulkItemResultDTO::status).toList());
+        assertEquals("Task 04", result.results().get(3).data().getName());
+        assertEquals("The name field must be between 3 and 100 characters.", result.results().get(1).error());
+        assertEquals("Project not found", result.results().get(2).error());
+
+        verify(projectRepository, times(1)).getReferenceById(1L);
+        verify(projectRepository, never()).findById(any());
+        verify(taskRepository, times(1)).saveAll(argThat(tasks ->
+                ((List<Task>) tasks).size() == 2 && ((List<Task>) tasks).stream().allMatch(task -> task.getProject() == project)));
+    }
+
+    @Test
+    void testBulkCreateWithEmptyList() {
+        assertThrows(RequiredObjectIsNullException.class, () -> taskService.bulkCreate(List.of()));
+        verifyNoInteractions(taskRepository, projectRepository, mapper);
     }
 
     @Test
@@ -154,7 +281,7 @@ class TaskServiceTest {
         String actualMessage = exception.getMessage();
 
         assertTrue(actualMessage.contains(expectedMessage));
-        verifyNoMoreInteractions(taskRepository, modelMapper);
+        verifyNoMoreInteractions(taskRepository, mapper);
     }
 
     @Test
@@ -169,14 +296,16 @@ class TaskServiceTest {
         String actualMessage = exception.getMessage();
 
         assertTrue(actualMessage.contains(expectedMessage));
-        verifyNoMoreInteractions(taskRepository, modelMapper);
+        verifyNoMoreInteractions(taskRepository, mapper);
     }
 
     @Test
     void testCreateWithIdProjectDoesNotExist() {
         TaskCreateDTO dtoCreate = new TaskCreateDTO("Task 01", StatusEnum.DOING, 1L);
 
-        when(projectRepository.findById(dtoCreate.getProjectId())).thenReturn(Optional.empty());
+        when(projectRepository.getReferenceById(dtoCreate.getProjectId())).thenReturn(new Project());
+        when(taskRepository.saveAndFlush(any(Task.class)))
+                .thenThrow(new MockConstraintViolation().mockException(ConstraintNames.TASK_PROJECT));
 
         Exception exception = assertThrows(
                 ResourceNotFoundException.class,
@@ -187,13 +316,13 @@ class TaskServiceTest {
         String actualMessage = exception.getMessage();
 
         assertTrue(actualMessage.contains(expectedMessage));
-        verify(projectRepository, times(1)).findById(1L);
+        verify(projectRepository, never()).findById(any());
+        verifyNoInteractions(mapper);
     }
 
     @Test
     void testCreateWithNullName() {
         TaskCreateDTO dtoCreate = new TaskCreateDTO(null, StatusEnum.NOT_DONE, 1L);
-        when(projectRepository.findById(dtoCreate.getProjectId())).thenReturn(Optional.of(new Project()));
         Exception exception = assertThrows(
                 EmptyNameException.class,
                 () -> taskService.create(dtoCreate)
@@ -203,13 +332,12 @@ class TaskServiceTest {
         String actualMessage = exception.getMessage();
 
         assertTrue(actualMessage.contains(expectedMessage));
-        verifyNoMoreInteractions(taskRepository, modelMapper);
+        verifyNoMoreInteractions(taskRepository, mapper);
     }
 
     @Test
     void testCreateWithErrorSizeName() {
         TaskCreateDTO dtoCreate = new TaskCreateDTO("Tk", StatusEnum.NOT_DONE, 1L);
-        when(projectRepository.findById(dtoCreate.getProjectId())).thenReturn(Optional.of(new Project()));
 
         Exception exception = assertThrows(
                 InvalidNameSizeException.class,
@@ -220,7 +348,7 @@ class TaskServiceTest {
         String actualMessage = exception.getMessage();
 
         assertTrue(actualMessage.contains(expectedMessage));
-        verifyNoMoreInteractions(taskRepository, modelMapper);
+        verifyNoMoreInteractions(taskRepository, mapper);
     }
 
     @Test
@@ -285,6 +413,38 @@ class TaskServiceTest {
         verify(collaboratorRepository, times(1)).findById(1L);
     }
 
+    @Test
+    void assignCollaboratorsToTasks() {
+        CollaboratorTaskDTO assigned = new CollaboratorTaskDTO(1L, 10L);
+        CollaboratorTaskDTO alreadyAssigned = new CollaboratorTaskDTO(1L, 11L);
+        CollaboratorTaskDTO repeated = new CollaboratorTaskDTO(1L, 10L);
+        CollaboratorTaskDTO missingTask = new CollaboratorTaskDTO(2L, 10L);
+        CollaboratorTaskDTO invalid = new CollaboratorTaskDTO(null, 10L);
+        TaskCollaboratorPair inserted = mock(TaskCollaboratorPair.class);
+        when(inserted.getTaskId()).thenReturn(1L);
+        when(inserted.getCollaboratorId()).thenReturn(10L);
+
+        when(taskRepository.findExistingIds(Set.of(1L, 2L))).thenReturn(Set.of(1L));
+        when(collaboratorRepository.findExistingIds(Set.of(10L, 11L))).thenReturn(Set.of(10L, 11L));
+        when(taskRepository.insertCollaboratorAssignments(new Long[]{1L, 1L}, new Long[]{10L, 11L}))
+                .thenReturn(List.of(inserted));
+
+        var result = taskService.assignCollaboratorsToTasks(
+                List.of(assigned, alreadyAssigned, repeated, missingTask, invalid));
+
+        assertEquals(1, result.created());
+        assertEquals(4, result.failed());
+        assertEquals(List.of(201, 409, 409, 404, 400), result.results().stream().map(BulkItemResultDTO::status).toList());
+        assertSame(assigned, result.results().get(0).data());
+        assertEquals("Collaborator is already assigned to this task.", result.results().get(1).error());
+        assertEquals("Task not found", result.results().get(3).error());
+
+        verify(cacheEvictor, times(1)).evictTaskCollaborators(Set.of(1L));
+        verify(taskRepository, never()).findById(any());
+        verify(taskRepository, never()).save(any());
+        verifyNoInteractions(mapper);
+    }
+
     @Test
     void update() {
         TaskUpdateDTO updateDTO = new TaskUpdateDTO("Updated Task", StatusEnum.NOT_DONE);
@@ -294,7 +454,7 @@ class TaskServiceTest {
 
         when(taskRepository.findById(1L)).thenReturn(Optional.of(entity));
         when(taskRepository.save(any(Task.class))).thenReturn(entity);
-        when(modelMapper.map(entity, TaskResponseDTO.class)).thenReturn(dtoResponse);
+        when(mapper.toResponse(entity)).thenReturn(dtoResponse);
 
         TaskResponseDTO result = taskService.update(1L, updateDTO);
 
@@ -313,7 +473,7 @@ class TaskServiceTest {
 
         verify(taskRepository, times(1)).findById(1L);
         verify(taskRepository, times(1)).save(entity);
-        verify(modelMapper, times(1)).map(entity, TaskResponseDTO.class);
+        verify(mapper, times(1)).toResponse(entity);
     }
 
     @Test
@@ -332,7 +492,129 @@ class TaskServiceTest {
 
         assertTrue(actualMessage.contains(expectedMessage));
         verify(taskRepository, times(1)).findById(1L);
-        verifyNoMoreInteractions(taskRepository, modelMapper);
+        verifyNoMoreInteractions(taskRepository, mapper);
+    }
+
+    @Test
+    void testUpdateWithStaleIfMatch() {
+        TaskUpdateDTO dtoUpdate = new TaskUpdateDTO("Updated Task", StatusEnum.DONE);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(input.mockEntity(1)));
+
+        assertThrows(
+                PreconditionFailedException.class,
+                () -> taskService.update(1L, dtoUpdate, "\"7\"")
+        );
+
+        verify(taskRepository, never()).save(any());
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void testUpdateWithConcurrentModification() {
+        TaskUpdateDTO dtoUpdate = new TaskUpdateDTO("Updated Task", StatusEnum.DONE);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(input.mockEntity(1)));
+        when(taskRepository.save(any(Task.class))).thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L));
+
+        Exception exception = assertThrows(
+                ConcurrentUpdateException.class,
+                () -> taskService.update(1L, dtoUpdate, "*")
+        );
+
+        assertTrue(exception.getMessage().contains("Task was updated concurrently"));
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void testPatchWritesOnlyGivenFieldsWithoutLoading() {
+        TaskUpdateDTO dtoUpdate = new TaskUpdateDTO(null, StatusEnum.DONE);
+        when(taskRepository.patch(eq(1L), isNull(), eq("DONE"), any(Instant.class), eq(3L))).thenReturn(Optional.of(4L));
+
+        ResourceVersion result = taskService.patch(1L, dtoUpdate, "\"3\"");
+
+        assertEquals("\"4\"", result.etag());
+        verify(taskRepository, never()).findById(any());
+        verify(taskRepository, never()).save(any());
+        verify(cacheEvictor).evictEntity(Task.class, 1L);
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void testPatchWithStaleIfMatch() {
+        TaskUpdateDTO dtoUpdate = new TaskUpdateDTO(null, StatusEnum.DONE);
+        when(taskRepository.patch(eq(1L), isNull(), eq("DONE"), any(Instant.class), eq(3L))).thenReturn(Optional.empty());
+        when(taskRepository.existsById(1L)).thenReturn(true);
+
+        assertThrows(
+                PreconditionFailedException.class,
+                () -> taskService.patch(1L, dtoUpdate, "\"3\"")
+        );
+
+        verify(cacheEvictor, never()).evictEntity(any(), any());
+    }
+
+    @Test
+    void testPatchWithNotFoundTask() {
+        TaskUpdateDTO dtoUpdate = new TaskUpdateDTO("Updated Task", null);
+        when(taskRepository.patch(eq(1L), eq("Updated Task"), isNull(), any(Instant.class), isNull())).thenReturn(Optional.empty());
+        when(taskRepository.existsById(1L)).thenReturn(false);
+
+        Exception exception = assertThrows(
+                ResourceNotFoundException.class,
+                () -> taskService.patch(1L, dtoUpdate, null)
+        );
+
+        assertTrue(exception.getMessage().contains("Task not found"));
+    }
+
+    @Test
+    void testPatchWithErrorSizeName() {
+        TaskUpdateDTO dtoUpdate = new TaskUpdateDTO("Tk", null);
+
+        assertThrows(
+                InvalidNameSizeException.class,
+                () -> taskService.patch(1L, dtoUpdate, null)
+        );
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testUpdateStatusByProjectId() {
+        TaskStatusTransitionDTO transition = new TaskStatusTransitionDTO(StatusEnum.DONE, StatusEnum.DOING, null, null);
+        when(projectRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.updateStatusByProjectId(eq(1L), eq(StatusEnum.DONE), eq(StatusEnum.DOING), isNull(), isNull(), any(Instant.class)))
+                .thenReturn(7);
+
+        assertEquals(7, taskService.updateStatusByProjectId(1L, transition));
+
+        verify(taskRepository, never()).findById(any());
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    void testUpdateStatusByProjectIdWithoutFilter() {
+        TaskStatusTransitionDTO transition = new TaskStatusTransitionDTO(StatusEnum.DONE, null, null, null);
+
+        Exception exception = assertThrows(
+                RequiredObjectIsNullException.class,
+                () -> taskService.updateStatusByProjectId(1L, transition)
+        );
+
+        assertTrue(exception.getMessage().contains("At least one filter"));
+        verifyNoInteractions(taskRepository, projectRepository);
+    }
+
+    @Test
+    void testUpdateStatusByProjectIdWithNotFoundProject() {
+        TaskStatusTransitionDTO transition = new TaskStatusTransitionDTO(StatusEnum.DONE, StatusEnum.DOING, null, null);
+        when(projectRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(
+                ResourceNotFoundException.class,
+                () -> taskService.updateStatusByProjectId(1L, transition)
+        );
+
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
@@ -351,7 +633,7 @@ class TaskServiceTest {
         String actualMessage = exception.getMessage();
 
         assertTrue(actualMessage.contains(expectedMessage));
-        verifyNoMoreInteractions(taskRepository, modelMapper);
+        verifyNoMoreInteractions(taskRepository, mapper);
     }
 
     private void assertLinkExists(TaskResponseDTO dto, String rel, String href, String type) {
@@ -0,0 +1,82 @@
+package com.management.project.unittest.suggest;
+
+import com.management.project.data.dto.collaborator.CollaboratorSuggestionDTO;
+import com.management.project.model.enums.FunctionEnum;
+import com.management.project.service.suggest.CollaboratorPrefixIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollaboratorPrefixIndexTest {
+
+    private final CollaboratorSuggestionDTO ana = new CollaboratorSuggestionDTO(1L, "Ana Maria Conceição", "ana.maria@empresa.com", FunctionEnum.DEVELOPER);
+    private final CollaboratorSuggestionDTO anabela = new CollaboratorSuggestionDTO(2L, "Anabela Souza", "bela@empresa.com", FunctionEnum.MANAGER);
+    private final CollaboratorSuggestionDTO bruno = new CollaboratorSuggestionDTO(3L, "Bruno Conceicao", "bruno@empresa.com", null);
+
+    private CollaboratorPrefixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CollaboratorPrefixIndex();
+        index.rebuild(List.of(ana, anabela, bruno).iterator());
+    }
+
+    @Test
+    void testSuggestMatchesWordsAndEmailIgnoringCaseAndAccents() {
+        assertEquals(List.of(ana, anabela), index.suggest("ANA", null, 10));
+        assertEquals(List.of(ana, bruno), index.suggest("concei", null, 10));
+        assertEquals(List.of(ana), index.suggest("maria conc", null, 10));
+        assertEquals(List.of(anabela), index.suggest("bela@", null, 10));
+        assertEquals(List.of(), index.suggest("souza anabela", null, 10));
+    }
+
+    @Test
+    void testSuggestByFunctionAndLimit() {
+        assertEquals(List.of(anabela), index.suggest("ana", FunctionEnum.MANAGER, 10));
+        assertEquals(List.of(), index.suggest("bruno", FunctionEnum.DEVELOPER, 10));
+        assertEquals(List.of(ana), index.suggest("ana", null, 1));
+    }
+
+    @Test
+    void testWritesReplaceEntries() {
+        index.putAll(List.of(new CollaboratorSuggestionDTO(2L, "Bela Souza", "bela@empresa.com", FunctionEnum.MANAGER)));
+        index.merge(3L, null, null, FunctionEnum.TESTER);
+        index.merge(99L, "Unknown", null, null);
+        index.remove(1L);
+
+        assertEquals(List.of(), index.suggest("ana", null, 10));
+        assertEquals(List.of(2L, 3L), index.suggest("b", null, 10).stream().map(CollaboratorSuggestionDTO::id).toList());
+        assertEquals(FunctionEnum.TESTER, index.suggest("bruno", FunctionEnum.TESTER, 10).get(0).function());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void testRebuildReplaysWritesMadeWhileLoading() {
+        CollaboratorSuggestionDTO carla = new CollaboratorSuggestionDTO(4L, "Carla Dias", "carla@empresa.com", FunctionEnum.ANALYST);
+        Iterator<CollaboratorSuggestionDTO> rows = List.of(ana, bruno).iterator();
+        Iterator<CollaboratorSuggestionDTO> racing = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+
+            @Override
+            public CollaboratorSuggestionDTO next() {
+                // committed after the snapshot was taken, so the rows being read miss both
+                index.putAll(List.of(carla));
+                index.remove(1L);
+                return rows.next();
+            }
+        };
+
+        index.rebuild(racing);
+
+        assertEquals(List.of(carla), index.suggest("carla", null, 10));
+        assertEquals(List.of(), index.suggest("ana", null, 10));
+        assertEquals(List.of(bruno), index.suggest("bruno", null, 10));
+    }
+}
@@ -0,0 +1,54 @@
+package com.management.project.unittest.validation;
+
+import com.management.project.data.dto.collaborator.CollaboratorCreateDTO;
+import com.management.project.data.dto.task.TaskCreateDTO;
+import com.management.project.model.enums.FunctionEnum;
+import com.management.project.service.exceptions.InvalidNameSizeException;
+import com.management.project.service.exceptions.NullForeignKeyException;
+import com.management.project.service.validation.FieldError;
+import com.management.project.service.validation.InputValidator;
+import com.management.project.service.validation.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputValidatorTest {
+
+    private final InputValidator validator = new InputValidator();
+
+    @Test
+    void testValidInput() {
+        ValidationResult result = validator.validate(new CollaboratorCreateDTO("Ana Silva", "ana@empresa.com", FunctionEnum.DEVELOPER));
+
+        assertTrue(result.isValid());
+        assertNull(result.getMessage());
+        assertDoesNotThrow(result::orThrow);
+    }
+
+    @Test
+    void testCollectsEveryFieldError() {
+        ValidationResult result = validator.validate(new CollaboratorCreateDTO("An", "ana@", FunctionEnum.DEVELOPER));
+
+        assertFalse(result.isValid());
+        assertEquals(List.of(
+                new FieldError("name", "The name field must be between 3 and 100 characters."),
+                new FieldError("email", "The email provided is invalid.")
+        ), result.getErrors());
+        assertEquals("The name field must be between 3 and 100 characters.", result.getMessage());
+
+        InvalidNameSizeException e = assertThrows(InvalidNameSizeException.class, result::orThrow);
+        assertEquals(result.getErrors(), e.getErrors());
+    }
+
+    @Test
+    void testThrowsWithoutStackTrace() {
+        ValidationResult result = validator.validate(new TaskCreateDTO(null, null, null));
+
+        NullForeignKeyException e = assertThrows(NullForeignKeyException.class, result::orThrow);
+        assertEquals("Project id is required", e.getMessage());
+        assertEquals(2, e.getErrors().size());
+        assertEquals(0, e.getStackTrace().length);
+    }
+}